@@ -0,0 +1,366 @@
+/*
+ *	Copyright 2021 Cufy
+ *
+ *	Licensed under the Apache License, Version 2.0 (the "License");
+ *	you may not use this file except in compliance with the License.
+ *	You may obtain a copy of the License at
+ *
+ *	    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *	Unless required by applicable law or agreed to in writing, software
+ *	distributed under the License is distributed on an "AS IS" BASIS,
+ *	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *	See the License for the specific language governing permissions and
+ *	limitations under the License.
+ */
+package org.cufy.infiniterecyclerviewadapter;
+
+import android.util.SparseArray;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.jetbrains.annotations.Range;
+
+import java.util.Arrays;
+
+/**
+ * A metrics listener aggregating the reported events into latency histograms and
+ * counters, to be read (and exported) by the application. All the methods of this class
+ * must be invoked on the main thread.
+ *
+ * @author LSafer
+ * @version 0.0.2
+ * @since 0.0.2 ~2026.10.17
+ */
+public class AdapterMetrics implements InfiniteRecyclerViewAdapter.MetricsListener {
+	/**
+	 * The bind latency histograms. ({@code type -> histogram})
+	 *
+	 * @since 0.0.2 ~2026.10.17
+	 */
+	@NotNull
+	protected final SparseArray<Histogram> bindLatencies = new SparseArray<>();
+	/**
+	 * The create (inflation) latency histograms. ({@code type -> histogram})
+	 *
+	 * @since 0.0.2 ~2026.10.17
+	 */
+	@NotNull
+	protected final SparseArray<Histogram> createLatencies = new SparseArray<>();
+	/**
+	 * The load latency histogram.
+	 *
+	 * @since 0.0.2 ~2026.10.17
+	 */
+	@NotNull
+	protected final Histogram loadLatency = new Histogram();
+	/**
+	 * The notifications counts. (indexed by the kinds of {@link ItemStore.Change})
+	 *
+	 * @since 0.0.2 ~2026.10.17
+	 */
+	protected final long @NotNull [] notifications = new long[ItemStore.Change.RESET + 1];
+
+	/**
+	 * The number of failed loads.
+	 *
+	 * @since 0.0.2 ~2026.10.17
+	 */
+	protected long failedLoads;
+	/**
+	 * The number of items in memory when last published.
+	 *
+	 * @since 0.0.2 ~2026.10.17
+	 */
+	protected int itemCount;
+
+	@Override
+	public void onItemCount(int count) {
+		this.itemCount = count;
+	}
+
+	@Override
+	public void onLoaded(long nanos, boolean failed) {
+		this.loadLatency.record(nanos);
+
+		if (failed)
+			this.failedLoads++;
+	}
+
+	@Override
+	public void onNotified(int kind, int count) {
+		this.notifications[kind]++;
+	}
+
+	@Override
+	public void onViewHolderBound(int type, long nanos) {
+		AdapterMetrics.histogram(this.bindLatencies, type).record(nanos);
+	}
+
+	@Override
+	public void onViewHolderCreated(int type, long nanos) {
+		AdapterMetrics.histogram(this.createLatencies, type).record(nanos);
+	}
+
+	/**
+	 * Return the bind latency histogram of the given {@code type}.
+	 *
+	 * @param type the view type.
+	 * @return the histogram. (or null if no holder of the given {@code type} was bound)
+	 * @since 0.0.2 ~2026.10.17
+	 */
+	@Nullable
+	public Histogram getBindLatency(int type) {
+		return this.bindLatencies.get(type);
+	}
+
+	/**
+	 * Return the create latency histogram of the given {@code type}. Its count is the
+	 * number of holders (inflations) of the given {@code type}.
+	 *
+	 * @param type the view type.
+	 * @return the histogram. (or null if no holder of the given {@code type} was created)
+	 * @since 0.0.2 ~2026.10.17
+	 */
+	@Nullable
+	public Histogram getCreateLatency(int type) {
+		return this.createLatencies.get(type);
+	}
+
+	/**
+	 * Return the number of failed loads.
+	 *
+	 * @return the number of failed loads.
+	 * @since 0.0.2 ~2026.10.17
+	 */
+	public long getFailedLoads() {
+		return this.failedLoads;
+	}
+
+	/**
+	 * Return the number of items in memory when last published.
+	 *
+	 * @return the number of items.
+	 * @since 0.0.2 ~2026.10.17
+	 */
+	@Range(from = 0, to = Integer.MAX_VALUE)
+	public int getItemCount() {
+		return this.itemCount;
+	}
+
+	/**
+	 * Return the load latency histogram.
+	 *
+	 * @return the load latency histogram.
+	 * @since 0.0.2 ~2026.10.17
+	 */
+	@NotNull
+	public Histogram getLoadLatency() {
+		return this.loadLatency;
+	}
+
+	/**
+	 * Return the number of notifications of the given {@code kind}. The {@link
+	 * ItemStore.Change#RESET} kind counts the {@code notifyDataSetChanged} fallbacks.
+	 *
+	 * @param kind the kind of the notifications. (a kind of {@link ItemStore.Change})
+	 * @return the number of notifications.
+	 * @throws IndexOutOfBoundsException if the given {@code kind} is not a valid kind.
+	 * @since 0.0.2 ~2026.10.17
+	 */
+	public long getNotifications(int kind) {
+		return this.notifications[kind];
+	}
+
+	/**
+	 * Return the types that have a bind or a create histogram.
+	 *
+	 * @return the view types. (sorted)
+	 * @since 0.0.2 ~2026.10.17
+	 */
+	public int @NotNull [] getTypes() {
+		int[] types = new int[this.bindLatencies.size() + this.createLatencies.size()];
+		int length = 0;
+
+		for (int i = 0, l = this.createLatencies.size(); i < l; i++)
+			types[length++] = this.createLatencies.keyAt(i);
+		for (int i = 0, l = this.bindLatencies.size(); i < l; i++)
+			if (this.createLatencies.indexOfKey(this.bindLatencies.keyAt(i)) < 0)
+				types[length++] = this.bindLatencies.keyAt(i);
+
+		types = Arrays.copyOf(types, length);
+		Arrays.sort(types);
+		return types;
+	}
+
+	/**
+	 * Clear all the recorded metrics.
+	 *
+	 * @since 0.0.2 ~2026.10.17
+	 */
+	public void reset() {
+		this.bindLatencies.clear();
+		this.createLatencies.clear();
+		this.loadLatency.reset();
+		Arrays.fill(this.notifications, 0);
+		this.failedLoads = 0;
+	}
+
+	/**
+	 * Return the histogram of the given {@code type} in the given {@code histograms}.
+	 * Create it if absent.
+	 *
+	 * @param histograms the histograms.
+	 * @param type       the view type.
+	 * @return the histogram of the given {@code type}.
+	 * @since 0.0.2 ~2026.10.17
+	 */
+	@NotNull
+	protected static Histogram histogram(@NotNull SparseArray<Histogram> histograms, int type) {
+		Histogram histogram = histograms.get(type);
+
+		if (histogram == null) {
+			histogram = new Histogram();
+			histograms.put(type, histogram);
+		}
+
+		return histogram;
+	}
+
+	/**
+	 * A latency histogram with exponential buckets. The bucket {@code i} counts the
+	 * latencies in {@code [2^i, 2^(i+1))} microseconds. (the first bucket also counts
+	 * the latencies below one microsecond)
+	 *
+	 * @author LSafer
+	 * @version 0.0.2
+	 * @since 0.0.2 ~2026.10.17
+	 */
+	public static class Histogram {
+		/**
+		 * The number of buckets. (up to about 35 minutes)
+		 *
+		 * @since 0.0.2 ~2026.10.17
+		 */
+		public static final int BUCKETS = 32;
+
+		/**
+		 * The buckets.
+		 *
+		 * @since 0.0.2 ~2026.10.17
+		 */
+		protected final long @NotNull [] buckets = new long[Histogram.BUCKETS];
+
+		/**
+		 * The number of recorded latencies.
+		 *
+		 * @since 0.0.2 ~2026.10.17
+		 */
+		protected long count;
+		/**
+		 * The maximum recorded latency in nanoseconds.
+		 *
+		 * @since 0.0.2 ~2026.10.17
+		 */
+		protected long max;
+		/**
+		 * The sum of the recorded latencies in nanoseconds.
+		 *
+		 * @since 0.0.2 ~2026.10.17
+		 */
+		protected long sum;
+
+		/**
+		 * Return the count of the bucket at the given {@code index}.
+		 *
+		 * @param index the index of the bucket.
+		 * @return the count of the bucket.
+		 * @throws IndexOutOfBoundsException if the given {@code index} is out of bounds.
+		 * @since 0.0.2 ~2026.10.17
+		 */
+		public long getBucket(@Range(from = 0, to = Histogram.BUCKETS - 1) int index) {
+			return this.buckets[index];
+		}
+
+		/**
+		 * Return the number of recorded latencies.
+		 *
+		 * @return the number of recorded latencies.
+		 * @since 0.0.2 ~2026.10.17
+		 */
+		public long getCount() {
+			return this.count;
+		}
+
+		/**
+		 * Return the maximum recorded latency in nanoseconds.
+		 *
+		 * @return the maximum latency.
+		 * @since 0.0.2 ~2026.10.17
+		 */
+		public long getMax() {
+			return this.max;
+		}
+
+		/**
+		 * Return the sum of the recorded latencies in nanoseconds.
+		 *
+		 * @return the sum of the latencies.
+		 * @since 0.0.2 ~2026.10.17
+		 */
+		public long getSum() {
+			return this.sum;
+		}
+
+		/**
+		 * Return an upper bound (in nanoseconds) of the latency at the given {@code
+		 * quantile}. (the upper edge of its bucket)
+		 *
+		 * @param quantile the quantile. (like {@code 0.99})
+		 * @return the upper bound of the latency at the given {@code quantile}. (or 0 if
+		 * 		nothing was recorded)
+		 * @since 0.0.2 ~2026.10.17
+		 */
+		public long quantile(double quantile) {
+			long target = (long) Math.ceil(this.count * quantile);
+			long seen = 0;
+
+			for (int i = 0; i < Histogram.BUCKETS; i++) {
+				seen += this.buckets[i];
+
+				if (seen >= target && seen != 0)
+					return Math.min(this.max, (1L << i + 1) * 1000);
+			}
+
+			return this.max;
+		}
+
+		/**
+		 * Record the given {@code nanos} latency.
+		 *
+		 * @param nanos the latency in nanoseconds.
+		 * @since 0.0.2 ~2026.10.17
+		 */
+		public void record(long nanos) {
+			long micros = Math.max(1, nanos / 1000);
+			int index = Math.min(Histogram.BUCKETS - 1, 63 - Long.numberOfLeadingZeros(micros));
+
+			this.buckets[index]++;
+			this.count++;
+			this.sum += nanos;
+			this.max = Math.max(this.max, nanos);
+		}
+
+		/**
+		 * Clear all the recorded latencies.
+		 *
+		 * @since 0.0.2 ~2026.10.17
+		 */
+		public void reset() {
+			Arrays.fill(this.buckets, 0);
+			this.count = 0;
+			this.max = 0;
+			this.sum = 0;
+		}
+	}
+}
@@ -0,0 +1,361 @@
+/*
+ *	Copyright 2021 Cufy
+ *
+ *	Licensed under the Apache License, Version 2.0 (the "License");
+ *	you may not use this file except in compliance with the License.
+ *	You may obtain a copy of the License at
+ *
+ *	    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *	Unless required by applicable law or agreed to in writing, software
+ *	distributed under the License is distributed on an "AS IS" BASIS,
+ *	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *	See the License for the specific language governing permissions and
+ *	limitations under the License.
+ */
+package org.cufy.infiniterecyclerviewadapter;
+
+import android.content.Context;
+import android.util.AttributeSet;
+import android.util.SparseArray;
+import android.view.LayoutInflater;
+import android.view.View;
+import android.view.ViewGroup;
+
+import androidx.annotation.LayoutRes;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Range;
+
+import java.util.Objects;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * An inflater inflating layouts in the background ahead of demand. Keeps a queue of
+ * ready views for each type and falls back to inflating synchronously when the queue of
+ * a type is empty. The layouts inflated by this must not require a looper when
+ * constructed.
+ * <br>
+ * The background inflation uses a bare inflater per thread (like {@code
+ * AsyncLayoutInflater}) instead of the shared inflater of the context. So it never blocks
+ * a main thread inflation, but the factories of the context (like the AppCompat widget
+ * substitution) are not applied to the views inflated in the background.
+ *
+ * @author LSafer
+ * @version 0.0.2
+ * @since 0.0.2 ~2026.10.17
+ */
+public class AsyncViewInflater {
+	/**
+	 * The default executor to inflate the views with.
+	 *
+	 * @since 0.0.2 ~2026.10.17
+	 */
+	@NotNull
+	protected static final Executor DEFAULT_EXECUTOR = Executors.newSingleThreadExecutor(runnable -> {
+		Thread thread = new Thread(runnable, "AsyncViewInflater");
+		thread.setDaemon(true);
+		return thread;
+	});
+
+	/**
+	 * The number of views to keep ready for each type.
+	 *
+	 * @since 0.0.2 ~2026.10.17
+	 */
+	protected final int depth;
+	/**
+	 * The entries of the inflated types. ({@code type -> entry}, main thread only)
+	 *
+	 * @since 0.0.2 ~2026.10.17
+	 */
+	@NotNull
+	protected final SparseArray<Entry> entries = new SparseArray<>();
+	/**
+	 * The executor to inflate the views with.
+	 *
+	 * @since 0.0.2 ~2026.10.17
+	 */
+	@NotNull
+	protected final Executor executor;
+	/**
+	 * The bare inflater of each background thread.
+	 *
+	 * @since 0.0.2 ~2026.10.17
+	 */
+	@NotNull
+	protected final ThreadLocal<LayoutInflater> inflaters = new ThreadLocal<>();
+
+	/**
+	 * The number of views taken ready from the queues.
+	 *
+	 * @since 0.0.2 ~2026.10.17
+	 */
+	protected long hitCount;
+	/**
+	 * The number of views inflated synchronously because the queue was empty.
+	 *
+	 * @since 0.0.2 ~2026.10.17
+	 */
+	protected long missCount;
+
+	/**
+	 * Construct a new async view inflater keeping the given {@code depth} of views ready
+	 * for each type.
+	 *
+	 * @param depth the number of views to keep ready for each type.
+	 * @throws IllegalArgumentException if the given {@code depth} is negative.
+	 * @since 0.0.2 ~2026.10.17
+	 */
+	public AsyncViewInflater(@Range(from = 0, to = Integer.MAX_VALUE) int depth) {
+		this(AsyncViewInflater.DEFAULT_EXECUTOR, depth);
+	}
+
+	/**
+	 * Construct a new async view inflater inflating with the given {@code executor} and
+	 * keeping the given {@code depth} of views ready for each type.
+	 *
+	 * @param executor the executor to inflate the views with.
+	 * @param depth    the number of views to keep ready for each type.
+	 * @throws NullPointerException     if the given {@code executor} is null.
+	 * @throws IllegalArgumentException if the given {@code depth} is negative.
+	 * @since 0.0.2 ~2026.10.17
+	 */
+	public AsyncViewInflater(@NotNull Executor executor, @Range(from = 0, to = Integer.MAX_VALUE) int depth) {
+		Objects.requireNonNull(executor, "executor");
+		if (depth < 0)
+			throw new IllegalArgumentException("depth < 0");
+		this.executor = executor;
+		this.depth = depth;
+	}
+
+	/**
+	 * Return the number of views taken ready from the queues.
+	 *
+	 * @return the number of hits.
+	 * @since 0.0.2 ~2026.10.17
+	 */
+	public long getHitCount() {
+		return this.hitCount;
+	}
+
+	/**
+	 * Return the number of views inflated synchronously because no view was ready.
+	 *
+	 * @return the number of misses.
+	 * @since 0.0.2 ~2026.10.17
+	 */
+	public long getMissCount() {
+		return this.missCount;
+	}
+
+	/**
+	 * Return a view of the given {@code layout} for the given {@code type}. Take a ready
+	 * view if any, otherwise inflate it synchronously. Then, schedule inflating the
+	 * consumed views in the background. Must be invoked on the main thread.
+	 *
+	 * @param parent the parent to inflate the view for.
+	 * @param type   the type of the view.
+	 * @param layout the layout of the view.
+	 * @return a view of the given {@code layout}.
+	 * @throws NullPointerException if the given {@code parent} is null.
+	 * @since 0.0.2 ~2026.10.17
+	 */
+	@NotNull
+	public View inflate(@NotNull ViewGroup parent, int type, @LayoutRes int layout) {
+		Objects.requireNonNull(parent, "parent");
+		Entry entry = this.entry(type, layout);
+		View view = entry.views.poll();
+
+		if (view != null)
+			this.hitCount++;
+		else {
+			this.missCount++;
+			view = LayoutInflater.from(parent.getContext())
+								 .inflate(layout, parent, false);
+		}
+
+		this.prefetch(parent, type, layout);
+		return view;
+	}
+
+	/**
+	 * Schedule inflating views of the given {@code layout} for the given {@code type} in
+	 * the background until {@link #depth} views are ready. Must be invoked on the main
+	 * thread.
+	 *
+	 * @param parent the parent to inflate the views for.
+	 * @param type   the type of the views.
+	 * @param layout the layout of the views.
+	 * @throws NullPointerException if the given {@code parent} is null.
+	 * @since 0.0.2 ~2026.10.17
+	 */
+	public void prefetch(@NotNull ViewGroup parent, int type, @LayoutRes int layout) {
+		Objects.requireNonNull(parent, "parent");
+		Entry entry = this.entry(type, layout);
+
+		if (entry.failed)
+			return;
+
+		int missing = this.depth - entry.views.size() - entry.pending.get();
+
+		for (int i = 0; i < missing; i++) {
+			entry.pending.incrementAndGet();
+			this.executor.execute(() -> {
+				try {
+					if (!entry.failed)
+						entry.views.offer(
+								this.inflater(parent.getContext())
+									.inflate(entry.layout, parent, false)
+						);
+				} catch (RuntimeException ignored) {
+					//the layout cannot be inflated off the main thread
+					entry.failed = true;
+				} finally {
+					entry.pending.decrementAndGet();
+				}
+			});
+		}
+	}
+
+	/**
+	 * Return the entry of the given {@code type}. If the given {@code type} has no entry
+	 * or the entry was for another layout, a new entry will be created.
+	 *
+	 * @param type   the type.
+	 * @param layout the layout of the type.
+	 * @return the entry of the given {@code type}.
+	 * @since 0.0.2 ~2026.10.17
+	 */
+	@NotNull
+	protected Entry entry(int type, @LayoutRes int layout) {
+		Entry entry = this.entries.get(type);
+
+		if (entry == null || entry.layout != layout) {
+			entry = new Entry(layout);
+			this.entries.put(type, entry);
+		}
+
+		return entry;
+	}
+
+	/**
+	 * Return the bare inflater of the current (background) thread for the given {@code
+	 * context}.
+	 *
+	 * @param context the context to inflate with.
+	 * @return the inflater of the current thread.
+	 * @since 0.0.2 ~2026.10.17
+	 */
+	@NotNull
+	protected LayoutInflater inflater(@NotNull Context context) {
+		LayoutInflater inflater = this.inflaters.get();
+
+		if (inflater == null || inflater.getContext() != context) {
+			inflater = new BasicInflater(context);
+			this.inflaters.set(inflater);
+		}
+
+		return inflater;
+	}
+
+	/**
+	 * A bare inflater, with no factories, resolving the framework views by their simple
+	 * names.
+	 *
+	 * @author LSafer
+	 * @version 0.0.2
+	 * @since 0.0.2 ~2026.10.17
+	 */
+	protected static class BasicInflater extends LayoutInflater {
+		/**
+		 * The packages of the framework views.
+		 *
+		 * @since 0.0.2 ~2026.10.17
+		 */
+		@NotNull
+		protected static final String[] PREFIXES = {"android.widget.", "android.webkit.", "android.app."};
+
+		/**
+		 * Construct a new bare inflater for the given {@code context}.
+		 *
+		 * @param context the context to inflate with.
+		 * @since 0.0.2 ~2026.10.17
+		 */
+		protected BasicInflater(@NotNull Context context) {
+			super(context);
+		}
+
+		@NotNull
+		@Override
+		public LayoutInflater cloneInContext(@NotNull Context context) {
+			return new BasicInflater(context);
+		}
+
+		@Override
+		protected View onCreateView(@NotNull String name, @NotNull AttributeSet attrs) throws ClassNotFoundException {
+			for (String prefix : BasicInflater.PREFIXES)
+				try {
+					View view = this.createView(name, prefix, attrs);
+
+					if (view != null)
+						return view;
+				} catch (ClassNotFoundException ignored) {
+					//try the next package
+				}
+
+			return super.onCreateView(name, attrs);
+		}
+	}
+
+	/**
+	 * The ready views of a type.
+	 *
+	 * @author LSafer
+	 * @version 0.0.2
+	 * @since 0.0.2 ~2026.10.17
+	 */
+	protected static class Entry {
+		/**
+		 * The layout of the views.
+		 *
+		 * @since 0.0.2 ~2026.10.17
+		 */
+		@LayoutRes
+		protected final int layout;
+		/**
+		 * The number of views being inflated.
+		 *
+		 * @since 0.0.2 ~2026.10.17
+		 */
+		@NotNull
+		protected final AtomicInteger pending = new AtomicInteger();
+		/**
+		 * The ready views.
+		 *
+		 * @since 0.0.2 ~2026.10.17
+		 */
+		@NotNull
+		protected final ConcurrentLinkedQueue<View> views = new ConcurrentLinkedQueue<>();
+
+		/**
+		 * True, if inflating the layout in the background has failed once.
+		 *
+		 * @since 0.0.2 ~2026.10.17
+		 */
+		protected volatile boolean failed;
+
+		/**
+		 * Construct a new entry for the given {@code layout}.
+		 *
+		 * @param layout the layout of the views.
+		 * @since 0.0.2 ~2026.10.17
+		 */
+		protected Entry(@LayoutRes int layout) {
+			this.layout = layout;
+		}
+	}
+}
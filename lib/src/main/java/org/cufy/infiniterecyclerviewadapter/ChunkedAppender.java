@@ -0,0 +1,252 @@
+/*
+ *	Copyright 2021 Cufy
+ *
+ *	Licensed under the Apache License, Version 2.0 (the "License");
+ *	you may not use this file except in compliance with the License.
+ *	You may obtain a copy of the License at
+ *
+ *	    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *	Unless required by applicable law or agreed to in writing, software
+ *	distributed under the License is distributed on an "AS IS" BASIS,
+ *	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *	See the License for the specific language governing permissions and
+ *	limitations under the License.
+ */
+package org.cufy.infiniterecyclerviewadapter;
+
+import android.os.Handler;
+import android.os.Looper;
+import android.os.SystemClock;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.jetbrains.annotations.Range;
+
+import java.io.Closeable;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.Objects;
+import java.util.function.Consumer;
+
+/**
+ * A streaming appender of items to the end of an items store. The items are accepted one
+ * by one (as they get decoded) and get appended in bounded chunks, each chunk as a single
+ * insert. The first chunk is small (so the first items show up early) and the following
+ * chunks double up to the maximum chunk size. A chunk is also appended once it gets older
+ * than the maximum delay, even if no more items get accepted. (by a flush scheduled on the
+ * main thread when the first item of the chunk gets accepted)
+ * <br>
+ * An appender is meant to be fed by a single thread. (any thread)
+ *
+ * @author LSafer
+ * @version 0.0.2
+ * @since 0.0.2 ~2026.10.17
+ */
+public class ChunkedAppender implements Consumer<Object>, Closeable {
+	/**
+	 * The runnable appending the current chunk once it gets older than the maximum delay.
+	 *
+	 * @since 0.0.2 ~2026.10.17
+	 */
+	@NotNull
+	protected final Runnable delayedFlusher = this::flushIfDue;
+	/**
+	 * A handler posting to the main thread.
+	 *
+	 * @since 0.0.2 ~2026.10.17
+	 */
+	@NotNull
+	protected final Handler handler = new Handler(Looper.getMainLooper());
+	/**
+	 * The lock guarding the current chunk. (accessed by the feeding thread and the
+	 * delayed flushes)
+	 *
+	 * @since 0.0.2 ~2026.10.17
+	 */
+	@NotNull
+	protected final Object lock = new Object();
+	/**
+	 * The maximum time (in milliseconds) an item is held before its chunk gets appended.
+	 * (0 for no limit)
+	 *
+	 * @since 0.0.2 ~2026.10.17
+	 */
+	protected final long maxDelay;
+	/**
+	 * The store to append to.
+	 *
+	 * @since 0.0.2 ~2026.10.17
+	 */
+	@NotNull
+	protected final ItemStore store;
+
+	/**
+	 * The items of the current chunk.
+	 *
+	 * @since 0.0.2 ~2026.10.17
+	 */
+	protected Object @NotNull [] chunk;
+	/**
+	 * The number of items in the current chunk.
+	 *
+	 * @since 0.0.2 ~2026.10.17
+	 */
+	protected int chunkCount;
+	/**
+	 * The size of the current chunk. Doubles after each append up to the capacity of the
+	 * {@link #chunk} array.
+	 *
+	 * @since 0.0.2 ~2026.10.17
+	 */
+	protected int chunkSize;
+	/**
+	 * The time (in milliseconds) the first item of the current chunk got accepted.
+	 *
+	 * @since 0.0.2 ~2026.10.17
+	 */
+	protected long chunkTime;
+	/**
+	 * True, if this appender got closed.
+	 *
+	 * @since 0.0.2 ~2026.10.17
+	 */
+	protected boolean closed;
+
+	/**
+	 * Construct a new appender appending to the given {@code store} in chunks of at most
+	 * the given {@code maxChunkSize} items.
+	 *
+	 * @param store        the store to append to.
+	 * @param maxChunkSize the maximum number of items in a chunk.
+	 * @throws NullPointerException     if the given {@code store} is null.
+	 * @throws IllegalArgumentException if the given {@code maxChunkSize} is less than 1.
+	 * @since 0.0.2 ~2026.10.17
+	 */
+	public ChunkedAppender(@NotNull ItemStore store, @Range(from = 1, to = Integer.MAX_VALUE) int maxChunkSize) {
+		this(store, maxChunkSize, 0);
+	}
+
+	/**
+	 * Construct a new appender appending to the given {@code store} in chunks of at most
+	 * the given {@code maxChunkSize} items, holding no item longer than the given {@code
+	 * maxDelay}.
+	 *
+	 * @param store        the store to append to.
+	 * @param maxChunkSize the maximum number of items in a chunk.
+	 * @param maxDelay     the maximum time (in milliseconds) an item is held before its
+	 *                     chunk gets appended. (0 for no limit)
+	 * @throws NullPointerException     if the given {@code store} is null.
+	 * @throws IllegalArgumentException if the given {@code maxChunkSize} is less than 1 or
+	 *                                  if the given {@code maxDelay} is negative.
+	 * @since 0.0.2 ~2026.10.17
+	 */
+	public ChunkedAppender(@NotNull ItemStore store, @Range(from = 1, to = Integer.MAX_VALUE) int maxChunkSize, @Range(from = 0, to = Long.MAX_VALUE) long maxDelay) {
+		Objects.requireNonNull(store, "store");
+		if (maxChunkSize < 1)
+			throw new IllegalArgumentException("maxChunkSize < 1");
+		if (maxDelay < 0)
+			throw new IllegalArgumentException("maxDelay < 0");
+		this.store = store;
+		this.maxDelay = maxDelay;
+		this.chunk = new Object[maxChunkSize];
+		this.chunkSize = Math.max(1, maxChunkSize >> 3);
+	}
+
+	/**
+	 * Accept the given {@code item}. Appends the current chunk if it got full (or old).
+	 *
+	 * @param item the item to be appended.
+	 * @throws IllegalStateException if this appender got closed.
+	 * @since 0.0.2 ~2026.10.17
+	 */
+	@Override
+	public void accept(@Nullable Object item) {
+		synchronized (this.lock) {
+			if (this.closed)
+				throw new IllegalStateException("Closed appender");
+
+			if (this.chunkCount == 0 && this.maxDelay != 0) {
+				this.chunkTime = SystemClock.uptimeMillis();
+				//the chunk gets appended in time even if no more items arrive
+				this.handler.postDelayed(this.delayedFlusher, this.maxDelay);
+			}
+
+			this.chunk[this.chunkCount++] = item;
+
+			if (this.chunkCount >= this.chunkSize ||
+				this.maxDelay != 0 && SystemClock.uptimeMillis() - this.chunkTime >= this.maxDelay)
+				this.flush();
+		}
+	}
+
+	/**
+	 * Append the pending items, then close this appender.
+	 *
+	 * @since 0.0.2 ~2026.10.17
+	 */
+	@Override
+	public void close() {
+		synchronized (this.lock) {
+			if (!this.closed) {
+				this.flush();
+				this.closed = true;
+			}
+		}
+	}
+
+	/**
+	 * Accept the remaining items of the given {@code iterator}, then append the pending
+	 * items. The items are appended while the iterator is being consumed.
+	 *
+	 * @param iterator the iterator to consume.
+	 * @throws NullPointerException  if the given {@code iterator} is null.
+	 * @throws IllegalStateException if this appender got closed.
+	 * @since 0.0.2 ~2026.10.17
+	 */
+	public void acceptAll(@NotNull Iterator<?> iterator) {
+		Objects.requireNonNull(iterator, "iterator");
+
+		while (iterator.hasNext())
+			this.accept(iterator.next());
+
+		this.flush();
+	}
+
+	/**
+	 * Append the pending items (if any) as a single insert.
+	 *
+	 * @since 0.0.2 ~2026.10.17
+	 */
+	public void flush() {
+		synchronized (this.lock) {
+			int count = this.chunkCount;
+
+			if (count == 0)
+				return;
+
+			this.handler.removeCallbacks(this.delayedFlusher);
+			//the store copies the chunk, so it can be reused
+			this.store.addAll(Arrays.asList(this.chunk).subList(0, count));
+			Arrays.fill(this.chunk, 0, count, null);
+			this.chunkCount = 0;
+			this.chunkSize = this.chunkSize > this.chunk.length >> 1 ?
+							 this.chunk.length : this.chunkSize << 1;
+		}
+	}
+
+	/**
+	 * Append the current chunk if it got older than the maximum delay. Invoked on the
+	 * main thread by the flush scheduled when the first item of the chunk got accepted.
+	 * (a chunk started after that flush got scheduled is left to its own scheduled
+	 * flush)
+	 *
+	 * @since 0.0.2 ~2026.10.17
+	 */
+	protected void flushIfDue() {
+		synchronized (this.lock) {
+			if (this.chunkCount != 0 && SystemClock.uptimeMillis() - this.chunkTime >= this.maxDelay)
+				this.flush();
+		}
+	}
+}
@@ -0,0 +1,1156 @@
+/*
+ *	Copyright 2021 Cufy
+ *
+ *	Licensed under the Apache License, Version 2.0 (the "License");
+ *	you may not use this file except in compliance with the License.
+ *	You may obtain a copy of the License at
+ *
+ *	    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *	Unless required by applicable law or agreed to in writing, software
+ *	distributed under the License is distributed on an "AS IS" BASIS,
+ *	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *	See the License for the specific language governing permissions and
+ *	limitations under the License.
+ */
+package org.cufy.infiniterecyclerviewadapter;
+
+import androidx.recyclerview.widget.RecyclerView;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.jetbrains.annotations.Range;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Objects;
+import java.util.RandomAccess;
+
+/**
+ * A compact columnar table of rows with fixed-width fields. The rows are kept in a direct
+ * (off-heap) buffer or in a memory-mapped file, and the strings are kept (deduplicated) in
+ * a string pool next to them. The items store holds the rows flat (the table and an int
+ * index per row, see {@link ItemStore.Snapshot}) and the adapter decodes them lazily, at
+ * bind time, into a reusable {@link Row} flyweight. (see {@link #binder(RowBinder)})
+ * <br>
+ * The rows can be appended from any thread. A row can be read once its ref got
+ * published.
+ *
+ * @author LSafer
+ * @version 0.0.2
+ * @since 0.0.2 ~2026.10.17
+ */
+public class CompactTable {
+	/**
+	 * The type of a column of doubles. (8 bytes)
+	 *
+	 * @since 0.0.2 ~2026.10.17
+	 */
+	public static final int DOUBLE = 0;
+	/**
+	 * The type of a column of ints. (4 bytes)
+	 *
+	 * @since 0.0.2 ~2026.10.17
+	 */
+	public static final int INT = 1;
+	/**
+	 * The type of a column of longs. (8 bytes)
+	 *
+	 * @since 0.0.2 ~2026.10.17
+	 */
+	public static final int LONG = 2;
+	/**
+	 * The type of a column of strings. (4 bytes, an offset in the string pool)
+	 *
+	 * @since 0.0.2 ~2026.10.17
+	 */
+	public static final int STRING = 3;
+
+	/**
+	 * The default maximum number of distinct strings to be deduplicated.
+	 *
+	 * @since 0.0.2 ~2026.10.17
+	 */
+	protected static final int DEFAULT_INTERN_CAPACITY = 4096;
+	/**
+	 * The magic number starting the saved tables. ({@code "IRVC"})
+	 *
+	 * @since 0.0.2 ~2026.10.17
+	 */
+	protected static final int MAGIC = 0x49525643;
+	/**
+	 * The version of the format of the saved tables.
+	 *
+	 * @since 0.0.2 ~2026.10.17
+	 */
+	protected static final int VERSION = 1;
+
+	/**
+	 * The pool offsets of the deduplicated strings. Only accessed while holding the
+	 * {@link #lock}.
+	 *
+	 * @since 0.0.2 ~2026.10.17
+	 */
+	@NotNull
+	protected final HashMap<String, Integer> interned = new HashMap<>();
+	/**
+	 * The maximum number of distinct strings to be deduplicated.
+	 *
+	 * @since 0.0.2 ~2026.10.17
+	 */
+	protected final int internCapacity;
+	/**
+	 * The lock serializing the appends.
+	 *
+	 * @since 0.0.2 ~2026.10.17
+	 */
+	@NotNull
+	protected final Object lock = new Object();
+	/**
+	 * The offset of each column in a row.
+	 *
+	 * @since 0.0.2 ~2026.10.17
+	 */
+	protected final int @NotNull [] offsets;
+	/**
+	 * True, if this table is read-only. (memory-mapped)
+	 *
+	 * @since 0.0.2 ~2026.10.17
+	 */
+	protected final boolean readOnly;
+	/**
+	 * The type of each column.
+	 *
+	 * @since 0.0.2 ~2026.10.17
+	 */
+	protected final int @NotNull [] types;
+	/**
+	 * The number of bytes of a row.
+	 *
+	 * @since 0.0.2 ~2026.10.17
+	 */
+	protected final int width;
+
+	/**
+	 * The string pool. Each string is its length followed by its UTF-8 bytes.
+	 *
+	 * @since 0.0.2 ~2026.10.17
+	 */
+	@NotNull
+	protected volatile ByteBuffer pool;
+	/**
+	 * The number of bytes used in the string pool.
+	 *
+	 * @since 0.0.2 ~2026.10.17
+	 */
+	protected int poolSize;
+	/**
+	 * The rows buffer.
+	 *
+	 * @since 0.0.2 ~2026.10.17
+	 */
+	@NotNull
+	protected volatile ByteBuffer rows;
+	/**
+	 * The number of rows.
+	 *
+	 * @since 0.0.2 ~2026.10.17
+	 */
+	protected volatile int size;
+
+	/**
+	 * Construct a new empty table with the given column {@code types}.
+	 *
+	 * @param types the type of each column. ({@link #DOUBLE}, {@link #INT}, {@link #LONG}
+	 *              or {@link #STRING})
+	 * @throws NullPointerException     if the given {@code types} is null.
+	 * @throws IllegalArgumentException if any of the given {@code types} is unknown.
+	 * @since 0.0.2 ~2026.10.17
+	 */
+	public CompactTable(int @NotNull ... types) {
+		this(types, CompactTable.DEFAULT_INTERN_CAPACITY);
+	}
+
+	/**
+	 * Construct a new empty table with the given column {@code types}.
+	 *
+	 * @param types          the type of each column. ({@link #DOUBLE}, {@link #INT},
+	 *                       {@link #LONG} or {@link #STRING})
+	 * @param internCapacity the maximum number of distinct strings to be deduplicated.
+	 * @throws NullPointerException     if the given {@code types} is null.
+	 * @throws IllegalArgumentException if any of the given {@code types} is unknown or if
+	 *                                  the given {@code internCapacity} is negative.
+	 * @since 0.0.2 ~2026.10.17
+	 */
+	public CompactTable(int @NotNull [] types, @Range(from = 0, to = Integer.MAX_VALUE) int internCapacity) {
+		Objects.requireNonNull(types, "types");
+		if (internCapacity < 0)
+			throw new IllegalArgumentException("internCapacity < 0");
+		this.types = types.clone();
+		this.offsets = new int[types.length];
+		this.width = CompactTable.layout(this.types, this.offsets);
+		this.internCapacity = internCapacity;
+		this.readOnly = false;
+		this.rows = ByteBuffer.allocateDirect(Math.max(1, this.width) << 6);
+		this.pool = ByteBuffer.allocateDirect(1 << 12);
+	}
+
+	/**
+	 * Construct a new read-only table over the given buffers.
+	 *
+	 * @param types the type of each column.
+	 * @param rows  the rows buffer.
+	 * @param pool  the string pool.
+	 * @param size  the number of rows.
+	 * @since 0.0.2 ~2026.10.17
+	 */
+	protected CompactTable(int @NotNull [] types, @NotNull ByteBuffer rows, @NotNull ByteBuffer pool, int size) {
+		this.types = types;
+		this.offsets = new int[types.length];
+		this.width = CompactTable.layout(this.types, this.offsets);
+		this.internCapacity = 0;
+		this.readOnly = true;
+		this.rows = rows;
+		this.pool = pool;
+		this.poolSize = pool.limit();
+		this.size = size;
+	}
+
+	/**
+	 * Return a binder binding the decoded rows with the given {@code binder}. The adapter
+	 * hands the rows of the tables in its items as its reused {@link Row} flyweight, so
+	 * their type is to be registered with {@code Row.class}.
+	 *
+	 * @param binder the binder to bind the decoded rows with.
+	 * @param <VH>   the type of the view holders.
+	 * @return a binder of rows.
+	 * @throws NullPointerException if the given {@code binder} is null.
+	 * @since 0.0.2 ~2026.10.17
+	 */
+	@NotNull
+	public static <VH extends RecyclerView.ViewHolder> InfiniteRecyclerViewAdapter.ViewHolderBinder<VH, Row> binder(@NotNull RowBinder<VH> binder) {
+		Objects.requireNonNull(binder, "binder");
+		return (holder, row) -> {
+			if (row != null)
+				binder.onBindViewHolder(holder, row);
+		};
+	}
+
+	/**
+	 * Map the table saved by {@link #save(File)} at the given {@code file}. The returned
+	 * table is read-only and its rows are paged in by the system on demand.
+	 *
+	 * @param file the file to map.
+	 * @return a read-only table over the given {@code file}.
+	 * @throws NullPointerException if the given {@code file} is null.
+	 * @throws IOException          if any I/O exception occurs or if the given {@code
+	 *                              file} is not a saved table.
+	 * @since 0.0.2 ~2026.10.17
+	 */
+	@NotNull
+	public static CompactTable map(@NotNull File file) throws IOException {
+		Objects.requireNonNull(file, "file");
+		ByteBuffer buffer;
+
+		try (RandomAccessFile input = new RandomAccessFile(file, "r");
+			 FileChannel channel = input.getChannel()) {
+			//the mapping stays valid after the channel got closed
+			buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+		}
+
+		try {
+			if (buffer.getInt() != CompactTable.MAGIC || buffer.getInt() != CompactTable.VERSION)
+				throw new IOException("Not a saved table: " + file);
+
+			int[] types = new int[buffer.getInt()];
+
+			for (int i = 0; i < types.length; i++)
+				types[i] = buffer.getInt();
+
+			int size = buffer.getInt();
+			int poolSize = buffer.getInt();
+			int width = CompactTable.layout(types, new int[types.length]);
+
+			buffer.limit(buffer.position() + size * width);
+			ByteBuffer rows = buffer.slice();
+			buffer.position(buffer.limit()).limit(buffer.position() + poolSize);
+			ByteBuffer pool = buffer.slice();
+			return new CompactTable(types, rows, pool, size);
+		} catch (RuntimeException e) {
+			throw new IOException("Corrupted table: " + file, e);
+		}
+	}
+
+	/**
+	 * Compute the offsets of the columns of the given {@code types}.
+	 *
+	 * @param types   the type of each column.
+	 * @param offsets the array to write the offset of each column to.
+	 * @return the width of a row.
+	 * @throws IllegalArgumentException if any of the given {@code types} is unknown.
+	 * @since 0.0.2 ~2026.10.17
+	 */
+	protected static int layout(int @NotNull [] types, int @NotNull [] offsets) {
+		int width = 0;
+
+		for (int i = 0; i < types.length; i++) {
+			offsets[i] = width;
+
+			switch (types[i]) {
+				case CompactTable.DOUBLE:
+				case CompactTable.LONG:
+					width += 8;
+					break;
+				case CompactTable.INT:
+				case CompactTable.STRING:
+					width += 4;
+					break;
+				default:
+					throw new IllegalArgumentException("Unknown column type: " + types[i]);
+			}
+		}
+
+		return width;
+	}
+
+	/**
+	 * Append a row for each item of the given {@code items} encoded by the given {@code
+	 * encoder}. The rows are appended at once, so they are contiguous.
+	 *
+	 * @param items   the items to be appended.
+	 * @param encoder the encoder to write the fields of each item with.
+	 * @param <T>     the type of the items.
+	 * @return the refs of the appended rows. (to be added, flat, to the items of an
+	 * 		adapter)
+	 * @throws NullPointerException  if the given {@code items} or {@code encoder} is
+	 *                               null.
+	 * @throws IllegalStateException if this table is read-only.
+	 * @since 0.0.2 ~2026.10.17
+	 */
+	@NotNull
+	public <T> List<Ref> appendAll(@NotNull Collection<? extends T> items, @NotNull Encoder<T> encoder) {
+		Objects.requireNonNull(items, "items");
+		Objects.requireNonNull(encoder, "encoder");
+		Writer writer = this.writer();
+		ByteBuffer rows = ByteBuffer.allocate(items.size() * this.width);
+		int count = 0;
+
+		for (T item : items) {
+			encoder.encode(writer, item);
+			writer.drainTo(rows);
+			count++;
+		}
+
+		rows.flip();
+		int offset = this.append(rows, count);
+		return new RefList(this, offset, count);
+	}
+
+	/**
+	 * Return a ref to the row at the given {@code index}.
+	 *
+	 * @param index the index of the row.
+	 * @return a ref to the row.
+	 * @throws IndexOutOfBoundsException if the given {@code index} is out of bounds.
+	 * @since 0.0.2 ~2026.10.17
+	 */
+	@NotNull
+	public Ref ref(@Range(from = 0, to = Integer.MAX_VALUE) int index) {
+		ItemStore.checkElementIndex(index, this.size);
+		return new Ref(this, index);
+	}
+
+	/**
+	 * Return the refs of all the rows of this table. (to be added, flat, to the items of
+	 * an adapter)
+	 *
+	 * @return the refs of the rows.
+	 * @since 0.0.2 ~2026.10.17
+	 */
+	@NotNull
+	public List<Ref> refs() {
+		return new RefList(this, 0, this.size);
+	}
+
+	/**
+	 * Save this table to the given {@code file}. (to be mapped with {@link #map(File)})
+	 * The file is written to a temporary file (in the same directory) first, then
+	 * renamed. The temporary file is deleted if the save fails.
+	 *
+	 * @param file the file to save to.
+	 * @throws NullPointerException if the given {@code file} is null.
+	 * @throws IOException          if any I/O exception occurs.
+	 * @since 0.0.2 ~2026.10.17
+	 */
+	public void save(@NotNull File file) throws IOException {
+		Objects.requireNonNull(file, "file");
+		ByteBuffer rows;
+		ByteBuffer pool;
+		int size;
+
+		synchronized (this.lock) {
+			size = this.size;
+			rows = this.rows.duplicate();
+			pool = this.pool.duplicate();
+			rows.position(0).limit(size * this.width);
+			pool.position(0).limit(this.poolSize);
+		}
+
+		ByteBuffer header = ByteBuffer.allocate(5 * 4 + this.types.length * 4);
+		header.putInt(CompactTable.MAGIC);
+		header.putInt(CompactTable.VERSION);
+		header.putInt(this.types.length);
+
+		for (int type : this.types)
+			header.putInt(type);
+
+		header.putInt(size);
+		header.putInt(pool.remaining());
+		header.flip();
+
+		File temp = File.createTempFile(file.getName(), ".tmp", file.getAbsoluteFile().getParentFile());
+
+		try {
+			try (FileChannel channel = new FileOutputStream(temp).getChannel()) {
+				while (header.hasRemaining())
+					channel.write(header);
+				while (rows.hasRemaining())
+					channel.write(rows);
+				while (pool.hasRemaining())
+					channel.write(pool);
+
+				channel.force(false);
+			}
+
+			if (!temp.renameTo(file))
+				throw new IOException("Couldn't rename " + temp + " to " + file);
+		} finally {
+			//no-op if renamed
+			temp.delete();
+		}
+	}
+
+	/**
+	 * Return the number of rows in this table.
+	 *
+	 * @return the number of rows.
+	 * @since 0.0.2 ~2026.10.17
+	 */
+	@Range(from = 0, to = Integer.MAX_VALUE)
+	public int size() {
+		return this.size;
+	}
+
+	/**
+	 * Return a new writer appending rows to this table. A writer must only be used by a
+	 * single thread.
+	 *
+	 * @return a new writer.
+	 * @throws IllegalStateException if this table is read-only.
+	 * @since 0.0.2 ~2026.10.17
+	 */
+	@NotNull
+	public Writer writer() {
+		if (this.readOnly)
+			throw new IllegalStateException("Read-only table");
+
+		return new Writer(this);
+	}
+
+	/**
+	 * Append the given encoded {@code rows}.
+	 *
+	 * @param rows  the encoded rows. (positioned at the start of the first row)
+	 * @param count the number of rows.
+	 * @return the index of the first appended row.
+	 * @since 0.0.2 ~2026.10.17
+	 */
+	protected int append(@NotNull ByteBuffer rows, int count) {
+		synchronized (this.lock) {
+			int size = this.size;
+			ByteBuffer buffer = this.ensureCapacity(this.rows, size * this.width, count * this.width);
+			buffer.position(size * this.width);
+			buffer.put(rows);
+			this.rows = buffer;
+			this.size = size + count;
+			return size;
+		}
+	}
+
+	/**
+	 * Return the given {@code buffer} or a larger copy of it that fits the given {@code
+	 * extra} bytes after its first {@code used} bytes.
+	 *
+	 * @param buffer the buffer.
+	 * @param used   the number of used bytes in the given {@code buffer}.
+	 * @param extra  the number of bytes to be written.
+	 * @return a buffer with enough capacity.
+	 * @since 0.0.2 ~2026.10.17
+	 */
+	@NotNull
+	protected ByteBuffer ensureCapacity(@NotNull ByteBuffer buffer, int used, int extra) {
+		if (used + extra <= buffer.capacity())
+			return buffer;
+
+		ByteBuffer source = buffer.duplicate();
+		source.position(0).limit(used);
+		ByteBuffer target = ByteBuffer.allocateDirect(Math.max(used + extra, buffer.capacity() << 1));
+		target.put(source);
+		return target;
+	}
+
+	/**
+	 * Add the given {@code string} to the string pool. (unless already deduplicated)
+	 *
+	 * @param string the string to be added.
+	 * @return the offset of the string in the pool.
+	 * @since 0.0.2 ~2026.10.17
+	 */
+	protected int intern(@NotNull String string) {
+		synchronized (this.lock) {
+			Integer interned = this.interned.get(string);
+
+			if (interned != null)
+				return interned;
+
+			byte[] bytes = string.getBytes(StandardCharsets.UTF_8);
+			int offset = this.poolSize;
+			ByteBuffer pool = this.ensureCapacity(this.pool, offset, 4 + bytes.length);
+			pool.position(offset);
+			pool.putInt(bytes.length);
+			pool.put(bytes);
+			this.pool = pool;
+			this.poolSize = offset + 4 + bytes.length;
+
+			if (this.interned.size() < this.internCapacity)
+				this.interned.put(string, offset);
+
+			return offset;
+		}
+	}
+
+	/**
+	 * An encoder writing the fields of an item to a row.
+	 *
+	 * @param <T> the type of the items.
+	 * @author LSafer
+	 * @version 0.0.2
+	 * @since 0.0.2 ~2026.10.17
+	 */
+	@FunctionalInterface
+	public interface Encoder<T> {
+		/**
+		 * Write the fields of the given {@code item} to the given {@code writer}. The row
+		 * gets committed by the caller.
+		 *
+		 * @param writer the writer to write the fields to.
+		 * @param item   the item to be encoded.
+		 * @throws NullPointerException if the given {@code writer} is null.
+		 * @since 0.0.2 ~2026.10.17
+		 */
+		void encode(@NotNull Writer writer, T item);
+	}
+
+	/**
+	 * A binder of decoded rows.
+	 *
+	 * @param <VH> the type of the view holders.
+	 * @author LSafer
+	 * @version 0.0.2
+	 * @since 0.0.2 ~2026.10.17
+	 */
+	@FunctionalInterface
+	public interface RowBinder<VH extends RecyclerView.ViewHolder> {
+		/**
+		 * Bind the given {@code holder} with the given {@code row}. The given {@code row}
+		 * is a reused flyweight, only valid during this call.
+		 *
+		 * @param holder the holder to be bound.
+		 * @param row    the row to bind the given {@code holder} with.
+		 * @throws NullPointerException if the given {@code holder} or {@code row} is
+		 *                              null.
+		 * @since 0.0.2 ~2026.10.17
+		 */
+		void onBindViewHolder(@NotNull VH holder, @NotNull Row row);
+	}
+
+	/**
+	 * A reference to a row of a table. The item to be added to the items of an adapter in
+	 * place of the row itself.
+	 *
+	 * @author LSafer
+	 * @version 0.0.2
+	 * @since 0.0.2 ~2026.10.17
+	 */
+	public static final class Ref {
+		/**
+		 * The index of the row.
+		 *
+		 * @since 0.0.2 ~2026.10.17
+		 */
+		final int index;
+		/**
+		 * The table of the row.
+		 *
+		 * @since 0.0.2 ~2026.10.17
+		 */
+		@NotNull
+		final CompactTable table;
+
+		/**
+		 * Construct a new ref.
+		 *
+		 * @param table the table of the row.
+		 * @param index the index of the row.
+		 * @since 0.0.2 ~2026.10.17
+		 */
+		Ref(@NotNull CompactTable table, int index) {
+			this.table = table;
+			this.index = index;
+		}
+
+		@Override
+		public boolean equals(@Nullable Object object) {
+			if (object == this)
+				return true;
+			if (!(object instanceof Ref))
+				return false;
+
+			Ref ref = (Ref) object;
+			return ref.table == this.table && ref.index == this.index;
+		}
+
+		@Override
+		public int hashCode() {
+			return 31 * System.identityHashCode(this.table) + this.index;
+		}
+
+		@NotNull
+		@Override
+		public String toString() {
+			return "Ref(" + this.index + ")";
+		}
+
+		/**
+		 * Return the index of the row.
+		 *
+		 * @return the index of the row.
+		 * @since 0.0.2 ~2026.10.17
+		 */
+		@Range(from = 0, to = Integer.MAX_VALUE)
+		public int getIndex() {
+			return this.index;
+		}
+
+		/**
+		 * Return the table of the row.
+		 *
+		 * @return the table of the row.
+		 * @since 0.0.2 ~2026.10.17
+		 */
+		@NotNull
+		public CompactTable getTable() {
+			return this.table;
+		}
+	}
+
+	/**
+	 * A reusable flyweight decoding the fields of a row on demand.
+	 *
+	 * @author LSafer
+	 * @version 0.0.2
+	 * @since 0.0.2 ~2026.10.17
+	 */
+	public static final class Row {
+		/**
+		 * The number of decoded strings to be cached. (a power of two)
+		 *
+		 * @since 0.0.2 ~2026.10.17
+		 */
+		static final int CACHE_SIZE = 256;
+
+		/**
+		 * The pool offsets of the cached strings. (-1 for empty slots)
+		 *
+		 * @since 0.0.2 ~2026.10.17
+		 */
+		final int @NotNull [] cacheOffsets = new int[Row.CACHE_SIZE];
+		/**
+		 * The cached strings. (indexed by their pool offset, direct-mapped)
+		 *
+		 * @since 0.0.2 ~2026.10.17
+		 */
+		@Nullable
+		final String @NotNull [] cacheStrings = new String[Row.CACHE_SIZE];
+		/**
+		 * The reusable decoder of the strings.
+		 *
+		 * @since 0.0.2 ~2026.10.17
+		 */
+		@NotNull
+		final CharsetDecoder decoder = StandardCharsets.UTF_8.newDecoder()
+				.onMalformedInput(CodingErrorAction.REPLACE)
+				.onUnmappableCharacter(CodingErrorAction.REPLACE);
+
+		/**
+		 * The offset of the row in the rows buffer.
+		 *
+		 * @since 0.0.2 ~2026.10.17
+		 */
+		int base;
+		/**
+		 * The table the cached strings were decoded from.
+		 *
+		 * @since 0.0.2 ~2026.10.17
+		 */
+		@Nullable
+		CompactTable cacheTable;
+		/**
+		 * A reusable buffer for the decoded chars.
+		 *
+		 * @since 0.0.2 ~2026.10.17
+		 */
+		@NotNull
+		CharBuffer chars = CharBuffer.allocate(64);
+		/**
+		 * The index of the row.
+		 *
+		 * @since 0.0.2 ~2026.10.17
+		 */
+		int index;
+		/**
+		 * The pool of the table at the time of the move.
+		 *
+		 * @since 0.0.2 ~2026.10.17
+		 */
+		@Nullable
+		ByteBuffer pool;
+		/**
+		 * The rows buffer of the table at the time of the move.
+		 *
+		 * @since 0.0.2 ~2026.10.17
+		 */
+		@Nullable
+		ByteBuffer rows;
+		/**
+		 * A reusable buffer for decoding the strings.
+		 *
+		 * @since 0.0.2 ~2026.10.17
+		 */
+		byte @NotNull [] scratch = new byte[64];
+		/**
+		 * A reusable buffer wrapping {@link #scratch}.
+		 *
+		 * @since 0.0.2 ~2026.10.17
+		 */
+		@NotNull
+		ByteBuffer scratchBuffer = ByteBuffer.wrap(this.scratch);
+		/**
+		 * The table of the row.
+		 *
+		 * @since 0.0.2 ~2026.10.17
+		 */
+		@Nullable
+		CompactTable table;
+
+		/**
+		 * Construct a new row to be moved to a row of a table. (see {@link
+		 * #moveTo(CompactTable, int)})
+		 *
+		 * @since 0.0.2 ~2026.10.17
+		 */
+		public Row() {
+		}
+
+		/**
+		 * Decode the string at the given {@code column} into a reused buffer. Unlike
+		 * {@link #getString(int)}, no string is created.
+		 *
+		 * @param column the index of the column.
+		 * @return the chars of the string, only valid until the next call. (or null if
+		 * 		null was written)
+		 * @throws IllegalStateException if this row was not moved to a row.
+		 * @since 0.0.2 ~2026.10.17
+		 */
+		@Nullable
+		public CharSequence getChars(int column) {
+			int offset = this.rows().getInt(this.base + this.table.offsets[column]);
+
+			if (offset < 0)
+				return null;
+
+			int length = this.read(offset);
+			//an utf-8 byte never decodes to more than one char
+			if (this.chars.capacity() < length)
+				this.chars = CharBuffer.allocate(Math.max(length, this.chars.capacity() << 1));
+
+			ByteBuffer input = this.scratchBuffer;
+			CharBuffer output = this.chars;
+			input.clear().limit(length);
+			output.clear();
+			this.decoder.reset();
+			this.decoder.decode(input, output, true);
+			this.decoder.flush(output);
+			output.flip();
+			return output;
+		}
+
+		/**
+		 * Return the double at the given {@code column}.
+		 *
+		 * @param column the index of the column.
+		 * @return the double value.
+		 * @throws IllegalStateException if this row was not moved to a row.
+		 * @since 0.0.2 ~2026.10.17
+		 */
+		public double getDouble(int column) {
+			return this.rows().getDouble(this.base + this.table.offsets[column]);
+		}
+
+		/**
+		 * Return the index of the row.
+		 *
+		 * @return the index of the row.
+		 * @since 0.0.2 ~2026.10.17
+		 */
+		public int getIndex() {
+			return this.index;
+		}
+
+		/**
+		 * Return the int at the given {@code column}.
+		 *
+		 * @param column the index of the column.
+		 * @return the int value.
+		 * @throws IllegalStateException if this row was not moved to a row.
+		 * @since 0.0.2 ~2026.10.17
+		 */
+		public int getInt(int column) {
+			return this.rows().getInt(this.base + this.table.offsets[column]);
+		}
+
+		/**
+		 * Return the long at the given {@code column}.
+		 *
+		 * @param column the index of the column.
+		 * @return the long value.
+		 * @throws IllegalStateException if this row was not moved to a row.
+		 * @since 0.0.2 ~2026.10.17
+		 */
+		public long getLong(int column) {
+			return this.rows().getLong(this.base + this.table.offsets[column]);
+		}
+
+		/**
+		 * Decode the string at the given {@code column}. The recently decoded strings
+		 * are cached, so binding the same (deduplicated) string again does not allocate.
+		 *
+		 * @param column the index of the column.
+		 * @return the string value. (or null if null was written)
+		 * @throws IllegalStateException if this row was not moved to a row.
+		 * @since 0.0.2 ~2026.10.17
+		 */
+		@Nullable
+		public String getString(int column) {
+			int offset = this.rows().getInt(this.base + this.table.offsets[column]);
+
+			if (offset < 0)
+				return null;
+
+			if (this.cacheTable != this.table) {
+				//the offsets are per table
+				this.cacheTable = this.table;
+				Arrays.fill(this.cacheOffsets, -1);
+				Arrays.fill(this.cacheStrings, null);
+			}
+
+			int slot = (offset ^ offset >>> 8) & Row.CACHE_SIZE - 1;
+
+			if (this.cacheOffsets[slot] == offset)
+				return this.cacheStrings[slot];
+
+			int length = this.read(offset);
+			String string = new String(this.scratch, 0, length, StandardCharsets.UTF_8);
+			this.cacheOffsets[slot] = offset;
+			this.cacheStrings[slot] = string;
+			return string;
+		}
+
+		/**
+		 * Move this flyweight to the row at the given {@code index} of the given {@code
+		 * table}.
+		 *
+		 * @param table the table of the row.
+		 * @param index the index of the row.
+		 * @return this.
+		 * @throws NullPointerException      if the given {@code table} is null.
+		 * @throws IndexOutOfBoundsException if the given {@code index} is out of bounds.
+		 * @since 0.0.2 ~2026.10.17
+		 */
+		@NotNull
+		public Row moveTo(@NotNull CompactTable table, @Range(from = 0, to = Integer.MAX_VALUE) int index) {
+			Objects.requireNonNull(table, "table");
+			//read the size first, the buffers are replaced before the size is incremented
+			ItemStore.checkElementIndex(index, table.size);
+			this.table = table;
+			this.index = index;
+			this.base = index * table.width;
+			this.rows = table.rows;
+			this.pool = table.pool;
+			return this;
+		}
+
+		/**
+		 * Read the bytes of the string at the given pool {@code offset} into {@link
+		 * #scratch}. (using absolute reads, without duplicating the pool)
+		 *
+		 * @param offset the offset of the string in the pool.
+		 * @return the number of bytes of the string.
+		 * @since 0.0.2 ~2026.10.17
+		 */
+		int read(int offset) {
+			ByteBuffer pool = this.pool;
+			int length = pool.getInt(offset);
+
+			if (this.scratch.length < length) {
+				this.scratch = new byte[Math.max(length, this.scratch.length << 1)];
+				this.scratchBuffer = ByteBuffer.wrap(this.scratch);
+			}
+
+			for (int i = 0, start = offset + 4; i < length; i++)
+				this.scratch[i] = pool.get(start + i);
+
+			return length;
+		}
+
+		/**
+		 * Return a ref to the current row.
+		 *
+		 * @return a new ref to the current row.
+		 * @throws IllegalStateException if this row was not moved to a row.
+		 * @since 0.0.2 ~2026.10.17
+		 */
+		@NotNull
+		Ref ref() {
+			this.rows();
+			return new Ref(this.table, this.index);
+		}
+
+		/**
+		 * Return the rows buffer of the current row.
+		 *
+		 * @return the rows buffer.
+		 * @throws IllegalStateException if this row was not moved to a row.
+		 * @since 0.0.2 ~2026.10.17
+		 */
+		@NotNull
+		ByteBuffer rows() {
+			if (this.rows == null)
+				throw new IllegalStateException("Not moved to a row");
+
+			return this.rows;
+		}
+	}
+
+	/**
+	 * A writer encoding a row then appending it to a table.
+	 *
+	 * @author LSafer
+	 * @version 0.0.2
+	 * @since 0.0.2 ~2026.10.17
+	 */
+	public static final class Writer {
+		/**
+		 * The row being encoded.
+		 *
+		 * @since 0.0.2 ~2026.10.17
+		 */
+		@NotNull
+		final ByteBuffer row;
+		/**
+		 * The table to append to.
+		 *
+		 * @since 0.0.2 ~2026.10.17
+		 */
+		@NotNull
+		final CompactTable table;
+
+		/**
+		 * Construct a new writer appending to the given {@code table}.
+		 *
+		 * @param table the table to append to.
+		 * @since 0.0.2 ~2026.10.17
+		 */
+		Writer(@NotNull CompactTable table) {
+			this.table = table;
+			this.row = ByteBuffer.allocate(table.width);
+			this.clear();
+		}
+
+		/**
+		 * Append the encoded row to the table, then clear this writer.
+		 *
+		 * @return a ref to the appended row.
+		 * @since 0.0.2 ~2026.10.17
+		 */
+		@NotNull
+		public Ref commit() {
+			this.row.position(0).limit(this.table.width);
+			int index = this.table.append(this.row, 1);
+			this.clear();
+			return new Ref(this.table, index);
+		}
+
+		/**
+		 * Write the given double {@code value} at the given {@code column}.
+		 *
+		 * @param column the index of the column.
+		 * @param value  the value.
+		 * @return this.
+		 * @since 0.0.2 ~2026.10.17
+		 */
+		@NotNull
+		public Writer putDouble(int column, double value) {
+			this.row.putDouble(this.table.offsets[column], value);
+			return this;
+		}
+
+		/**
+		 * Write the given int {@code value} at the given {@code column}.
+		 *
+		 * @param column the index of the column.
+		 * @param value  the value.
+		 * @return this.
+		 * @since 0.0.2 ~2026.10.17
+		 */
+		@NotNull
+		public Writer putInt(int column, int value) {
+			this.row.putInt(this.table.offsets[column], value);
+			return this;
+		}
+
+		/**
+		 * Write the given long {@code value} at the given {@code column}.
+		 *
+		 * @param column the index of the column.
+		 * @param value  the value.
+		 * @return this.
+		 * @since 0.0.2 ~2026.10.17
+		 */
+		@NotNull
+		public Writer putLong(int column, long value) {
+			this.row.putLong(this.table.offsets[column], value);
+			return this;
+		}
+
+		/**
+		 * Write the given string {@code value} at the given {@code column}. The string is
+		 * added to the string pool of the table.
+		 *
+		 * @param column the index of the column.
+		 * @param value  the value. (null is allowed)
+		 * @return this.
+		 * @since 0.0.2 ~2026.10.17
+		 */
+		@NotNull
+		public Writer putString(int column, @Nullable String value) {
+			this.row.putInt(this.table.offsets[column], value == null ? -1 : this.table.intern(value));
+			return this;
+		}
+
+		/**
+		 * Reset the fields of the row being encoded. (the strings to null)
+		 *
+		 * @since 0.0.2 ~2026.10.17
+		 */
+		void clear() {
+			for (int i = 0; i < this.table.width; i++)
+				this.row.put(i, (byte) 0);
+			for (int i = 0; i < this.table.types.length; i++)
+				if (this.table.types[i] == CompactTable.STRING)
+					this.row.putInt(this.table.offsets[i], -1);
+		}
+
+		/**
+		 * Write the encoded row to the given {@code target} (instead of appending it),
+		 * then clear this writer.
+		 *
+		 * @param target the buffer to write the row to.
+		 * @since 0.0.2 ~2026.10.17
+		 */
+		void drainTo(@NotNull ByteBuffer target) {
+			this.row.position(0).limit(this.table.width);
+			target.put(this.row);
+			this.clear();
+		}
+	}
+
+	/**
+	 * A read-only list of the refs of a range of contiguous rows. The refs are created on
+	 * access, and the items store adds the range flat without creating them.
+	 *
+	 * @author LSafer
+	 * @version 0.0.2
+	 * @since 0.0.2 ~2026.10.17
+	 */
+	static final class RefList extends AbstractList<Ref> implements RandomAccess {
+		/**
+		 * The index of the first row.
+		 *
+		 * @since 0.0.2 ~2026.10.17
+		 */
+		final int offset;
+		/**
+		 * The number of rows.
+		 *
+		 * @since 0.0.2 ~2026.10.17
+		 */
+		final int size;
+		/**
+		 * The table of the rows.
+		 *
+		 * @since 0.0.2 ~2026.10.17
+		 */
+		@NotNull
+		final CompactTable table;
+
+		/**
+		 * Construct a new list of the refs of the given range of rows.
+		 *
+		 * @param table  the table of the rows.
+		 * @param offset the index of the first row.
+		 * @param size   the number of rows.
+		 * @since 0.0.2 ~2026.10.17
+		 */
+		RefList(@NotNull CompactTable table, int offset, int size) {
+			this.table = table;
+			this.offset = offset;
+			this.size = size;
+		}
+
+		@NotNull
+		@Override
+		public Ref get(int index) {
+			ItemStore.checkElementIndex(index, this.size);
+			return new Ref(this.table, this.offset + index);
+		}
+
+		@Override
+		public int size() {
+			return this.size;
+		}
+	}
+}
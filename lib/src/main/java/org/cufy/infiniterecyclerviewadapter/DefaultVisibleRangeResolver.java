@@ -0,0 +1,105 @@
+/*
+ *	Copyright 2021 Cufy
+ *
+ *	Licensed under the Apache License, Version 2.0 (the "License");
+ *	you may not use this file except in compliance with the License.
+ *	You may obtain a copy of the License at
+ *
+ *	    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *	Unless required by applicable law or agreed to in writing, software
+ *	distributed under the License is distributed on an "AS IS" BASIS,
+ *	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *	See the License for the specific language governing permissions and
+ *	limitations under the License.
+ */
+package org.cufy.infiniterecyclerviewadapter;
+
+import android.view.View;
+
+import androidx.recyclerview.widget.GridLayoutManager;
+import androidx.recyclerview.widget.LinearLayoutManager;
+import androidx.recyclerview.widget.RecyclerView;
+import androidx.recyclerview.widget.StaggeredGridLayoutManager;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Objects;
+
+/**
+ * The default visible range resolver. Supports {@link LinearLayoutManager}, {@link
+ * GridLayoutManager} and {@link StaggeredGridLayoutManager}. Any other layout manager is
+ * resolved by scanning its attached children.
+ *
+ * @author LSafer
+ * @version 0.0.2
+ * @since 0.0.2 ~2026.10.17
+ */
+public class DefaultVisibleRangeResolver implements InfiniteRecyclerViewAdapter.VisibleRangeResolver {
+	/**
+	 * A reusable buffer for the positions of the spans of a staggered grid.
+	 *
+	 * @since 0.0.2 ~2026.10.17
+	 */
+	protected int @NotNull [] spans = new int[0];
+
+	@Override
+	public boolean resolveVisibleRange(@NotNull RecyclerView.LayoutManager manager, int @NotNull [] range) {
+		Objects.requireNonNull(manager, "manager");
+		Objects.requireNonNull(range, "range");
+
+		if (manager instanceof LinearLayoutManager) {
+			LinearLayoutManager linearLayoutManager = (LinearLayoutManager) manager;
+
+			range[0] = linearLayoutManager.findFirstVisibleItemPosition();
+			range[1] = linearLayoutManager.findLastVisibleItemPosition();
+			range[2] = manager instanceof GridLayoutManager ?
+					   ((GridLayoutManager) manager).getSpanCount() : 1;
+			return true;
+		}
+		if (manager instanceof StaggeredGridLayoutManager) {
+			StaggeredGridLayoutManager staggeredGridLayoutManager = (StaggeredGridLayoutManager) manager;
+			int spanCount = staggeredGridLayoutManager.getSpanCount();
+
+			if (this.spans.length != spanCount)
+				this.spans = new int[spanCount];
+
+			int first = Integer.MAX_VALUE;
+			int last = RecyclerView.NO_POSITION;
+
+			for (int position : staggeredGridLayoutManager.findFirstVisibleItemPositions(this.spans))
+				if (position != RecyclerView.NO_POSITION && position < first)
+					first = position;
+			for (int position : staggeredGridLayoutManager.findLastVisibleItemPositions(this.spans))
+				if (position > last)
+					last = position;
+
+			range[0] = first == Integer.MAX_VALUE ? RecyclerView.NO_POSITION : first;
+			range[1] = last;
+			range[2] = spanCount;
+			return true;
+		}
+
+		//unknown layout manager, scan the attached children
+		int first = Integer.MAX_VALUE;
+		int last = RecyclerView.NO_POSITION;
+
+		for (int i = 0, l = manager.getChildCount(); i < l; i++) {
+			View child = manager.getChildAt(i);
+
+			if (child != null) {
+				int position = manager.getPosition(child);
+
+				if (position != RecyclerView.NO_POSITION) {
+					first = Math.min(first, position);
+					last = Math.max(last, position);
+				}
+			}
+		}
+
+		range[0] = first == Integer.MAX_VALUE ? RecyclerView.NO_POSITION : first;
+		range[1] = last;
+		range[2] = 1;
+		return true;
+	}
+}
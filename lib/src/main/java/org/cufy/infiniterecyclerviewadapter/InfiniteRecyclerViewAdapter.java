@@ -15,6 +15,13 @@
  */
 package org.cufy.infiniterecyclerviewadapter;
 
+import android.os.Looper;
+import android.os.MessageQueue;
+import android.os.SystemClock;
+import android.os.Trace;
+import android.util.SparseArray;
+import android.util.SparseIntArray;
+import android.view.Choreographer;
 import android.view.LayoutInflater;
 import android.view.View;
 import android.view.ViewGroup;
@@ -22,38 +29,176 @@ import android.view.ViewGroup;
 import androidx.annotation.IdRes;
 import androidx.annotation.LayoutRes;
 import androidx.annotation.NonNull;
-import androidx.databinding.ObservableArrayList;
-import androidx.databinding.ObservableList;
+import androidx.recyclerview.widget.BatchingListUpdateCallback;
+import androidx.recyclerview.widget.DiffUtil;
 import androidx.recyclerview.widget.LinearLayoutManager;
+import androidx.recyclerview.widget.ListUpdateCallback;
 import androidx.recyclerview.widget.RecyclerView;
 
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 import org.jetbrains.annotations.Range;
 
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
-import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
-import java.util.Set;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
 
 /**
  * A simplified ready-to-user recycler view adapter.
  *
  * @author LSafer
- * @version 0.0.1
+ * @version 0.0.2
  * @since 0.0.1 ~2021.04.06
  */
 public class InfiniteRecyclerViewAdapter extends RecyclerView.Adapter<RecyclerView.ViewHolder> {
+	/**
+	 * The first type assigned by {@link #register(Class, int, ViewHolderBinder)}. High
+	 * enough not to collide with manually chosen types.
+	 *
+	 * @since 0.0.2 ~2026.10.17
+	 */
+	public static final int AUTO_TYPE_BASE = 1 << 24;
+	/**
+	 * The default capacity of the recycled view pool for each type. (the default of
+	 * {@link RecyclerView.RecycledViewPool})
+	 *
+	 * @since 0.0.2 ~2026.10.17
+	 */
+	public static final int DEFAULT_POOL_CAPACITY = 5;
+	/**
+	 * The type of the error slot.
+	 *
+	 * @since 0.0.2 ~2026.10.17
+	 */
+	public static final int ERROR_TYPE = Integer.MIN_VALUE + 4;
+	/**
+	 * The type of the footer slot.
+	 *
+	 * @since 0.0.2 ~2026.10.17
+	 */
+	public static final int FOOTER_TYPE = Integer.MIN_VALUE + 2;
+	/**
+	 * The type of the header slot.
+	 *
+	 * @since 0.0.2 ~2026.10.17
+	 */
+	public static final int HEADER_TYPE = Integer.MIN_VALUE + 1;
+	/**
+	 * The type of the loading slot.
+	 *
+	 * @since 0.0.2 ~2026.10.17
+	 */
+	public static final int LOADING_TYPE = Integer.MIN_VALUE + 3;
+	/**
+	 * The type of the positions holding a {@link Placeholder}.
+	 *
+	 * @since 0.0.2 ~2026.10.17
+	 */
+	public static final int PLACEHOLDER_TYPE = Integer.MIN_VALUE;
+	/**
+	 * The status showing the error slot after the items.
+	 *
+	 * @since 0.0.2 ~2026.10.17
+	 */
+	public static final int STATUS_ERROR = 2;
+	/**
+	 * The status showing the loading slot after the items.
+	 *
+	 * @since 0.0.2 ~2026.10.17
+	 */
+	public static final int STATUS_LOADING = 1;
+	/**
+	 * The status showing no slot after the items.
+	 *
+	 * @since 0.0.2 ~2026.10.17
+	 */
+	public static final int STATUS_NONE = 0;
+
+	/**
+	 * The default executor used to perform background work (like diffing).
+	 *
+	 * @since 0.0.2 ~2026.10.17
+	 */
+	@NotNull
+	protected static final Executor DEFAULT_EXECUTOR = Executors.newSingleThreadExecutor(runnable -> {
+		Thread thread = new Thread(runnable, "InfiniteRecyclerViewAdapter");
+		thread.setDaemon(true);
+		return thread;
+	});
+
+	/**
+	 * The callback collecting (and merging) the changes while batching.
+	 *
+	 * @since 0.0.2 ~2026.10.17
+	 */
+	@NotNull
+	protected final BatchingListUpdateCallback batchingCallback;
+	/**
+	 * The callback flushing the batched changes on the next frame.
+	 *
+	 * @since 0.0.2 ~2026.10.17
+	 */
+	@NotNull
+	protected final Choreographer.FrameCallback frameCallback;
+	/**
+	 * The idle handler pre-creating view holders while the main thread is idle.
+	 *
+	 * @since 0.0.2 ~2026.10.17
+	 */
+	@NotNull
+	protected final MessageQueue.IdleHandler idleHandler;
+	/**
+	 * The layouts of the types set by {@link #setItemAutoViewHolderBinder(int, int,
+	 * ViewHolderBinder)}. ({@code type -> layout})
+	 *
+	 * @since 0.0.2 ~2026.10.17
+	 */
+	@NotNull
+	protected final SparseIntArray autoLayouts = new SparseIntArray();
+	/**
+	 * The types resolved for the classes of the items. Includes the classes that resolved
+	 * to no type. ({@code class -> type or null}, main thread only)
+	 *
+	 * @since 0.0.2 ~2026.10.17
+	 */
+	@NotNull
+	protected final Map<@NotNull Class<?>, @Nullable Integer> classTypeCache = new HashMap<>();
+	/**
+	 * The types registered for classes. ({@code class -> type})
+	 *
+	 * @since 0.0.2 ~2026.10.17
+	 */
+	@NotNull
+	protected final Map<@NotNull Class<?>, @NotNull Integer> classTypes = new HashMap<>();
+	/**
+	 * The changes collected while batching. Dispatched (in order) when the batch is
+	 * flushed.
+	 *
+	 * @since 0.0.2 ~2026.10.17
+	 */
+	@NotNull
+	protected final List<ItemStore.@NotNull Change> batch = new ArrayList<>();
 	/**
 	 * The items.
 	 *
 	 * @since 0.0.1~2021.04.06
 	 */
 	@NotNull
-	protected final List<Object> items;
+	protected final ItemStore items;
+	/**
+	 * The callback receiving the changes of the items. Dispatches the changes directly or
+	 * through the batching callback when batching.
+	 *
+	 * @since 0.0.2 ~2026.10.17
+	 */
+	@NotNull
+	protected final ListUpdateCallback listUpdateCallback;
 	/**
 	 * The native on scroll listener.
 	 *
@@ -62,26 +207,135 @@ public class InfiniteRecyclerViewAdapter extends RecyclerView.Adapter<RecyclerVi
 	@NotNull
 	protected final RecyclerView.OnScrollListener onScrollListener;
 	/**
-	 * The listeners to be invoked when a scroll occurs.
+	 * The declared capacities of the recycled view pool. ({@code type -> capacity})
 	 *
-	 * @since 0.0.1 ~2021.04.06
+	 * @since 0.0.2 ~2026.10.17
+	 */
+	@NotNull
+	protected final SparseIntArray poolCapacities = new SparseIntArray();
+	/**
+	 * The number of view holders to pre-create for each type. ({@code type -> count})
+	 *
+	 * @since 0.0.2 ~2026.10.17
+	 */
+	@NotNull
+	protected final SparseIntArray prewarmCounts = new SparseIntArray();
+	/**
+	 * The flyweight the rows of the compact tables in the items are decoded into. (on the
+	 * main thread)
+	 *
+	 * @since 0.0.2 ~2026.10.17
+	 */
+	@NotNull
+	protected final CompactTable.Row row = new CompactTable.Row();
+	/**
+	 * The callback notifying this adapter with the changes.
+	 *
+	 * @since 0.0.2 ~2026.10.17
 	 */
 	@NotNull
-	protected final Set<@NotNull OnScrollListener> onScrollListeners = new HashSet<>();
+	protected final ListUpdateCallback updateCallback;
 	/**
-	 * A map mapping item types with their on-bind-listener.
+	 * A registry mapping item types with their on-bind-listener.
 	 *
 	 * @since 0.0.1 ~2021.04.06
 	 */
 	@NotNull
-	protected final Map<@NotNull Integer, @NotNull ViewHolderBinder> viewHolderBinders = new HashMap<>();
+	protected final ViewTypeRegistry<@NotNull ViewHolderBinder> viewHolderBinders = new ViewTypeRegistry<>();
 	/**
-	 * A map mapping item types with their on-create-listener.
+	 * A registry mapping item types with their on-create-listener.
 	 *
 	 * @since 0.0.1 ~2021.04.06
 	 */
 	@NotNull
-	protected final Map<@NotNull Integer, @NotNull ViewHolderSupplier> viewHolderSuppliers = new HashMap<>();
+	protected final ViewTypeRegistry<@NotNull ViewHolderSupplier> viewHolderSuppliers = new ViewTypeRegistry<>();
+	/**
+	 * A reusable buffer for the resolved visible range. ({@code [first, last,
+	 * spanCount]})
+	 *
+	 * @since 0.0.2 ~2026.10.17
+	 */
+	protected final int @NotNull [] visibleRange = new int[3];
+	/**
+	 * True, if the visible items should be kept in place when items get inserted before
+	 * them.
+	 *
+	 * @since 0.0.2 ~2026.10.17
+	 */
+	protected boolean anchoring;
+	/**
+	 * The inflater to inflate the layouts of the auto view holders with. (null to inflate
+	 * synchronously)
+	 *
+	 * @since 0.0.2 ~2026.10.17
+	 */
+	@Nullable
+	protected AsyncViewInflater asyncViewInflater;
+	/**
+	 * How many explicit batches are currently open.
+	 *
+	 * @since 0.0.2 ~2026.10.17
+	 */
+	protected int batchDepth;
+	/**
+	 * True, if the changes should be batched and flushed once per frame.
+	 *
+	 * @since 0.0.2 ~2026.10.17
+	 */
+	protected boolean batching;
+	/**
+	 * The latest snapshot received while batching. Becomes the current snapshot when the
+	 * batch is flushed.
+	 *
+	 * @since 0.0.2 ~2026.10.17
+	 */
+	@Nullable
+	protected ItemStore.Snapshot batchSnapshot;
+	/**
+	 * How many changes were received.
+	 *
+	 * @since 0.0.2 ~2026.10.17
+	 */
+	protected long eventCount;
+	/**
+	 * The executor to perform background work (like diffing) with.
+	 *
+	 * @since 0.0.2 ~2026.10.17
+	 */
+	@NotNull
+	protected Executor executor = InfiniteRecyclerViewAdapter.DEFAULT_EXECUTOR;
+	/**
+	 * True, if the frame callback is currently posted.
+	 *
+	 * @since 0.0.2 ~2026.10.17
+	 */
+	protected boolean framePosted;
+	/**
+	 * True, if the footer slot is shown.
+	 *
+	 * @since 0.0.2 ~2026.10.17
+	 */
+	protected boolean footer;
+	/**
+	 * The number of slots before the items. ({@code 1} if the header slot is shown, {@code
+	 * 0} otherwise)
+	 *
+	 * @since 0.0.2 ~2026.10.17
+	 */
+	protected int headerCount;
+	/**
+	 * True, if the idle handler is currently registered.
+	 *
+	 * @since 0.0.2 ~2026.10.17
+	 */
+	protected boolean idlePosted;
+	/**
+	 * The extractor of the stable ids of the items. (or null if the ids are not stable)
+	 *
+	 * @since 0.0.2 ~2026.10.17
+	 */
+	@Nullable
+	protected ItemIdExtractor itemIdExtractor;
 	/**
 	 * The supplier that return the type of the item at the position given to it.
 	 *
@@ -89,6 +343,56 @@ public class InfiniteRecyclerViewAdapter extends RecyclerView.Adapter<RecyclerVi
 	 */
 	@NotNull
 	protected ItemViewTypeSupplier itemViewTypeSupplier = (count, position) -> 0;
+	/**
+	 * The controller loading more items when scrolling near the end. (or null if no
+	 * controller was set)
+	 *
+	 * @since 0.0.2 ~2026.10.17
+	 */
+	@Nullable
+	protected LoadMoreController loadMoreController;
+	/**
+	 * The listener to report the metrics to. (or null if disabled)
+	 *
+	 * @since 0.0.2 ~2026.10.17
+	 */
+	@Nullable
+	protected MetricsListener metricsListener;
+	/**
+	 * The next type to be assigned by {@link #register(Class, int, ViewHolderBinder)}.
+	 *
+	 * @since 0.0.2 ~2026.10.17
+	 */
+	protected int nextAutoType = InfiniteRecyclerViewAdapter.AUTO_TYPE_BASE;
+	/**
+	 * How many notifications were dispatched to this adapter.
+	 *
+	 * @since 0.0.2 ~2026.10.17
+	 */
+	protected long notifyCount;
+	/**
+	 * The listener to be invoked when a placeholder gets bound. (or null if none)
+	 *
+	 * @since 0.0.2 ~2026.10.17
+	 */
+	@Nullable
+	protected OnPlaceholderBoundListener onPlaceholderBoundListener;
+	/**
+	 * The listeners to be invoked when a scroll occurs. Replaced (never modified) on
+	 * every addition or removal, so the dispatch can iterate it without allocating.
+	 *
+	 * @since 0.0.1 ~2021.04.06
+	 */
+	@NotNull
+	protected volatile OnScrollListener @NotNull [] onScrollListeners = new OnScrollListener[0];
+	/**
+	 * The cache of the precomputed bind data of the items. (or null if no precomputer was
+	 * set)
+	 *
+	 * @since 0.0.2 ~2026.10.17
+	 */
+	@Nullable
+	protected volatile PrecomputeCache precomputeCache;
 	/**
 	 * The adopted recycler view.
 	 *
@@ -96,6 +400,99 @@ public class InfiniteRecyclerViewAdapter extends RecyclerView.Adapter<RecyclerVi
 	 */
 	@Nullable
 	protected RecyclerView recyclerView;
+	/**
+	 * The items count when the last scroll was dispatched.
+	 *
+	 * @since 0.0.2 ~2026.10.17
+	 */
+	protected int scrollCount = -1;
+	/**
+	 * The first visible position when the last scroll was dispatched.
+	 *
+	 * @since 0.0.2 ~2026.10.17
+	 */
+	protected int scrollFirst = -1;
+	/**
+	 * The last visible position when the last scroll was dispatched.
+	 *
+	 * @since 0.0.2 ~2026.10.17
+	 */
+	protected int scrollLast = -1;
+	/**
+	 * The time (uptime millis) when the last scroll was dispatched.
+	 *
+	 * @since 0.0.2 ~2026.10.17
+	 */
+	protected long scrollTime;
+	/**
+	 * The smoothed scrolling velocity (items per second) when the last scroll was
+	 * dispatched. Positive towards the end, negative towards the start.
+	 *
+	 * @since 0.0.2 ~2026.10.17
+	 */
+	protected float scrollVelocity;
+	/**
+	 * The snapshot of the items currently presented by this adapter. Only accessed on the
+	 * main thread.
+	 *
+	 * @since 0.0.2 ~2026.10.17
+	 */
+	@NotNull
+	protected ItemStore.Snapshot snapshot = ItemStore.Snapshot.EMPTY;
+	/**
+	 * The number of spans (items per row) of the layout manager when the last scroll
+	 * occurred.
+	 *
+	 * @since 0.0.2 ~2026.10.17
+	 */
+	protected int spanCount = 1;
+	/**
+	 * The current status. ({@link #STATUS_NONE}, {@link #STATUS_LOADING} or {@link
+	 * #STATUS_ERROR})
+	 *
+	 * @since 0.0.2 ~2026.10.17
+	 */
+	protected int status = InfiniteRecyclerViewAdapter.STATUS_NONE;
+	/**
+	 * The item bound to the status slot. (like the error)
+	 *
+	 * @since 0.0.2 ~2026.10.17
+	 */
+	@Nullable
+	protected Object statusItem;
+	/**
+	 * The cached types of the positions of {@link #typeCacheSnapshot}. Only valid at the
+	 * positions where {@link #typeCacheStamps} equals {@link #typeCacheStamp}.
+	 *
+	 * @since 0.0.2 ~2026.10.17
+	 */
+	protected int @NotNull [] typeCache = new int[0];
+	/**
+	 * The snapshot the cached types are for.
+	 *
+	 * @since 0.0.2 ~2026.10.17
+	 */
+	@Nullable
+	protected ItemStore.Snapshot typeCacheSnapshot;
+	/**
+	 * The current stamp of the cached types. Incremented to invalidate all of them.
+	 *
+	 * @since 0.0.2 ~2026.10.17
+	 */
+	protected int typeCacheStamp;
+	/**
+	 * The stamps of the cached types.
+	 *
+	 * @since 0.0.2 ~2026.10.17
+	 */
+	protected int @NotNull [] typeCacheStamps = new int[0];
+	/**
+	 * The resolver of the visible range of the layout manager.
+	 *
+	 * @since 0.0.2 ~2026.10.17
+	 */
+	@NotNull
+	protected VisibleRangeResolver visibleRangeResolver = new DefaultVisibleRangeResolver();
 
 	/**
 	 * Construct a new infinite recycler view adapter.
@@ -106,62 +503,181 @@ public class InfiniteRecyclerViewAdapter extends RecyclerView.Adapter<RecyclerVi
 					   "OverlyComplexAnonymousInnerClass"
 	})
 	public InfiniteRecyclerViewAdapter() {
-		ObservableList<Object> items = new ObservableArrayList<>();
-		items.addOnListChangedCallback(new ObservableList.OnListChangedCallback<ObservableList<Object>>() {
+		this.updateCallback = new ListUpdateCallback() {
 			@Override
-			public void onChanged(ObservableList<Object> sender) {
-				InfiniteRecyclerViewAdapter.this.notifyDataSetChanged();
+			public void onChanged(int position, int count, @Nullable Object payload) {
+				InfiniteRecyclerViewAdapter.this.notifyCount++;
+				InfiniteRecyclerViewAdapter.this.onNotified(ItemStore.Change.CHANGED, count);
+				int offset = InfiniteRecyclerViewAdapter.this.headerCount;
+
+				if (count == 1)
+					InfiniteRecyclerViewAdapter.this.notifyItemChanged(offset + position, payload);
+				else
+					InfiniteRecyclerViewAdapter.this.notifyItemRangeChanged(offset + position, count, payload);
 			}
 
 			@Override
-			public void onItemRangeChanged(ObservableList<Object> sender, int positionStart, int itemCount) {
-				if (itemCount == 1)
-					InfiniteRecyclerViewAdapter.this.notifyItemChanged(positionStart);
-				else
-					InfiniteRecyclerViewAdapter.this.notifyItemRangeChanged(positionStart, itemCount);
+			public void onInserted(int position, int count) {
+				InfiniteRecyclerViewAdapter.this.notifyCount++;
+				InfiniteRecyclerViewAdapter.this.onNotified(ItemStore.Change.INSERTED, count);
+				InfiniteRecyclerViewAdapter.this.notifyInserted(InfiniteRecyclerViewAdapter.this.headerCount + position, count);
 			}
 
 			@Override
-			public void onItemRangeInserted(ObservableList<Object> sender, int positionStart, int itemCount) {
-				if (itemCount == 1)
-					InfiniteRecyclerViewAdapter.this.notifyItemInserted(positionStart);
-				else
-					InfiniteRecyclerViewAdapter.this.notifyItemRangeInserted(positionStart, itemCount);
+			public void onMoved(int fromPosition, int toPosition) {
+				InfiniteRecyclerViewAdapter.this.notifyCount++;
+				InfiniteRecyclerViewAdapter.this.onNotified(ItemStore.Change.MOVED, 1);
+				int offset = InfiniteRecyclerViewAdapter.this.headerCount;
+
+				InfiniteRecyclerViewAdapter.this.notifyItemMoved(offset + fromPosition, offset + toPosition);
 			}
 
 			@Override
-			public void onItemRangeMoved(ObservableList<Object> sender, int fromPosition, int toPosition, int itemCount) {
-				if (itemCount == 1)
-					InfiniteRecyclerViewAdapter.this.notifyItemMoved(fromPosition, toPosition);
+			public void onRemoved(int position, int count) {
+				InfiniteRecyclerViewAdapter.this.notifyCount++;
+				InfiniteRecyclerViewAdapter.this.onNotified(ItemStore.Change.REMOVED, count);
+				int offset = InfiniteRecyclerViewAdapter.this.headerCount;
+
+				if (count == 1)
+					InfiniteRecyclerViewAdapter.this.notifyItemRemoved(offset + position);
 				else
-					InfiniteRecyclerViewAdapter.this.notifyDataSetChanged();
+					InfiniteRecyclerViewAdapter.this.notifyItemRangeRemoved(offset + position, count);
+			}
+		};
+		this.batchingCallback = new BatchingListUpdateCallback(new ListUpdateCallback() {
+			@Override
+			public void onChanged(int position, int count, @Nullable Object payload) {
+				List<ItemStore.Change> batch = InfiniteRecyclerViewAdapter.this.batch;
+				int last = batch.size() - 1;
+
+				if (last >= 0) {
+					ItemStore.Change previous = batch.get(last);
+
+					//merge with a change of the same range
+					if (previous.kind == ItemStore.Change.CHANGED &&
+						previous.position == position &&
+						previous.count == count) {
+						if (previous.payload == null || previous.payload.equals(payload))
+							//already a full rebind (or the same partial rebind)
+							return;
+						if (payload == null) {
+							//a full rebind covers the partial rebind
+							batch.set(last, ItemStore.Change.changed(position, count));
+							return;
+						}
+					}
+				}
+
+				batch.add(ItemStore.Change.changed(position, count, payload));
 			}
 
 			@Override
-			public void onItemRangeRemoved(ObservableList<Object> sender, int positionStart, int itemCount) {
-				if (itemCount == 1)
-					InfiniteRecyclerViewAdapter.this.notifyItemRemoved(positionStart);
-				else
-					InfiniteRecyclerViewAdapter.this.notifyItemRangeRemoved(positionStart, itemCount);
+			public void onInserted(int position, int count) {
+				InfiniteRecyclerViewAdapter.this.batch.add(ItemStore.Change.inserted(position, count));
+			}
+
+			@Override
+			public void onMoved(int fromPosition, int toPosition) {
+				InfiniteRecyclerViewAdapter.this.batch.add(ItemStore.Change.moved(fromPosition, toPosition));
+			}
+
+			@Override
+			public void onRemoved(int position, int count) {
+				InfiniteRecyclerViewAdapter.this.batch.add(ItemStore.Change.removed(position, count));
+			}
+		});
+		this.listUpdateCallback = new ListUpdateCallback() {
+			@Override
+			public void onChanged(int position, int count, @Nullable Object payload) {
+				InfiniteRecyclerViewAdapter.this.eventCount++;
+
+				if (InfiniteRecyclerViewAdapter.this.isBatched()) {
+					InfiniteRecyclerViewAdapter.this.batchingCallback.onChanged(position, count, payload);
+					InfiniteRecyclerViewAdapter.this.scheduleBatch();
+				} else
+					InfiniteRecyclerViewAdapter.this.updateCallback.onChanged(position, count, payload);
+			}
+
+			@Override
+			public void onInserted(int position, int count) {
+				InfiniteRecyclerViewAdapter.this.eventCount++;
+
+				if (InfiniteRecyclerViewAdapter.this.isBatched()) {
+					InfiniteRecyclerViewAdapter.this.batchingCallback.onInserted(position, count);
+					InfiniteRecyclerViewAdapter.this.scheduleBatch();
+				} else
+					InfiniteRecyclerViewAdapter.this.updateCallback.onInserted(position, count);
+			}
+
+			@Override
+			public void onMoved(int fromPosition, int toPosition) {
+				InfiniteRecyclerViewAdapter.this.eventCount++;
+
+				if (InfiniteRecyclerViewAdapter.this.isBatched()) {
+					InfiniteRecyclerViewAdapter.this.batchingCallback.onMoved(fromPosition, toPosition);
+					InfiniteRecyclerViewAdapter.this.scheduleBatch();
+				} else
+					InfiniteRecyclerViewAdapter.this.updateCallback.onMoved(fromPosition, toPosition);
+			}
+
+			@Override
+			public void onRemoved(int position, int count) {
+				InfiniteRecyclerViewAdapter.this.eventCount++;
+
+				if (InfiniteRecyclerViewAdapter.this.isBatched()) {
+					InfiniteRecyclerViewAdapter.this.batchingCallback.onRemoved(position, count);
+					InfiniteRecyclerViewAdapter.this.scheduleBatch();
+				} else
+					InfiniteRecyclerViewAdapter.this.updateCallback.onRemoved(position, count);
+			}
+		};
+		this.frameCallback = frameTimeNanos -> {
+			this.framePosted = false;
+
+			if (this.batchDepth == 0)
+				this.flushBatch();
+		};
+		this.idleHandler = () -> {
+			if (this.prewarm())
+				//keep the handler, more holders to be created
+				return true;
+
+			this.idlePosted = false;
+			return false;
+		};
+
+		this.items = new ItemStore(new ItemStore.Observer() {
+			@Override
+			public void onPublished(@NotNull ItemStore.Snapshot snapshot, @NotNull ItemStore.Change change) {
+				InfiniteRecyclerViewAdapter.this.onPublished(snapshot, change);
+			}
+
+			@Override
+			public void onWritten(@NotNull ItemStore.Snapshot snapshot, @NotNull ItemStore.Change change) {
+				InfiniteRecyclerViewAdapter.this.precompute(snapshot, change);
 			}
 		});
-		this.items = Collections.synchronizedList(items);
 		this.onScrollListener = new RecyclerView.OnScrollListener() {
 			@Override
 			public void onScrolled(@NotNull RecyclerView recyclerView, int dx, int dy) {
 				RecyclerView.LayoutManager manager = recyclerView.getLayoutManager();
+				int[] range = InfiniteRecyclerViewAdapter.this.visibleRange;
 
-				//only using linear layout manager
-				if (manager instanceof LinearLayoutManager) {
-					LinearLayoutManager linearLayoutManager = (LinearLayoutManager) manager;
+				if (manager != null && InfiniteRecyclerViewAdapter.this.visibleRangeResolver.resolveVisibleRange(manager, range)) {
+					//the listeners see the positions of the items (without the slots)
+					int header = InfiniteRecyclerViewAdapter.this.headerCount;
+					int count = InfiniteRecyclerViewAdapter.this.snapshot.size();
 
-					int count = manager.getItemCount();
-					int first = linearLayoutManager.findFirstVisibleItemPosition();
-					int last = linearLayoutManager.findLastVisibleItemPosition();
+					InfiniteRecyclerViewAdapter.this.setSpanCount(Math.max(1, range[2]));
 
-					InfiniteRecyclerViewAdapter.this.onScrollListeners.forEach(listener ->
-							listener.onScroll(count, first, last)
-					);
+					//no visible item, nothing to dispatch
+					if (count == 0 || range[0] < 0 || range[1] < 0)
+						return;
+
+					int first = Math.max(0, Math.min(count - 1, range[0] - header));
+					int last = Math.max(first, Math.min(count - 1, range[1] - header));
+
+					InfiniteRecyclerViewAdapter.this.dispatchScroll(count, first, last, dx + dy);
 				}
 			}
 		};
@@ -170,51 +686,146 @@ public class InfiniteRecyclerViewAdapter extends RecyclerView.Adapter<RecyclerVi
 	@Range(from = 0, to = Integer.MAX_VALUE)
 	@Override
 	public int getItemCount() {
-		//the `this.items` will never be null and is the items holder
-		return this.items.size();
+		//the `this.snapshot` is the presented version of the items
+		return this.headerCount + this.snapshot.size() + this.trailerCount();
 	}
 
 	@Override
-	public int getItemViewType(@Range(from = 0, to = Integer.MAX_VALUE) int position) {
-		return this.itemViewTypeSupplier.getItemViewType(this.getItemCount(), position);
+	public long getItemId(@Range(from = 0, to = Integer.MAX_VALUE) int position) {
+		ItemIdExtractor extractor = this.itemIdExtractor;
+
+		if (extractor == null)
+			return RecyclerView.NO_ID;
+
+		int index = position - this.headerCount;
+
+		if (index < 0 || index >= this.snapshot.size())
+			//the slots, keep them apart from the ids of the items and the placeholders
+			return Long.MIN_VALUE + (1L << 32) + ((long) this.slotType(position) - Integer.MIN_VALUE);
+
+		Object item = this.snapshot.get(index, this.row);
+
+		if (item instanceof Placeholder)
+			//placeholders have no identity, keep them apart from the ids of the items
+			return Long.MIN_VALUE + index;
+
+		return extractor.getItemId(item);
 	}
 
 	@Override
-	public void onAttachedToRecyclerView(@NotNull RecyclerView recyclerView) {
-		Objects.requireNonNull(recyclerView, "recyclerView");
-		this.recyclerView = recyclerView;
-		recyclerView.addOnScrollListener(this.onScrollListener);
+	public int getItemViewType(@Range(from = 0, to = Integer.MAX_VALUE) int adapterPosition) {
+		ItemStore.Snapshot snapshot = this.snapshot;
+		int position = adapterPosition - this.headerCount;
+
+		if (position < 0 || position >= snapshot.size())
+			return this.slotType(adapterPosition);
+
+		if (this.typeCacheSnapshot != snapshot) {
+			//new items, the cached types are no longer valid
+			this.typeCacheSnapshot = snapshot;
+			this.invalidateTypeCache();
+
+			if (this.typeCache.length < snapshot.size()) {
+				int capacity = Math.max(snapshot.size(), this.typeCache.length << 1);
+
+				this.typeCache = new int[capacity];
+				this.typeCacheStamps = new int[capacity];
+			}
+		}
+		if (this.typeCacheStamps[position] == this.typeCacheStamp)
+			return this.typeCache[position];
+
+		Object item = snapshot.get(position, this.row);
+		int type;
+
+		if (item instanceof Placeholder)
+			type = InfiniteRecyclerViewAdapter.PLACEHOLDER_TYPE;
+		else {
+			Integer classType = item == null || this.classTypes.isEmpty() ? null : this.resolveType(item.getClass());
+
+			type = classType != null ?
+				   classType :
+				   this.itemViewTypeSupplier.getItemViewType(snapshot.size(), position);
+		}
+
+		this.typeCache[position] = type;
+		this.typeCacheStamps[position] = this.typeCacheStamp;
+		return type;
+	}
+
+	@Override
+	public void onAttachedToRecyclerView(@NotNull RecyclerView recyclerView) {
+		Objects.requireNonNull(recyclerView, "recyclerView");
+		this.recyclerView = recyclerView;
+		recyclerView.addOnScrollListener(this.onScrollListener);
+		this.configurePool();
+		this.schedulePrewarm();
+		this.prefetchLayouts();
 	}
 
 	@Override
 	public void onBindViewHolder(@NotNull RecyclerView.ViewHolder holder, @Range(from = 0, to = Integer.MAX_VALUE) int position) {
+		this.onBindViewHolder(holder, position, Collections.emptyList());
+	}
+
+	@Override
+	public void onBindViewHolder(@NotNull RecyclerView.ViewHolder holder, @Range(from = 0, to = Integer.MAX_VALUE) int position, @NotNull List<@Nullable Object> payloads) {
 		Objects.requireNonNull(holder, "holder");
-		int type = this.getItemViewType(position);
-		ViewHolderBinder binder = this.viewHolderBinders.get(type);
+		Objects.requireNonNull(payloads, "payloads");
+		MetricsListener listener = this.metricsListener;
+
+		if (listener == null) {
+			this.bindViewHolder(holder, position, payloads);
+			return;
+		}
 
-		if (binder != null) {
-			Object item = this.items.get(position);
+		Trace.beginSection("InfiniteRecyclerViewAdapter.bind");
+		long start = System.nanoTime();
 
-			binder.onBindViewHolder(holder, item);
+		try {
+			this.bindViewHolder(holder, position, payloads);
+		} finally {
+			Trace.endSection();
 		}
+
+		listener.onViewHolderBound(holder.getItemViewType(), System.nanoTime() - start);
 	}
 
 	@NotNull
 	@Override
 	public RecyclerView.ViewHolder onCreateViewHolder(@NotNull ViewGroup parent, int viewType) {
-		ViewHolderSupplier supplier = this.viewHolderSuppliers.get(viewType);
+		MetricsListener listener = this.metricsListener;
 
-		if (supplier != null)
-			return supplier.onCreateViewHolder(parent);
+		if (listener == null)
+			return this.supplyViewHolder(parent, viewType);
 
-		throw new IllegalArgumentException("No supplier for type: " + viewType);
+		Trace.beginSection("InfiniteRecyclerViewAdapter.create");
+		long start = System.nanoTime();
+		RecyclerView.ViewHolder holder;
+
+		try {
+			holder = this.supplyViewHolder(parent, viewType);
+		} finally {
+			Trace.endSection();
+		}
+
+		listener.onViewHolderCreated(viewType, System.nanoTime() - start);
+		return holder;
 	}
 
 	@Override
 	public void onDetachedFromRecyclerView(@NotNull RecyclerView recyclerView) {
 		Objects.requireNonNull(recyclerView, "recyclerView");
 		this.recyclerView = null;
+		this.scrollCount = -1;
+		this.scrollFirst = -1;
+		this.scrollLast = -1;
 		recyclerView.removeOnScrollListener(this.onScrollListener);
+
+		if (this.idlePosted) {
+			this.idlePosted = false;
+			Looper.getMainLooper().getQueue().removeIdleHandler(this.idleHandler);
+		}
 	}
 
 	/**
@@ -226,136 +837,1182 @@ public class InfiniteRecyclerViewAdapter extends RecyclerView.Adapter<RecyclerVi
 	 */
 	public void addOnScrollListener(OnScrollListener listener) {
 		Objects.requireNonNull(listener, "listener");
-		this.onScrollListeners.add(listener);
+		synchronized (this.onScrollListener) {
+			OnScrollListener[] listeners = this.onScrollListeners;
+
+			for (OnScrollListener l : listeners)
+				if (l.equals(listener))
+					return;
+
+			listeners = Arrays.copyOf(listeners, listeners.length + 1);
+			listeners[listeners.length - 1] = listener;
+			this.onScrollListeners = listeners;
+		}
+	}
+
+	/**
+	 * Open a batch. The changes of the items will be collected and merged until the
+	 * batch is closed by {@link #endBatch()}. Batches can be nested. Must be invoked on
+	 * the main thread.
+	 *
+	 * @since 0.0.2 ~2026.10.17
+	 */
+	public void beginBatch() {
+		this.batchDepth++;
+	}
+
+	/**
+	 * Close the last opened batch. If it was the outermost batch, the collected changes
+	 * will be dispatched immediately. Must be invoked on the main thread.
+	 *
+	 * @throws IllegalStateException if no batch is open.
+	 * @since 0.0.2 ~2026.10.17
+	 */
+	public void endBatch() {
+		if (this.batchDepth == 0)
+			throw new IllegalStateException("No batch to end");
+		if (--this.batchDepth == 0)
+			this.flushBatch();
+	}
+
+	/**
+	 * Dispatch the changes collected so far. Must be invoked on the main thread.
+	 *
+	 * @since 0.0.2 ~2026.10.17
+	 */
+	public void flushBatch() {
+		if (this.framePosted) {
+			this.framePosted = false;
+			Choreographer.getInstance().removeFrameCallback(this.frameCallback);
+		}
+
+		this.batchingCallback.dispatchLastEvent();
+
+		if (this.batchSnapshot != null) {
+			this.snapshot = this.batchSnapshot;
+			this.batchSnapshot = null;
+		}
+
+		for (ItemStore.Change change : this.batch)
+			change.dispatchTo(this.updateCallback);
+
+		this.batch.clear();
+	}
+
+	/**
+	 * Freeze the binders and suppliers of this adapter once the setup is done. Any further
+	 * attempt to set a binder or a supplier will throw an {@link IllegalStateException}.
+	 *
+	 * @since 0.0.2 ~2026.10.17
+	 */
+	public void freeze() {
+		this.viewHolderBinders.freeze();
+		this.viewHolderSuppliers.freeze();
+	}
+
+	/**
+	 * Return how many notifications were saved by merging the changes while batching.
+	 *
+	 * @return how many notifications were saved.
+	 * @since 0.0.2 ~2026.10.17
+	 */
+	@Range(from = 0, to = Long.MAX_VALUE)
+	public long getSavedNotificationCount() {
+		return this.eventCount - this.notifyCount;
+	}
+
+	/**
+	 * Return the number of spans (items per row) of the layout manager when the last
+	 * scroll occurred.
+	 *
+	 * @return the number of spans.
+	 * @since 0.0.2 ~2026.10.17
+	 */
+	@Range(from = 1, to = Integer.MAX_VALUE)
+	public int getSpanCount() {
+		return this.spanCount;
+	}
+
+	/**
+	 * Return true if the changes are batched and flushed once per frame.
+	 *
+	 * @return true, if batching is enabled.
+	 * @since 0.0.2 ~2026.10.17
+	 */
+	public boolean isBatching() {
+		return this.batching;
 	}
 
 	/**
 	 * Return the items list of this adapter. Any changes to the list are observed by this
-	 * adapter. The returned list has a synchronized access.
+	 * adapter. The returned list can be changed from any thread. The changes will be
+	 * presented by this adapter on the main thread.
 	 *
 	 * @return the items list of this.
 	 * @since 0.0.1 ~2021.04.09
 	 */
-	public List<Object> items() {
+	public ItemStore items() {
 		return this.items;
 	}
 
 	/**
-	 * Remove the given {@code listener} from observing the recycler view scrolling
-	 * state.
+	 * Register the items of the given {@code klass} (and its subclasses) to be displayed
+	 * in auto view holders of the given {@code layout} and bound with the given {@code
+	 * binder}. A type is assigned automatically, and resolved for each item by its class
+	 * before falling back to the {@link ItemViewTypeSupplier}.
+	 *
+	 * @param klass  the class of the items.
+	 * @param layout the layout of the items.
+	 * @param binder the binder.
+	 * @param <T>    the type of the items.
+	 * @return the type assigned to the given {@code klass}.
+	 * @throws NullPointerException if the given {@code klass} or {@code binder} is null.
+	 * @since 0.0.2 ~2026.10.17
+	 */
+	public <T> int register(@NotNull Class<T> klass, @LayoutRes int layout, @NotNull ViewHolderBinder<AutoViewHolder, T> binder) {
+		Objects.requireNonNull(binder, "binder");
+		int type = this.registerType(klass);
+		this.setItemAutoViewHolderBinder(type, layout, binder);
+		return type;
+	}
+
+	/**
+	 * Register the items of the given {@code klass} (and its subclasses) to be displayed
+	 * in view holders constructed by the given {@code supplier} and bound with the given
+	 * {@code binder}. A type is assigned automatically, and resolved for each item by its
+	 * class before falling back to the {@link ItemViewTypeSupplier}.
+	 *
+	 * @param klass    the class of the items.
+	 * @param supplier the supplier of the view holders.
+	 * @param binder   the binder.
+	 * @param <VH>     the type of the view holders.
+	 * @param <T>      the type of the items.
+	 * @return the type assigned to the given {@code klass}.
+	 * @throws NullPointerException if the given {@code klass} or {@code supplier} or
+	 *                              {@code binder} is null.
+	 * @since 0.0.2 ~2026.10.17
+	 */
+	public <VH extends RecyclerView.ViewHolder, T> int register(@NotNull Class<T> klass, @NotNull ViewHolderSupplier<VH> supplier, @NotNull ViewHolderBinder<VH, T> binder) {
+		Objects.requireNonNull(supplier, "supplier");
+		Objects.requireNonNull(binder, "binder");
+		int type = this.registerType(klass);
+		this.setViewHolderSupplier(type, supplier);
+		this.setViewHolderBinder(type, binder);
+		return type;
+	}
+
+	/**
+	 * Remove the given {@code listener} from observing the recycler view scrolling
+	 * state.
+	 *
+	 * @param listener the listener to be removed.
+	 * @throws NullPointerException if the given {@code listener} is null.
+	 * @since 0.0.1 ~2021.04.08
+	 */
+	public void removeOnScrollListener(OnScrollListener listener) {
+		Objects.requireNonNull(listener, "listener");
+		synchronized (this.onScrollListener) {
+			OnScrollListener[] listeners = this.onScrollListeners;
+
+			for (int i = 0; i < listeners.length; i++)
+				if (listeners[i].equals(listener)) {
+					OnScrollListener[] array = new OnScrollListener[listeners.length - 1];
+					System.arraycopy(listeners, 0, array, 0, i);
+					System.arraycopy(listeners, i + 1, array, i, array.length - i);
+					this.onScrollListeners = array;
+					return;
+				}
+		}
+	}
+
+	/**
+	 * Enable or disable anchoring. When enabled, inserting items before the first visible
+	 * item (like loading older items at the start) keeps the visible items in place
+	 * instead of jumping to the inserted items. Only supported with a {@link
+	 * LinearLayoutManager}.
+	 *
+	 * @param anchoring true, to enable anchoring.
+	 * @since 0.0.2 ~2026.10.17
+	 */
+	public void setAnchoring(boolean anchoring) {
+		this.anchoring = anchoring;
+	}
+
+	/**
+	 * Set the inflater to inflate the layouts of the auto view holders with. The inflater
+	 * keeps views of each layout ready ahead of demand and reports its hits and misses.
+	 *
+	 * @param inflater the inflater to be set. (null to inflate synchronously)
+	 * @since 0.0.2 ~2026.10.17
+	 */
+	public void setAsyncViewInflater(@Nullable AsyncViewInflater inflater) {
+		this.asyncViewInflater = inflater;
+		this.prefetchLayouts();
+	}
+
+	/**
+	 * Enable or disable batching. When enabled, the changes of the items made on the main
+	 * thread will be collected and merged then flushed once per frame. Disabling
+	 * batching will flush the collected changes immediately. Must be invoked on the main
+	 * thread.
+	 *
+	 * @param batching true, to enable batching.
+	 * @since 0.0.2 ~2026.10.17
+	 */
+	public void setBatching(boolean batching) {
+		this.batching = batching;
+
+		if (!batching && this.batchDepth == 0)
+			this.flushBatch();
+	}
+
+	/**
+	 * Set the executor to perform background work (like diffing) with.
+	 *
+	 * @param executor the executor to be set.
+	 * @throws NullPointerException if the given {@code executor} is null.
+	 * @since 0.0.2 ~2026.10.17
+	 */
+	public void setExecutor(@NotNull Executor executor) {
+		Objects.requireNonNull(executor, "executor");
+		this.executor = executor;
+	}
+
+	/**
+	 * Show (or hide) the footer slot after the items (and the status slot). Bound by the
+	 * binder of {@link #FOOTER_TYPE} with a null item. Takes effect immediately without
+	 * closing the current batch. (if any)
+	 *
+	 * @param visible true, to show the footer.
+	 * @since 0.0.2 ~2026.10.17
+	 */
+	public void setFooterVisible(boolean visible) {
+		if (this.footer == visible)
+			return;
+
+		//the slots are not batched. the batched positions are relative to the items, so an
+		//explicit batch stays open. otherwise, the pending changes go first to keep the order
+		if (this.batchDepth == 0)
+			this.flushBatch();
+
+		int position = this.headerCount + this.snapshot.size() + (this.status == InfiniteRecyclerViewAdapter.STATUS_NONE ? 0 : 1);
+		this.footer = visible;
+
+		if (visible)
+			this.notifyItemInserted(position);
+		else
+			this.notifyItemRemoved(position);
+	}
+
+	/**
+	 * Show (or hide) the header slot before the items. Bound by the binder of {@link
+	 * #HEADER_TYPE} with a null item. Takes effect immediately without closing the current
+	 * batch. (if any)
+	 *
+	 * @param visible true, to show the header.
+	 * @since 0.0.2 ~2026.10.17
+	 */
+	public void setHeaderVisible(boolean visible) {
+		if ((this.headerCount == 1) == visible)
+			return;
+
+		if (this.batchDepth == 0)
+			this.flushBatch();
+
+		this.headerCount = visible ? 1 : 0;
+
+		if (visible)
+			this.notifyItemInserted(0);
+		else
+			this.notifyItemRemoved(0);
+	}
+
+	/**
+	 * Set an auto view holder binder for the type {@code 0} with the given {@code
+	 * layout}. No need to call {@link #setViewHolderSupplier(int, ViewHolderSupplier)}.
+	 *
+	 * @param layout the layout to be created for the given {@code type}.
+	 * @param binder the binder.
+	 * @param <T>    the type of the item.
+	 * @throws NullPointerException if the given {@code binder} is null.
+	 * @since 0.0.1 ~2021.04.09
+	 */
+	public <T> void setItemAutoViewHolderBinder(@LayoutRes int layout, ViewHolderBinder<AutoViewHolder, T> binder) {
+		this.setItemAutoViewHolderBinder(0, layout, binder);
+	}
+
+	/**
+	 * Set an auto view holder binder for the given {@code type} with the given {@code
+	 * layout}. No need to call {@link #setViewHolderSupplier(int, ViewHolderSupplier)}.
+	 *
+	 * @param type   the type of items the {@code binder} can bind.
+	 * @param layout the layout to be created for the given {@code type}.
+	 * @param binder the binder.
+	 * @param <T>    the type of the item.
+	 * @throws NullPointerException if the given {@code binder} is null.
+	 * @since 0.0.1 ~2021.04.09
+	 */
+	public <T> void setItemAutoViewHolderBinder(int type, @LayoutRes int layout, ViewHolderBinder<AutoViewHolder, T> binder) {
+		this.setViewHolderSupplier(type, parent -> {
+			AsyncViewInflater inflater = this.asyncViewInflater;
+			View view = inflater == null ?
+						LayoutInflater.from(parent.getContext())
+									  .inflate(layout, parent, false) :
+						inflater.inflate(parent, type, layout);
+			return new AutoViewHolder(view);
+		});
+		this.setViewHolderBinder(type, binder);
+		this.autoLayouts.put(type, layout);
+		this.prefetchLayouts();
+	}
+
+	/**
+	 * Set the extractor of the stable ids of the items. Enables stable ids, so the
+	 * recycler view can keep the identity of the holders of unchanged items (even on a
+	 * full refresh). Must be set before the adapter is attached.
+	 *
+	 * @param extractor the extractor to be set. (null to disable stable ids)
+	 * @param <T>       the type of the items.
+	 * @throws IllegalStateException if the adapter is already attached.
+	 * @since 0.0.2 ~2026.10.17
+	 */
+	public <T> void setItemIdExtractor(@Nullable ItemIdExtractor<T> extractor) {
+		//throws if attached
+		this.setHasStableIds(extractor != null);
+		this.itemIdExtractor = extractor;
+	}
+
+	/**
+	 * Set the given {@code supplier} to be invoked when the adapter needs to know the
+	 * type of a specific position.
+	 *
+	 * @param supplier the supplier to be set.
+	 * @throws NullPointerException if the given {@code supplier} is null.
+	 * @since 0.0.1 ~2021.04.06
+	 */
+	public void setItemViewTypeSupplier(@NotNull ItemViewTypeSupplier supplier) {
+		Objects.requireNonNull(supplier, "supplier");
+		this.itemViewTypeSupplier = supplier;
+		this.invalidateTypeCache();
+	}
+
+	/**
+	 * Set the controller to load more items when scrolling near the end of the items.
+	 * The previous controller (if any) will stop observing the scrolling state.
+	 *
+	 * @param controller the controller to be set. (or null to remove the current
+	 *                   controller)
+	 * @since 0.0.2 ~2026.10.17
+	 */
+	public void setLoadMoreController(@Nullable LoadMoreController controller) {
+		if (this.loadMoreController != null) {
+			this.removeOnScrollListener(this.loadMoreController);
+			this.loadMoreController.adapter = null;
+		}
+
+		this.loadMoreController = controller;
+
+		if (controller != null) {
+			controller.adapter = this;
+			controller.setMetricsListener(this.metricsListener);
+			controller.setSpanCount(this.spanCount);
+			this.addOnScrollListener(controller);
+		}
+	}
+
+	/**
+	 * Set the listener to report the metrics of this adapter (and its load-more
+	 * controller) to. When set, the binds and creates are also wrapped in {@link Trace}
+	 * sections. Nothing is measured when no listener is set.
+	 *
+	 * @param listener the listener. (null to disable the metrics)
+	 * @since 0.0.2 ~2026.10.17
+	 */
+	public void setMetricsListener(@Nullable MetricsListener listener) {
+		this.metricsListener = listener;
+
+		if (this.loadMoreController != null)
+			this.loadMoreController.setMetricsListener(listener);
+	}
+
+	/**
+	 * Set the listener to be invoked when a placeholder gets bound. Used to load the
+	 * items of the placeholders lazily. (see {@link PositionalSource})
+	 *
+	 * @param listener the listener to be set. (null to remove the current one)
+	 * @since 0.0.2 ~2026.10.17
+	 */
+	public void setOnPlaceholderBoundListener(@Nullable OnPlaceholderBoundListener listener) {
+		this.onPlaceholderBoundListener = listener;
+	}
+
+	/**
+	 * Set the capacity of the recycled view pool for the given {@code type}. Feeds with
+	 * many holders of a type on screen at once need more than the {@link
+	 * #DEFAULT_POOL_CAPACITY default} to avoid re-inflating while scrolling.
+	 *
+	 * @param type     the type.
+	 * @param capacity the maximum number of recycled holders of the given {@code type}.
+	 * @throws IllegalArgumentException if the given {@code capacity} is negative.
+	 * @since 0.0.2 ~2026.10.17
+	 */
+	public void setPoolCapacity(int type, @Range(from = 0, to = Integer.MAX_VALUE) int capacity) {
+		if (capacity < 0)
+			throw new IllegalArgumentException("capacity < 0");
+
+		this.poolCapacities.put(type, capacity);
+		this.configurePool();
+	}
+
+	/**
+	 * Set the given {@code binder} to be invoked with the precomputed data of the items
+	 * when the adapter needs to bind a view holder with the given {@code type}. Requires a
+	 * precomputer to be set. The rows of compact tables are precomputed by their {@link
+	 * CompactTable.Ref}s.
+	 *
+	 * @param type   the type of items the {@code binder} can bind.
+	 * @param binder the binder to be invoked.
+	 * @param <VH>   the type of the view holder.
+	 * @param <T>    the type of the item.
+	 * @param <R>    the type of the precomputed data.
+	 * @throws NullPointerException if the given {@code binder} is null.
+	 * @since 0.0.2 ~2026.10.17
+	 */
+	public <VH extends RecyclerView.ViewHolder, T, R> void setPrecomputedBinder(int type, @NotNull PrecomputedBinder<VH, T, R> binder) {
+		Objects.requireNonNull(binder, "binder");
+		this.setViewHolderBinder(type, (VH holder, T item) -> {
+			PrecomputeCache cache = this.precomputeCache;
+
+			if (cache == null)
+				throw new IllegalStateException("No precomputer was set");
+
+			Object key = item instanceof CompactTable.Row ? ((CompactTable.Row) item).ref() : item;
+			R data = key == null || key instanceof Placeholder ? null : (R) cache.get(key);
+			binder.onBindViewHolder(holder, item, data);
+		});
+	}
+
+	/**
+	 * Set the given {@code precomputer} to compute the bind data of the items in the
+	 * background (using the executor of this adapter) when they arrive. The results are
+	 * cached and handed to the binders set by {@link #setPrecomputedBinder(int,
+	 * PrecomputedBinder)}.
+	 *
+	 * @param precomputer the precomputer. (null to remove the current one)
+	 * @param capacity    the maximum number of cached results.
+	 * @param <T>         the type of the items.
+	 * @param <R>         the type of the results.
+	 * @throws IllegalArgumentException if the given {@code capacity} is less than 1.
+	 * @since 0.0.2 ~2026.10.17
+	 */
+	public <T, R> void setPrecomputer(@Nullable Precomputer<T, R> precomputer, @Range(from = 1, to = Integer.MAX_VALUE) int capacity) {
+		this.setPrecomputer(precomputer, this.executor, capacity);
+	}
+
+	/**
+	 * Set the given {@code precomputer} to compute the bind data of the items in the
+	 * background (using the given {@code executor}) when they arrive. The results are
+	 * cached and handed to the binders set by {@link #setPrecomputedBinder(int,
+	 * PrecomputedBinder)}.
+	 *
+	 * @param precomputer the precomputer. (null to remove the current one)
+	 * @param executor    the executor to precompute with.
+	 * @param capacity    the maximum number of cached results.
+	 * @param <T>         the type of the items.
+	 * @param <R>         the type of the results.
+	 * @throws NullPointerException     if the given {@code executor} is null.
+	 * @throws IllegalArgumentException if the given {@code capacity} is less than 1.
+	 * @since 0.0.2 ~2026.10.17
+	 */
+	public <T, R> void setPrecomputer(@Nullable Precomputer<T, R> precomputer, @NotNull Executor executor, @Range(from = 1, to = Integer.MAX_VALUE) int capacity) {
+		Objects.requireNonNull(executor, "executor");
+		this.precomputeCache = precomputer == null ? null : new PrecomputeCache<>(precomputer, executor, capacity);
+
+		if (this.precomputeCache != null)
+			//precompute the current items
+			this.precompute(this.items.snapshot(), ItemStore.Change.reset());
+	}
+
+	/**
+	 * Set the number of view holders of the given {@code type} to be pre-created while
+	 * the main thread is idle, so the first scroll does not inflate them synchronously.
+	 * One holder is created per idle pass. The pool capacity of the type is raised to at
+	 * least the given {@code count}.
+	 *
+	 * @param type  the type.
+	 * @param count the number of holders to keep in the pool. (zero to disable)
+	 * @throws IllegalArgumentException if the given {@code count} is negative.
+	 * @since 0.0.2 ~2026.10.17
+	 */
+	public void setPrewarmCount(int type, @Range(from = 0, to = Integer.MAX_VALUE) int count) {
+		if (count < 0)
+			throw new IllegalArgumentException("count < 0");
+
+		if (count == 0)
+			this.prewarmCounts.delete(type);
+		else
+			this.prewarmCounts.put(type, count);
+
+		this.configurePool();
+		this.schedulePrewarm();
+	}
+
+	/**
+	 * Set the given {@code binder} to be invoked when the adapter needs to bind an item
+	 * to a view holder for the type {@code 0}.
+	 *
+	 * @param binder the binder to be invoked when in need to bind a view holder.
+	 * @param <VH>   the type of the view holder.
+	 * @param <T>    the type of the data of the item.
+	 * @throws NullPointerException if the given {@code binder} is null.
+	 * @since 0.0.1 ~2021.04.06
+	 */
+	public <VH extends RecyclerView.ViewHolder, T> void setViewHolderBinder(@NotNull InfiniteRecyclerViewAdapter.ViewHolderBinder<VH, T> binder) {
+		this.setViewHolderBinder(0, binder);
+	}
+
+	/**
+	 * Set the given {@code binder} to be invoked when the adapter needs to bind an item
+	 * to a view holder with the given {@code type}.
+	 *
+	 * @param type   the type of items the {@code binder} can bind.
+	 * @param binder the binder to be invoked when in need to bind a view holder.
+	 * @param <VH>   the type of the view holder.
+	 * @param <T>    the type of the data of the item.
+	 * @throws NullPointerException  if the given {@code binder} is null.
+	 * @throws IllegalStateException if this adapter is {@link #freeze() frozen}.
+	 * @since 0.0.1 ~2021.04.06
+	 */
+	public <VH extends RecyclerView.ViewHolder, T> void setViewHolderBinder(int type, @NotNull InfiniteRecyclerViewAdapter.ViewHolderBinder<VH, T> binder) {
+		Objects.requireNonNull(binder, "binder");
+		this.viewHolderBinders.put(type, binder);
+	}
+
+	/**
+	 * Set the given {@code supplier} to be invoked when the adapter needs to construct a
+	 * new view holder for the type {@code 0}.
+	 *
+	 * @param supplier the supplier to be invoked.
+	 * @param <VH>     the type of the view holder.
+	 * @throws NullPointerException if the given {@code supplier} is null.
+	 * @since 0.0.1 ~2021.04.06
+	 */
+	public <VH extends RecyclerView.ViewHolder> void setViewHolderSupplier(@NotNull InfiniteRecyclerViewAdapter.ViewHolderSupplier<VH> supplier) {
+		this.setViewHolderSupplier(0, supplier);
+	}
+
+	/**
+	 * Set the given {@code supplier} to be invoked when the adapter needs to construct a
+	 * new view holder for the given {@code type}.
+	 *
+	 * @param type     the type of the view holder.
+	 * @param supplier the supplier to be invoked.
+	 * @param <VH>     the type of the view holder.
+	 * @throws NullPointerException  if the given {@code supplier} is null.
+	 * @throws IllegalStateException if this adapter is {@link #freeze() frozen}.
+	 * @since 0.0.1 ~2021.04.06
+	 */
+	public <VH extends RecyclerView.ViewHolder> void setViewHolderSupplier(int type, @NotNull InfiniteRecyclerViewAdapter.ViewHolderSupplier<VH> supplier) {
+		Objects.requireNonNull(supplier, "supplier");
+		this.viewHolderSuppliers.put(type, supplier);
+		this.autoLayouts.delete(type);
+	}
+
+	/**
+	 * Set the status slot shown after the items. Switching between the loading and the
+	 * error status changes the slot in place. The slot is bound by the binder of {@link
+	 * #LOADING_TYPE} (or {@link #ERROR_TYPE}) with the given {@code item}. Takes effect
+	 * immediately without closing the current batch. (if any)
+	 *
+	 * @param status the status. ({@link #STATUS_NONE}, {@link #STATUS_LOADING} or
+	 *               {@link #STATUS_ERROR})
+	 * @param item   the item to bind the slot with. (like the error)
+	 * @throws IllegalArgumentException if the given {@code status} is not a valid status.
+	 * @since 0.0.2 ~2026.10.17
+	 */
+	public void setStatus(@Range(from = 0, to = 2) int status, @Nullable Object item) {
+		if (status < InfiniteRecyclerViewAdapter.STATUS_NONE || status > InfiniteRecyclerViewAdapter.STATUS_ERROR)
+			throw new IllegalArgumentException("Invalid status: " + status);
+
+		if (this.batchDepth == 0)
+			this.flushBatch();
+
+		int position = this.headerCount + this.snapshot.size();
+		int previous = this.status;
+		this.status = status;
+		this.statusItem = item;
+
+		if (previous == InfiniteRecyclerViewAdapter.STATUS_NONE) {
+			if (status != InfiniteRecyclerViewAdapter.STATUS_NONE)
+				this.notifyItemInserted(position);
+		} else if (status == InfiniteRecyclerViewAdapter.STATUS_NONE)
+			this.notifyItemRemoved(position);
+		else
+			this.notifyItemChanged(position);
+	}
+
+	/**
+	 * Set the resolver to resolve the visible range of the layout manager with. The
+	 * default resolver supports the linear, grid and staggered grid layout managers and
+	 * falls back to scanning the attached children for other layout managers.
+	 *
+	 * @param resolver the resolver to be set.
+	 * @throws NullPointerException if the given {@code resolver} is null.
+	 * @since 0.0.2 ~2026.10.17
+	 */
+	public void setVisibleRangeResolver(@NotNull VisibleRangeResolver resolver) {
+		Objects.requireNonNull(resolver, "resolver");
+		this.visibleRangeResolver = resolver;
+	}
+
+	/**
+	 * Replace the items of this adapter with the given {@code items}. The difference
+	 * between the current items and the given {@code items} is calculated in the
+	 * background using the given {@code differ}. Then, only the minimal changes are
+	 * dispatched on the main thread. The submission is discarded if the items get changed
+	 * (or another submission was made) before the difference got calculated.
+	 *
+	 * @param items  the new items.
+	 * @param differ the differ to compare the items with.
+	 * @param <T>    the type of the items.
+	 * @throws NullPointerException if the given {@code items} or {@code differ} is null.
+	 * @since 0.0.2 ~2026.10.17
+	 */
+	public <T> void submitItems(@NotNull List<? extends T> items, @NotNull ItemDiffer<T> differ) {
+		Objects.requireNonNull(items, "items");
+		Objects.requireNonNull(differ, "differ");
+		this.items.submit(items, differ, this.executor);
+	}
+
+	/**
+	 * Bind the given {@code holder} at the given {@code adapterPosition}. Rebind only the
+	 * parts affected by the given {@code payloads} if its binder is a {@link
+	 * PartialBinder}.
+	 *
+	 * @param holder          the holder to be bound.
+	 * @param adapterPosition the position. (including the slots)
+	 * @param payloads        the payloads of the changes. (empty for a full bind)
+	 * @throws NullPointerException if the given {@code holder} or {@code payloads} is
+	 *                              null.
+	 * @since 0.0.2 ~2026.10.17
+	 */
+	protected void bindViewHolder(@NotNull RecyclerView.ViewHolder holder, @Range(from = 0, to = Integer.MAX_VALUE) int adapterPosition, @NotNull List<@Nullable Object> payloads) {
+		//the type was already computed when the holder was created (or bound)
+		int type = holder.getItemViewType();
+		ViewHolderBinder binder = this.viewHolderBinders.get(type);
+		int position = adapterPosition - this.headerCount;
+
+		if (position < 0 || position >= this.snapshot.size()) {
+			if (binder != null)
+				binder.onBindViewHolder(holder, type == InfiniteRecyclerViewAdapter.LOADING_TYPE ||
+												type == InfiniteRecyclerViewAdapter.ERROR_TYPE ?
+												this.statusItem : null);
+			return;
+		}
+
+		Object item = this.snapshot.get(position, this.row);
+
+		if (!payloads.isEmpty() && binder instanceof PartialBinder) {
+			((PartialBinder) binder).onBindViewHolder(holder, item, payloads);
+			return;
+		}
+		if (item instanceof Placeholder && this.onPlaceholderBoundListener != null)
+			this.onPlaceholderBoundListener.onPlaceholderBound(position);
+		if (binder != null)
+			binder.onBindViewHolder(holder, item);
+	}
+
+	/**
+	 * Apply the declared pool capacities to the recycled view pool of the attached
+	 * recycler view. (if any)
+	 *
+	 * @since 0.0.2 ~2026.10.17
+	 */
+	protected void configurePool() {
+		RecyclerView recyclerView = this.recyclerView;
+
+		if (recyclerView == null)
+			return;
+
+		RecyclerView.RecycledViewPool pool = recyclerView.getRecycledViewPool();
+
+		for (int i = 0, l = this.poolCapacities.size(); i < l; i++) {
+			int type = this.poolCapacities.keyAt(i);
+			int capacity = this.poolCapacities.valueAt(i);
+
+			pool.setMaxRecycledViews(type, Math.max(capacity, this.prewarmCounts.get(type)));
+		}
+		for (int i = 0, l = this.prewarmCounts.size(); i < l; i++) {
+			int type = this.prewarmCounts.keyAt(i);
+			int count = this.prewarmCounts.valueAt(i);
+
+			//only raise the default, never lower it
+			if (this.poolCapacities.get(type, -1) < 0 && count > InfiniteRecyclerViewAdapter.DEFAULT_POOL_CAPACITY)
+				pool.setMaxRecycledViews(type, count);
+		}
+	}
+
+	/**
+	 * Dispatch a scroll to the scroll listeners. Nothing will be dispatched if the given
+	 * {@code count}, {@code first} and {@code last} are the same as the last dispatched
+	 * ones. Must be invoked on the main thread.
+	 *
+	 * @param count how many items in the recycler view.
+	 * @param first the first visible item.
+	 * @param last  the last visible item.
+	 * @param delta the scrolled pixels. (positive towards the end)
+	 * @throws IllegalArgumentException if the given {@code count} is not positive or if
+	 *                                  the given {@code first} or {@code last} is out of
+	 *                                  bounds.
+	 * @since 0.0.2 ~2026.10.17
+	 */
+	protected void dispatchScroll(@Range(from = 1, to = Integer.MAX_VALUE) int count, @Range(from = 0, to = Integer.MAX_VALUE) int first, @Range(from = 0, to = Integer.MAX_VALUE) int last, int delta) {
+		if (count <= 0 || first < 0 || last < first || last >= count)
+			throw new IllegalArgumentException("count: " + count + ", first: " + first + ", last: " + last);
+		if (count == this.scrollCount && first == this.scrollFirst && last == this.scrollLast)
+			return;
+
+		long time = SystemClock.uptimeMillis();
+		//the visible range moves by the leading edge in the direction of the scroll
+		int moved = last > this.scrollLast ? last - this.scrollLast : first - this.scrollFirst;
+		int direction = moved > 0 ? 1 : moved < 0 ? -1 : Integer.signum(delta);
+
+		if (this.scrollFirst >= 0 && first >= 0 && time > this.scrollTime) {
+			float velocity = moved * 1000f / (time - this.scrollTime);
+			//smooth, so a single jumpy frame does not spike the velocity
+			this.scrollVelocity = this.scrollVelocity * 0.5f + velocity * 0.5f;
+		} else
+			this.scrollVelocity = 0;
+
+		this.scrollCount = count;
+		this.scrollFirst = first;
+		this.scrollLast = last;
+		this.scrollTime = time;
+
+		OnScrollListener[] listeners = this.onScrollListeners;
+		for (int i = 0; i < listeners.length; i++)
+			listeners[i].onScroll(count, first, last, direction, this.scrollVelocity);
+	}
+
+	/**
+	 * Invalidate all the cached item types.
+	 *
+	 * @since 0.0.2 ~2026.10.17
+	 */
+	protected void invalidateTypeCache() {
+		if (++this.typeCacheStamp == 0) {
+			//wrapped around, clear the stamps so no stale stamp matches
+			Arrays.fill(this.typeCacheStamps, 0);
+			this.typeCacheStamp = 1;
+		}
+	}
+
+	/**
+	 * Return true if the changes should be collected by the batching callback now.
+	 *
+	 * @return true, if the changes should be batched.
+	 * @since 0.0.2 ~2026.10.17
+	 */
+	protected boolean isBatched() {
+		return this.batching || this.batchDepth > 0;
+	}
+
+	/**
+	 * Notify the insertion of the given range. If anchoring is enabled and the range is
+	 * inserted before the first visible item, the first visible item will be scrolled
+	 * back to its place.
+	 *
+	 * @param position the position of the first inserted item.
+	 * @param count    the number of inserted items.
+	 * @since 0.0.2 ~2026.10.17
+	 */
+	protected void notifyInserted(int position, int count) {
+		RecyclerView recyclerView = this.recyclerView;
+		RecyclerView.LayoutManager manager = recyclerView == null ? null : recyclerView.getLayoutManager();
+
+		if (this.anchoring && manager instanceof LinearLayoutManager) {
+			LinearLayoutManager linearLayoutManager = (LinearLayoutManager) manager;
+			int first = linearLayoutManager.findFirstVisibleItemPosition();
+
+			if (first != RecyclerView.NO_POSITION && position <= first) {
+				View view = linearLayoutManager.findViewByPosition(first);
+				int offset = view == null ? 0 :
+							 linearLayoutManager.getOrientation() == RecyclerView.HORIZONTAL ?
+							 linearLayoutManager.getDecoratedLeft(view) - linearLayoutManager.getPaddingLeft() :
+							 linearLayoutManager.getDecoratedTop(view) - linearLayoutManager.getPaddingTop();
+
+				this.notifyItemRangeInserted(position, count);
+				//the anchor moved by the inserted items, keep it where it was
+				linearLayoutManager.scrollToPositionWithOffset(first + count, offset);
+				return;
+			}
+		}
+
+		if (count == 1)
+			this.notifyItemInserted(position);
+		else
+			this.notifyItemRangeInserted(position, count);
+	}
+
+	/**
+	 * Invoked on the main thread (in order) for each version published by the items
+	 * store. Presents the given {@code snapshot} and notifies the given {@code change}
+	 * (or defer both to the end of the current batch).
+	 *
+	 * @param snapshot the published snapshot.
+	 * @param change   the change that produced the given {@code snapshot}.
+	 * @throws NullPointerException if the given {@code snapshot} or {@code change} is
+	 *                              null.
+	 * @since 0.0.2 ~2026.10.17
+	 */
+	protected void onPublished(@NotNull ItemStore.Snapshot snapshot, @NotNull ItemStore.Change change) {
+		Objects.requireNonNull(snapshot, "snapshot");
+		Objects.requireNonNull(change, "change");
+
+		if (this.metricsListener != null)
+			this.metricsListener.onItemCount(snapshot.size());
+
+		if (change.kind == ItemStore.Change.RESET) {
+			this.flushBatch();
+			this.snapshot = snapshot;
+			this.eventCount++;
+			this.notifyCount++;
+			this.onNotified(ItemStore.Change.RESET, snapshot.size());
+			this.notifyDataSetChanged();
+		} else if (this.isBatched()) {
+			this.batchSnapshot = snapshot;
+			change.dispatchTo(this.listUpdateCallback);
+		} else {
+			this.snapshot = snapshot;
+			change.dispatchTo(this.listUpdateCallback);
+		}
+	}
+
+	/**
+	 * Report a notification of the given {@code kind} to the metrics listener. (if any)
+	 *
+	 * @param kind  the kind of the notification. (a kind of {@link ItemStore.Change})
+	 * @param count the number of affected items.
+	 * @since 0.0.2 ~2026.10.17
+	 */
+	protected void onNotified(int kind, int count) {
+		MetricsListener listener = this.metricsListener;
+
+		if (listener != null)
+			listener.onNotified(kind, count);
+	}
+
+	/**
+	 * Schedule precomputing the bind data of the items affected by the given {@code
+	 * change}. Inserted and changed items get (re)computed (their previous results get
+	 * dropped immediately). On a full change, the first items (up to the capacity of the
+	 * cache) that were not computed get computed. Invoked on the writing thread as soon as
+	 * the change is written to the items store, so the computation starts before the
+	 * change reaches the main thread.
+	 *
+	 * @param snapshot the snapshot after the change.
+	 * @param change   the change.
+	 * @throws NullPointerException if the given {@code snapshot} or {@code change} is
+	 *                              null.
+	 * @since 0.0.2 ~2026.10.17
+	 */
+	protected void precompute(@NotNull ItemStore.Snapshot snapshot, @NotNull ItemStore.Change change) {
+		Objects.requireNonNull(snapshot, "snapshot");
+		Objects.requireNonNull(change, "change");
+		PrecomputeCache cache = this.precomputeCache;
+
+		if (cache == null)
+			return;
+
+		switch (change.kind) {
+			case ItemStore.Change.CHANGED:
+			case ItemStore.Change.INSERTED:
+				for (int i = change.position, l = i + change.count; i < l; i++) {
+					Object item = snapshot.get(i);
+
+					if (item != null && !(item instanceof Placeholder))
+						cache.schedule(item);
+				}
+				break;
+			case ItemStore.Change.DIFF:
+			case ItemStore.Change.RESET:
+				for (int i = 0, l = Math.min(snapshot.size(), cache.getCapacity()); i < l; i++) {
+					Object item = snapshot.get(i);
+
+					if (item != null && !(item instanceof Placeholder))
+						cache.prefetch(item);
+				}
+				break;
+			default:
+				break;
+		}
+	}
+
+	/**
+	 * Start inflating the layouts of the auto view holders in the background. (if
+	 * attached and an async inflater was set)
+	 *
+	 * @since 0.0.2 ~2026.10.17
+	 */
+	protected void prefetchLayouts() {
+		AsyncViewInflater inflater = this.asyncViewInflater;
+		RecyclerView recyclerView = this.recyclerView;
+
+		if (inflater != null && recyclerView != null)
+			for (int i = 0, l = this.autoLayouts.size(); i < l; i++)
+				inflater.prefetch(recyclerView, this.autoLayouts.keyAt(i), this.autoLayouts.valueAt(i));
+	}
+
+	/**
+	 * Pre-create a single view holder for the first type that has fewer recycled holders
+	 * than its pre-warm count. Invoked while the main thread is idle.
+	 *
+	 * @return true, if there might be more holders to be created.
+	 * @since 0.0.2 ~2026.10.17
+	 */
+	protected boolean prewarm() {
+		RecyclerView recyclerView = this.recyclerView;
+
+		if (recyclerView == null)
+			return false;
+
+		RecyclerView.RecycledViewPool pool = recyclerView.getRecycledViewPool();
+
+		for (int i = 0, l = this.prewarmCounts.size(); i < l; i++) {
+			int type = this.prewarmCounts.keyAt(i);
+			int count = this.prewarmCounts.valueAt(i);
+
+			if (this.viewHolderSuppliers.get(type) != null && pool.getRecycledViewCount(type) < count) {
+				pool.putRecycledView(this.createViewHolder(recyclerView, type));
+				return true;
+			}
+		}
+
+		return false;
+	}
+
+	/**
+	 * Return the type assigned to the given {@code klass}. Assign a new type if the given
+	 * {@code klass} has none. The cached resolutions get cleared.
+	 *
+	 * @param klass the class.
+	 * @return the type of the given {@code klass}.
+	 * @throws NullPointerException if the given {@code klass} is null.
+	 * @since 0.0.2 ~2026.10.17
+	 */
+	protected int registerType(@NotNull Class<?> klass) {
+		Objects.requireNonNull(klass, "klass");
+		Integer type = this.classTypes.get(klass);
+
+		if (type == null) {
+			type = this.nextAutoType++;
+			this.classTypes.put(klass, type);
+			this.classTypeCache.clear();
+			this.invalidateTypeCache();
+		}
+
+		return type;
+	}
+
+	/**
+	 * Resolve the type of the items of the given {@code klass}. Resolved to the type
+	 * registered for the given {@code klass}, or else its nearest superclass, or else the
+	 * first of its interfaces. Resolutions are cached per class.
+	 *
+	 * @param klass the class of the item.
+	 * @return the type of the items of the given {@code klass}. (or null if none)
+	 * @throws NullPointerException if the given {@code klass} is null.
+	 * @since 0.0.2 ~2026.10.17
+	 */
+	@Nullable
+	protected Integer resolveType(@NotNull Class<?> klass) {
+		Objects.requireNonNull(klass, "klass");
+		Integer type = this.classTypeCache.get(klass);
+
+		if (type != null || this.classTypeCache.containsKey(klass))
+			return type;
+
+		type = this.classTypes.get(klass);
+
+		if (type == null) {
+			Class<?> superclass = klass.getSuperclass();
+
+			if (superclass != null)
+				type = this.resolveType(superclass);
+		}
+		if (type == null)
+			for (Class<?> i : klass.getInterfaces()) {
+				type = this.resolveType(i);
+
+				if (type != null)
+					break;
+			}
+
+		this.classTypeCache.put(klass, type);
+		return type;
+	}
+
+	/**
+	 * Schedule flushing the collected changes on the next frame (if not in an explicit
+	 * batch).
 	 *
-	 * @param listener the listener to be removed.
-	 * @throws NullPointerException if the given {@code listener} is null.
-	 * @since 0.0.1 ~2021.04.08
+	 * @since 0.0.2 ~2026.10.17
 	 */
-	public void removeOnScrollListener(OnScrollListener listener) {
-		Objects.requireNonNull(listener, "listener");
-		this.onScrollListeners.remove(listener);
+	protected void scheduleBatch() {
+		if (!this.framePosted && this.batchDepth == 0) {
+			this.framePosted = true;
+			Choreographer.getInstance().postFrameCallback(this.frameCallback);
+		}
 	}
 
 	/**
-	 * Set an auto view holder binder for the type {@code 0} with the given {@code
-	 * layout}. No need to call {@link #setViewHolderSupplier(int, ViewHolderSupplier)}.
+	 * Schedule pre-creating view holders while the main thread is idle. (if attached and
+	 * any pre-warm count was set)
 	 *
-	 * @param layout the layout to be created for the given {@code type}.
-	 * @param binder the binder.
-	 * @param <T>    the type of the item.
-	 * @throws NullPointerException if the given {@code binder} is null.
-	 * @since 0.0.1 ~2021.04.09
+	 * @since 0.0.2 ~2026.10.17
 	 */
-	public <T> void setItemAutoViewHolderBinder(@LayoutRes int layout, ViewHolderBinder<AutoViewHolder, T> binder) {
-		this.setItemAutoViewHolderBinder(0, layout, binder);
+	protected void schedulePrewarm() {
+		if (!this.idlePosted && this.recyclerView != null && this.prewarmCounts.size() != 0) {
+			this.idlePosted = true;
+			Looper.getMainLooper().getQueue().addIdleHandler(this.idleHandler);
+		}
 	}
 
 	/**
-	 * Set an auto view holder binder for the given {@code type} with the given {@code
-	 * layout}. No need to call {@link #setViewHolderSupplier(int, ViewHolderSupplier)}.
+	 * Return the type of the slot at the given {@code position}. The position must not be
+	 * the position of an item.
 	 *
-	 * @param type   the type of items the {@code binder} can bind.
-	 * @param layout the layout to be created for the given {@code type}.
-	 * @param binder the binder.
-	 * @param <T>    the type of the item.
-	 * @throws NullPointerException if the given {@code binder} is null.
-	 * @since 0.0.1 ~2021.04.09
+	 * @param position the adapter position of the slot.
+	 * @return the type of the slot.
+	 * @since 0.0.2 ~2026.10.17
 	 */
-	public <T> void setItemAutoViewHolderBinder(int type, @LayoutRes int layout, ViewHolderBinder<AutoViewHolder, T> binder) {
-		this.setViewHolderSupplier(type, parent -> {
-			View view = LayoutInflater.from(parent.getContext())
-									  .inflate(layout, parent, false);
-			return new AutoViewHolder(view);
-		});
-		this.setViewHolderBinder(type, binder);
+	protected int slotType(@Range(from = 0, to = Integer.MAX_VALUE) int position) {
+		if (position < this.headerCount)
+			return InfiniteRecyclerViewAdapter.HEADER_TYPE;
+
+		int index = position - this.headerCount - this.snapshot.size();
+
+		if (index == 0 && this.status == InfiniteRecyclerViewAdapter.STATUS_LOADING)
+			return InfiniteRecyclerViewAdapter.LOADING_TYPE;
+		if (index == 0 && this.status == InfiniteRecyclerViewAdapter.STATUS_ERROR)
+			return InfiniteRecyclerViewAdapter.ERROR_TYPE;
+
+		return InfiniteRecyclerViewAdapter.FOOTER_TYPE;
 	}
 
 	/**
-	 * Set the given {@code supplier} to be invoked when the adapter needs to know the
-	 * type of a specific position.
+	 * Set the number of spans of the layout manager. Propagated to the load-more
+	 * controller so its thresholds count rows instead of items.
 	 *
-	 * @param supplier the supplier to be set.
-	 * @throws NullPointerException if the given {@code supplier} is null.
-	 * @since 0.0.1 ~2021.04.06
+	 * @param spanCount the number of spans.
+	 * @since 0.0.2 ~2026.10.17
 	 */
-	public void setItemViewTypeSupplier(@NotNull ItemViewTypeSupplier supplier) {
-		Objects.requireNonNull(supplier, "supplier");
-		this.itemViewTypeSupplier = supplier;
+	protected void setSpanCount(@Range(from = 1, to = Integer.MAX_VALUE) int spanCount) {
+		this.spanCount = spanCount;
+
+		if (this.loadMoreController != null)
+			this.loadMoreController.setSpanCount(spanCount);
 	}
 
 	/**
-	 * Set the given {@code binder} to be invoked when the adapter needs to bind an item
-	 * to a view holder for the type {@code 0}.
+	 * Construct a new view holder for the given {@code viewType} using its supplier.
 	 *
-	 * @param binder the binder to be invoked when in need to bind a view holder.
-	 * @param <VH>   the type of the view holder.
-	 * @param <T>    the type of the data of the item.
-	 * @throws NullPointerException if the given {@code binder} is null.
-	 * @since 0.0.1 ~2021.04.06
+	 * @param parent   the parent to inflate the view with.
+	 * @param viewType the type of the view holder.
+	 * @return a new view holder.
+	 * @throws NullPointerException     if the given {@code parent} is null.
+	 * @throws IllegalArgumentException if no supplier was set for the given {@code
+	 *                                  viewType}.
+	 * @since 0.0.2 ~2026.10.17
 	 */
-	public <VH extends RecyclerView.ViewHolder, T> void setViewHolderBinder(@NotNull InfiniteRecyclerViewAdapter.ViewHolderBinder<VH, T> binder) {
-		this.setViewHolderBinder(0, binder);
+	@NotNull
+	protected RecyclerView.ViewHolder supplyViewHolder(@NotNull ViewGroup parent, int viewType) {
+		ViewHolderSupplier supplier = this.viewHolderSuppliers.get(viewType);
+
+		if (supplier != null)
+			return supplier.onCreateViewHolder(parent);
+		if (viewType >= InfiniteRecyclerViewAdapter.PLACEHOLDER_TYPE && viewType <= InfiniteRecyclerViewAdapter.ERROR_TYPE)
+			//an empty view, when no placeholder (or slot) supplier was set
+			return new AutoViewHolder(new View(parent.getContext()));
+
+		throw new IllegalArgumentException("No supplier for type: " + viewType);
 	}
 
 	/**
-	 * Set the given {@code binder} to be invoked when the adapter needs to bind an item
-	 * to a view holder with the given {@code type}.
+	 * Return the number of slots after the items. (the status slot and the footer slot)
 	 *
-	 * @param type   the type of items the {@code binder} can bind.
-	 * @param binder the binder to be invoked when in need to bind a view holder.
-	 * @param <VH>   the type of the view holder.
-	 * @param <T>    the type of the data of the item.
-	 * @throws NullPointerException if the given {@code binder} is null.
-	 * @since 0.0.1 ~2021.04.06
+	 * @return the number of slots after the items.
+	 * @since 0.0.2 ~2026.10.17
 	 */
-	public <VH extends RecyclerView.ViewHolder, T> void setViewHolderBinder(int type, @NotNull InfiniteRecyclerViewAdapter.ViewHolderBinder<VH, T> binder) {
-		Objects.requireNonNull(binder, "binder");
-		this.viewHolderBinders.put(type, binder);
+	@Range(from = 0, to = 2)
+	protected int trailerCount() {
+		return (this.status == InfiniteRecyclerViewAdapter.STATUS_NONE ? 0 : 1) + (this.footer ? 1 : 0);
 	}
 
 	/**
-	 * Set the given {@code supplier} to be invoked when the adapter needs to construct a
-	 * new view holder for the type {@code 0}.
+	 * A differ to be invoked to compare items when calculating the difference between two
+	 * lists of items.
 	 *
-	 * @param supplier the supplier to be invoked.
-	 * @param <VH>     the type of the view holder.
-	 * @throws NullPointerException if the given {@code supplier} is null.
-	 * @since 0.0.1 ~2021.04.06
+	 * @param <T> the type of the items.
+	 * @author LSafer
+	 * @version 0.0.2
+	 * @since 0.0.2 ~2026.10.17
 	 */
-	public <VH extends RecyclerView.ViewHolder> void setViewHolderSupplier(@NotNull InfiniteRecyclerViewAdapter.ViewHolderSupplier<VH> supplier) {
-		this.setViewHolderSupplier(0, supplier);
+	public interface ItemDiffer<T> {
+		/**
+		 * Determine if the given items have the same contents (no need to re-bind).
+		 *
+		 * @param oldItem the old item.
+		 * @param newItem the new item.
+		 * @return true, if the given items have the same contents.
+		 * @since 0.0.2 ~2026.10.17
+		 */
+		boolean areContentsTheSame(@Nullable T oldItem, @Nullable T newItem);
+
+		/**
+		 * Determine if the given items represent the same item.
+		 *
+		 * @param oldItem the old item.
+		 * @param newItem the new item.
+		 * @return true, if the given items represent the same item.
+		 * @since 0.0.2 ~2026.10.17
+		 */
+		boolean areItemsTheSame(@Nullable T oldItem, @Nullable T newItem);
+
+		/**
+		 * Return a payload describing the change between the given items. Invoked only
+		 * when the items are the same but with different contents.
+		 *
+		 * @param oldItem the old item.
+		 * @param newItem the new item.
+		 * @return the change payload. (or null for a full re-bind)
+		 * @since 0.0.2 ~2026.10.17
+		 */
+		@Nullable
+		default Object getChangePayload(@Nullable T oldItem, @Nullable T newItem) {
+			return null;
+		}
 	}
 
 	/**
-	 * Set the given {@code supplier} to be invoked when the adapter needs to construct a
-	 * new view holder for the given {@code type}.
+	 * An extractor of the stable ids of the items.
 	 *
-	 * @param type     the type of the view holder.
-	 * @param supplier the supplier to be invoked.
-	 * @param <VH>     the type of the view holder.
-	 * @throws NullPointerException if the given {@code supplier} is null.
-	 * @since 0.0.1 ~2021.04.06
+	 * @param <T> the type of the items.
+	 * @author LSafer
+	 * @version 0.0.2
+	 * @since 0.0.2 ~2026.10.17
 	 */
-	public <VH extends RecyclerView.ViewHolder> void setViewHolderSupplier(int type, @NotNull InfiniteRecyclerViewAdapter.ViewHolderSupplier<VH> supplier) {
-		Objects.requireNonNull(supplier, "supplier");
-		this.viewHolderSuppliers.put(type, supplier);
+	@FunctionalInterface
+	public interface ItemIdExtractor<T> {
+		/**
+		 * Return the stable id of the given {@code item}. Two items with the same id are
+		 * treated as the same item. Must not return {@link RecyclerView#NO_ID}.
+		 *
+		 * @param item the item.
+		 * @return the id of the given {@code item}.
+		 * @since 0.0.2 ~2026.10.17
+		 */
+		long getItemId(T item);
 	}
 
 	/**
@@ -383,6 +2040,86 @@ public class InfiniteRecyclerViewAdapter extends RecyclerView.Adapter<RecyclerVi
 		);
 	}
 
+	/**
+	 * A listener to be invoked with the metrics of an adapter. All the methods are invoked
+	 * on the main thread and must be cheap.
+	 *
+	 * @author LSafer
+	 * @version 0.0.2
+	 * @since 0.0.2 ~2026.10.17
+	 */
+	public interface MetricsListener {
+		/**
+		 * Invoked after the items got published.
+		 *
+		 * @param count the number of items in memory.
+		 * @since 0.0.2 ~2026.10.17
+		 */
+		default void onItemCount(@Range(from = 0, to = Integer.MAX_VALUE) int count) {
+		}
+
+		/**
+		 * Invoked when a load of the load-more controller completes.
+		 *
+		 * @param nanos  the latency of the load in nanoseconds.
+		 * @param failed true, if the load failed.
+		 * @since 0.0.2 ~2026.10.17
+		 */
+		default void onLoaded(long nanos, boolean failed) {
+		}
+
+		/**
+		 * Invoked when the adapter notifies the recycler view.
+		 *
+		 * @param kind  the kind of the notification. (a kind of {@link ItemStore.Change},
+		 *              {@link ItemStore.Change#RESET} for a {@code notifyDataSetChanged})
+		 * @param count the number of affected items.
+		 * @since 0.0.2 ~2026.10.17
+		 */
+		default void onNotified(int kind, int count) {
+		}
+
+		/**
+		 * Invoked after a view holder got bound.
+		 *
+		 * @param type  the type of the view holder.
+		 * @param nanos the latency of the bind in nanoseconds.
+		 * @since 0.0.2 ~2026.10.17
+		 */
+		default void onViewHolderBound(int type, long nanos) {
+		}
+
+		/**
+		 * Invoked after a view holder got created. (inflated)
+		 *
+		 * @param type  the type of the view holder.
+		 * @param nanos the latency of the creation in nanoseconds.
+		 * @since 0.0.2 ~2026.10.17
+		 */
+		default void onViewHolderCreated(int type, long nanos) {
+		}
+	}
+
+	/**
+	 * A listener to be invoked when a placeholder gets bound.
+	 *
+	 * @author LSafer
+	 * @version 0.0.2
+	 * @since 0.0.2 ~2026.10.17
+	 */
+	@FunctionalInterface
+	public interface OnPlaceholderBoundListener {
+		/**
+		 * Invoked when the placeholder at the given {@code position} gets bound. Invoked
+		 * while the recycler view is computing its layout, so the items must not be
+		 * changed synchronously.
+		 *
+		 * @param position the position of the placeholder.
+		 * @since 0.0.2 ~2026.10.17
+		 */
+		void onPlaceholderBound(@Range(from = 0, to = Integer.MAX_VALUE) int position);
+	}
+
 	/**
 	 * A listener to be invoked when a recycler view has a change in its scrolling state.
 	 *
@@ -407,6 +2144,109 @@ public class InfiniteRecyclerViewAdapter extends RecyclerView.Adapter<RecyclerVi
 				@Range(from = 0, to = Integer.MAX_VALUE) int first,
 				@Range(from = 0, to = Integer.MAX_VALUE) int last
 		);
+
+		/**
+		 * Invoked when the recycler view changed its scrolling state. Only invoked when
+		 * the {@code count}, {@code first} or {@code last} changes. Delegates to {@link
+		 * #onScroll(int, int, int)} by default.
+		 *
+		 * @param count     how many items in the recycler view.
+		 * @param first     the first visible item.
+		 * @param last      the last visible item.
+		 * @param direction the direction of the scroll. ({@code 1} towards the end,
+		 *                  {@code -1} towards the start, {@code 0} not moving)
+		 * @param velocity  the smoothed scrolling velocity in items per second. (positive
+		 *                  towards the end, negative towards the start)
+		 * @throws IllegalArgumentException if the given {@code count} or {@code first} or
+		 *                                  {@code last} is negative.
+		 * @since 0.0.2 ~2026.10.17
+		 */
+		default void onScroll(
+				@Range(from = 0, to = Integer.MAX_VALUE) int count,
+				@Range(from = 0, to = Integer.MAX_VALUE) int first,
+				@Range(from = 0, to = Integer.MAX_VALUE) int last,
+				@Range(from = -1, to = 1) int direction,
+				float velocity
+		) {
+			this.onScroll(count, first, last);
+		}
+	}
+
+	/**
+	 * A binder that can rebind only the parts of a view holder affected by a change.
+	 * Invoked with the payloads of the changes (see {@link ItemStore#set(int, Object,
+	 * Object)} and {@link ItemDiffer#getChangePayload(Object, Object)}) instead of a full
+	 * rebind.
+	 *
+	 * @param <VH> the type of the view holder.
+	 * @param <T>  the type of the item.
+	 * @author LSafer
+	 * @version 0.0.2
+	 * @since 0.0.2 ~2026.10.17
+	 */
+	public interface PartialBinder<VH extends RecyclerView.ViewHolder, T> extends ViewHolderBinder<VH, T> {
+		/**
+		 * Rebind the parts of the given {@code holder} affected by the given {@code
+		 * payloads}.
+		 *
+		 * @param holder   the holder to be rebound.
+		 * @param item     the item to rebind the given {@code holder} with.
+		 * @param payloads the payloads of the changes since the last bind. (not empty)
+		 * @throws NullPointerException if the given {@code holder} or {@code payloads} is
+		 *                              null.
+		 * @since 0.0.2 ~2026.10.17
+		 */
+		void onBindViewHolder(@NotNull VH holder, @Nullable T item, @NotNull List<@Nullable Object> payloads);
+	}
+
+	/**
+	 * A binder binding view holders from the precomputed data of the items.
+	 *
+	 * @param <VH> the type of the view holder.
+	 * @param <T>  the type of the item.
+	 * @param <R>  the type of the precomputed data.
+	 * @author LSafer
+	 * @version 0.0.2
+	 * @since 0.0.2 ~2026.10.17
+	 */
+	@FunctionalInterface
+	public interface PrecomputedBinder<VH extends RecyclerView.ViewHolder, T, R> {
+		/**
+		 * Bind the given {@code holder} with the given {@code item} and its precomputed
+		 * {@code data}.
+		 *
+		 * @param holder the holder to be bound.
+		 * @param item   the item to bind the given {@code holder} with.
+		 * @param data   the precomputed data of the given {@code item}.
+		 * @throws NullPointerException if the given {@code holder} is null.
+		 * @since 0.0.2 ~2026.10.17
+		 */
+		void onBindViewHolder(@NotNull VH holder, @Nullable T item, @Nullable R data);
+	}
+
+	/**
+	 * A function computing the bind data of an item (like measured text) off the main
+	 * thread.
+	 *
+	 * @param <T> the type of the items.
+	 * @param <R> the type of the results.
+	 * @author LSafer
+	 * @version 0.0.2
+	 * @since 0.0.2 ~2026.10.17
+	 */
+	@FunctionalInterface
+	public interface Precomputer<T, R> {
+		/**
+		 * Compute the bind data of the given {@code item}. Invoked on a background thread
+		 * (or on the main thread if the result was not ready when binding).
+		 *
+		 * @param item the item.
+		 * @return the bind data of the given {@code item}.
+		 * @throws NullPointerException if the given {@code item} is null.
+		 * @since 0.0.2 ~2026.10.17
+		 */
+		@Nullable
+		R precompute(@NotNull T item);
 	}
 
 	/**
@@ -454,6 +2294,31 @@ public class InfiniteRecyclerViewAdapter extends RecyclerView.Adapter<RecyclerVi
 		VH onCreateViewHolder(@NotNull ViewGroup parent);
 	}
 
+	/**
+	 * A resolver of the visible range of a layout manager.
+	 *
+	 * @author LSafer
+	 * @version 0.0.2
+	 * @since 0.0.2 ~2026.10.17
+	 */
+	@FunctionalInterface
+	public interface VisibleRangeResolver {
+		/**
+		 * Resolve the visible range of the given {@code manager} into the given {@code
+		 * range} as {@code [first, last, spanCount]}. Invoked on every scroll, so it
+		 * should not allocate.
+		 *
+		 * @param manager the layout manager.
+		 * @param range   the array to write the resolved range into.
+		 * @return true, if the range was resolved. False, if the given {@code manager} is
+		 * 		not supported.
+		 * @throws NullPointerException if the given {@code manager} or {@code range} is
+		 *                              null.
+		 * @since 0.0.2 ~2026.10.17
+		 */
+		boolean resolveVisibleRange(@NotNull RecyclerView.LayoutManager manager, int @NotNull [] range);
+	}
+
 	/**
 	 * An automatic view holder.
 	 *
@@ -463,11 +2328,13 @@ public class InfiniteRecyclerViewAdapter extends RecyclerView.Adapter<RecyclerVi
 	 */
 	public static class AutoViewHolder extends RecyclerView.ViewHolder {
 		/**
-		 * Mappings for views previously found by {@link #findViewById(int)}.
+		 * Mappings for views previously found by {@link #findViewById(int)}. Keyed by the
+		 * primitive ids, and ids not found are mapped to null.
 		 *
 		 * @since 0.0.1 ~2021.04.09
 		 */
-		protected final Map<Integer, View> map = new HashMap<>();
+		@NotNull
+		protected final SparseArray<View> map = new SparseArray<>();
 
 		/**
 		 * Construct a new automatic view holder for the given {@code view}.
@@ -490,9 +2357,15 @@ public class InfiniteRecyclerViewAdapter extends RecyclerView.Adapter<RecyclerVi
 		 * @since 0.0.1 ~2021.04.09
 		 */
 		public <V extends View> V findViewById(@IdRes int id) {
-			return (V) this.map.computeIfAbsent(id, k ->
-					this.itemView.findViewById(id)
-			);
+			int index = this.map.indexOfKey(id);
+
+			if (index >= 0)
+				return (V) this.map.valueAt(index);
+
+			//only allocates the first time an id is looked up (even if not found)
+			View view = this.itemView.findViewById(id);
+			this.map.put(id, view);
+			return (V) view;
 		}
 
 		/**
@@ -506,4 +2379,114 @@ public class InfiniteRecyclerViewAdapter extends RecyclerView.Adapter<RecyclerVi
 			return this.itemView;
 		}
 	}
+
+	/**
+	 * A diff-util callback comparing two lists using an {@link ItemDiffer}.
+	 *
+	 * @param <T> the type of the items.
+	 * @author LSafer
+	 * @version 0.0.2
+	 * @since 0.0.2 ~2026.10.17
+	 */
+	protected static class ItemDifferCallback<T> extends DiffUtil.Callback {
+		/**
+		 * The differ.
+		 *
+		 * @since 0.0.2 ~2026.10.17
+		 */
+		@NotNull
+		protected final ItemDiffer<T> differ;
+		/**
+		 * The new items.
+		 *
+		 * @since 0.0.2 ~2026.10.17
+		 */
+		@NotNull
+		protected final List<Object> newItems;
+		/**
+		 * The old items.
+		 *
+		 * @since 0.0.2 ~2026.10.17
+		 */
+		@NotNull
+		protected final List<Object> oldItems;
+
+		/**
+		 * Construct a new callback comparing the given lists.
+		 *
+		 * @param oldItems the old items.
+		 * @param newItems the new items.
+		 * @param differ   the differ.
+		 * @throws NullPointerException if the given {@code oldItems} or {@code newItems}
+		 *                              or {@code differ} is null.
+		 * @since 0.0.2 ~2026.10.17
+		 */
+		public ItemDifferCallback(@NotNull List<Object> oldItems, @NotNull List<Object> newItems, @NotNull ItemDiffer<T> differ) {
+			Objects.requireNonNull(oldItems, "oldItems");
+			Objects.requireNonNull(newItems, "newItems");
+			Objects.requireNonNull(differ, "differ");
+			this.oldItems = oldItems;
+			this.newItems = newItems;
+			this.differ = differ;
+		}
+
+		@Override
+		public boolean areContentsTheSame(int oldItemPosition, int newItemPosition) {
+			return this.differ.areContentsTheSame(
+					(T) this.oldItems.get(oldItemPosition),
+					(T) this.newItems.get(newItemPosition)
+			);
+		}
+
+		@Override
+		public boolean areItemsTheSame(int oldItemPosition, int newItemPosition) {
+			return this.differ.areItemsTheSame(
+					(T) this.oldItems.get(oldItemPosition),
+					(T) this.newItems.get(newItemPosition)
+			);
+		}
+
+		@Nullable
+		@Override
+		public Object getChangePayload(int oldItemPosition, int newItemPosition) {
+			return this.differ.getChangePayload(
+					(T) this.oldItems.get(oldItemPosition),
+					(T) this.newItems.get(newItemPosition)
+			);
+		}
+
+		@Override
+		public int getNewListSize() {
+			return this.newItems.size();
+		}
+
+		@Override
+		public int getOldListSize() {
+			return this.oldItems.size();
+		}
+	}
+
+	/**
+	 * An item marking a position which its actual item is not loaded (or was dropped).
+	 * Positions holding a placeholder have the type {@link #PLACEHOLDER_TYPE}.
+	 *
+	 * @author LSafer
+	 * @version 0.0.2
+	 * @since 0.0.2 ~2026.10.17
+	 */
+	public static class Placeholder {
+		/**
+		 * A shared placeholder instance.
+		 *
+		 * @since 0.0.2 ~2026.10.17
+		 */
+		@NotNull
+		public static final Placeholder INSTANCE = new Placeholder();
+
+		@NotNull
+		@Override
+		public String toString() {
+			return "Placeholder";
+		}
+	}
 }
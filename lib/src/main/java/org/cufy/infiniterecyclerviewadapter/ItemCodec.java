@@ -0,0 +1,55 @@
+/*
+ *	Copyright 2021 Cufy
+ *
+ *	Licensed under the Apache License, Version 2.0 (the "License");
+ *	you may not use this file except in compliance with the License.
+ *	You may obtain a copy of the License at
+ *
+ *	    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *	Unless required by applicable law or agreed to in writing, software
+ *	distributed under the License is distributed on an "AS IS" BASIS,
+ *	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *	See the License for the specific language governing permissions and
+ *	limitations under the License.
+ */
+package org.cufy.infiniterecyclerviewadapter;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+
+/**
+ * A codec writing and reading items in a compact binary form.
+ *
+ * @param <T> the type of the items.
+ * @author LSafer
+ * @version 0.0.2
+ * @since 0.0.2 ~2026.10.17
+ */
+public interface ItemCodec<T> {
+	/**
+	 * Read an item written by {@link #write(DataOutput, Object)} from the given {@code
+	 * input}.
+	 *
+	 * @param input the input to read from.
+	 * @return the read item.
+	 * @throws NullPointerException if the given {@code input} is null.
+	 * @throws IOException          if any I/O exception occurs.
+	 * @since 0.0.2 ~2026.10.17
+	 */
+	T read(@NotNull DataInput input) throws IOException;
+
+	/**
+	 * Write the given {@code item} to the given {@code output}.
+	 *
+	 * @param output the output to write to.
+	 * @param item   the item to be written.
+	 * @throws NullPointerException if the given {@code output} is null.
+	 * @throws IOException          if any I/O exception occurs.
+	 * @since 0.0.2 ~2026.10.17
+	 */
+	void write(@NotNull DataOutput output, T item) throws IOException;
+}
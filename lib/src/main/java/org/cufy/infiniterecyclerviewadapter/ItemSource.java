@@ -0,0 +1,747 @@
+/*
+ *	Copyright 2021 Cufy
+ *
+ *	Licensed under the Apache License, Version 2.0 (the "License");
+ *	you may not use this file except in compliance with the License.
+ *	You may obtain a copy of the License at
+ *
+ *	    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *	Unless required by applicable law or agreed to in writing, software
+ *	distributed under the License is distributed on an "AS IS" BASIS,
+ *	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *	See the License for the specific language governing permissions and
+ *	limitations under the License.
+ */
+package org.cufy.infiniterecyclerviewadapter;
+
+import android.os.Handler;
+import android.os.Looper;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.jetbrains.annotations.Range;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.Executor;
+import java.util.concurrent.FutureTask;
+
+/**
+ * A source of pages of items fetched on an executor and fed to the items of an adapter.
+ * At most a limited number of requests are in-flight at a time, and their pages are
+ * appended in the order they were requested. (regardless of the order they complete in)
+ * The writes to the items are made outside the lock of the source, so a slow write never
+ * blocks the main thread requesting more pages.
+ * <br>
+ * Every request is tied to the generation of the source. A refresh (or a cancel) starts a
+ * new generation and cancels the outstanding requests. The late results of an older
+ * generation are dropped on the executor thread without touching the items (nor the main
+ * thread). The first page of a refresh is submitted with a differ (only the minimal
+ * changes are dispatched) and the following pages wait for it to be published.
+ * <br>
+ * The methods of this class can be invoked from any thread.
+ *
+ * @param <K> the type of the page keys.
+ * @author LSafer
+ * @version 0.0.2
+ * @since 0.0.2 ~2026.10.17
+ */
+public class ItemSource<K> implements LoadMoreController.Loader {
+	/**
+	 * The default differ of the refreshed pages. Compares the items using {@link
+	 * Object#equals(Object)}.
+	 *
+	 * @since 0.0.2 ~2026.10.17
+	 */
+	@NotNull
+	public static final InfiniteRecyclerViewAdapter.ItemDiffer<Object> DEFAULT_DIFFER = new InfiniteRecyclerViewAdapter.ItemDiffer<Object>() {
+		@Override
+		public boolean areContentsTheSame(@Nullable Object oldItem, @Nullable Object newItem) {
+			return Objects.equals(oldItem, newItem);
+		}
+
+		@Override
+		public boolean areItemsTheSame(@Nullable Object oldItem, @Nullable Object newItem) {
+			return Objects.equals(oldItem, newItem);
+		}
+	};
+
+	/**
+	 * The adapter to feed the items to.
+	 *
+	 * @since 0.0.2 ~2026.10.17
+	 */
+	@NotNull
+	protected final InfiniteRecyclerViewAdapter adapter;
+	/**
+	 * The differ to submit the refreshed pages with.
+	 *
+	 * @since 0.0.2 ~2026.10.17
+	 */
+	@NotNull
+	protected final InfiniteRecyclerViewAdapter.ItemDiffer<Object> differ;
+	/**
+	 * The executor to fetch the pages with.
+	 *
+	 * @since 0.0.2 ~2026.10.17
+	 */
+	@NotNull
+	protected final Executor executor;
+	/**
+	 * The fetcher of the pages.
+	 *
+	 * @since 0.0.2 ~2026.10.17
+	 */
+	@NotNull
+	protected final Fetcher<K> fetcher;
+	/**
+	 * A handler posting to the main thread.
+	 *
+	 * @since 0.0.2 ~2026.10.17
+	 */
+	@NotNull
+	protected final Handler handler = new Handler(Looper.getMainLooper());
+	/**
+	 * The lock guarding the state of this source.
+	 *
+	 * @since 0.0.2 ~2026.10.17
+	 */
+	@NotNull
+	protected final Object lock = new Object();
+	/**
+	 * The maximum number of in-flight requests.
+	 *
+	 * @since 0.0.2 ~2026.10.17
+	 */
+	protected final int maxInFlight;
+	/**
+	 * The requests of the current generation that are in-flight (or completed, waiting for
+	 * an earlier request) in the order they were made.
+	 *
+	 * @since 0.0.2 ~2026.10.17
+	 */
+	@NotNull
+	protected final ArrayDeque<Request<K>> requests = new ArrayDeque<>();
+	/**
+	 * The lock serializing the writes to the items in the order they got collected. Taken
+	 * before (never while holding) the {@link #lock}.
+	 *
+	 * @since 0.0.2 ~2026.10.17
+	 */
+	@NotNull
+	protected final Object writeLock = new Object();
+
+	/**
+	 * True, if there are no more pages to be fetched.
+	 *
+	 * @since 0.0.2 ~2026.10.17
+	 */
+	protected boolean exhausted;
+	/**
+	 * The current generation. Incremented on every refresh (or cancel).
+	 *
+	 * @since 0.0.2 ~2026.10.17
+	 */
+	protected int generation;
+	/**
+	 * The key of the next page to be requested. (or null if unknown until an in-flight
+	 * request completes)
+	 *
+	 * @since 0.0.2 ~2026.10.17
+	 */
+	@Nullable
+	protected K nextKey;
+	/**
+	 * True, if the next page replaces the items. (after a refresh failed)
+	 *
+	 * @since 0.0.2 ~2026.10.17
+	 */
+	protected boolean replaceNext;
+	/**
+	 * True, if a refreshed page is being submitted. The following pages wait for it to be
+	 * published.
+	 *
+	 * @since 0.0.2 ~2026.10.17
+	 */
+	protected boolean submitting;
+
+	/**
+	 * Construct a new source feeding the given {@code adapter} with the pages fetched by
+	 * the given {@code fetcher} on the given {@code executor}, starting at the given
+	 * {@code firstKey}.
+	 *
+	 * @param adapter     the adapter to feed the items to.
+	 * @param fetcher     the fetcher of the pages.
+	 * @param firstKey    the key of the first page.
+	 * @param executor    the executor to fetch the pages with.
+	 * @param maxInFlight the maximum number of in-flight requests.
+	 * @throws NullPointerException     if the given {@code adapter} or {@code fetcher} or
+	 *                                  {@code firstKey} or {@code executor} is null.
+	 * @throws IllegalArgumentException if the given {@code maxInFlight} is less than 1.
+	 * @since 0.0.2 ~2026.10.17
+	 */
+	public ItemSource(@NotNull InfiniteRecyclerViewAdapter adapter, @NotNull Fetcher<K> fetcher, @NotNull K firstKey, @NotNull Executor executor, @Range(from = 1, to = Integer.MAX_VALUE) int maxInFlight) {
+		this(adapter, fetcher, firstKey, executor, maxInFlight, ItemSource.DEFAULT_DIFFER);
+	}
+
+	/**
+	 * Construct a new source feeding the given {@code adapter} with the pages fetched by
+	 * the given {@code fetcher} on the given {@code executor}, starting at the given
+	 * {@code firstKey}. The refreshed pages are submitted with the given {@code differ}.
+	 *
+	 * @param adapter     the adapter to feed the items to.
+	 * @param fetcher     the fetcher of the pages.
+	 * @param firstKey    the key of the first page.
+	 * @param executor    the executor to fetch the pages with.
+	 * @param maxInFlight the maximum number of in-flight requests.
+	 * @param differ      the differ to submit the refreshed pages with.
+	 * @throws NullPointerException     if the given {@code adapter} or {@code fetcher} or
+	 *                                  {@code firstKey} or {@code executor} or {@code
+	 *                                  differ} is null.
+	 * @throws IllegalArgumentException if the given {@code maxInFlight} is less than 1.
+	 * @since 0.0.2 ~2026.10.17
+	 */
+	public ItemSource(@NotNull InfiniteRecyclerViewAdapter adapter, @NotNull Fetcher<K> fetcher, @NotNull K firstKey, @NotNull Executor executor, @Range(from = 1, to = Integer.MAX_VALUE) int maxInFlight, @NotNull InfiniteRecyclerViewAdapter.ItemDiffer<?> differ) {
+		Objects.requireNonNull(adapter, "adapter");
+		Objects.requireNonNull(fetcher, "fetcher");
+		Objects.requireNonNull(firstKey, "firstKey");
+		Objects.requireNonNull(executor, "executor");
+		Objects.requireNonNull(differ, "differ");
+		if (maxInFlight < 1)
+			throw new IllegalArgumentException("maxInFlight < 1");
+		this.adapter = adapter;
+		this.fetcher = fetcher;
+		this.nextKey = firstKey;
+		this.executor = executor;
+		this.maxInFlight = maxInFlight;
+		this.differ = (InfiniteRecyclerViewAdapter.ItemDiffer<Object>) differ;
+	}
+
+	@Override
+	public void load(@NotNull LoadMoreController.Callback callback) {
+		Objects.requireNonNull(callback, "callback");
+
+		if (!this.request(callback)) {
+			boolean exhausted;
+
+			synchronized (this.lock) {
+				exhausted = this.exhausted;
+			}
+
+			callback.onLoaded(!exhausted);
+		}
+	}
+
+	/**
+	 * Start a new generation and cancel the outstanding requests. The items are kept.
+	 *
+	 * @since 0.0.2 ~2026.10.17
+	 */
+	public void cancel() {
+		List<Request<K>> cancelled;
+
+		synchronized (this.lock) {
+			this.generation++;
+			cancelled = this.clear();
+			this.submitting = false;
+		}
+
+		this.cancelled(cancelled);
+	}
+
+	/**
+	 * Return the current generation of this source.
+	 *
+	 * @return the current generation.
+	 * @since 0.0.2 ~2026.10.17
+	 */
+	public int getGeneration() {
+		synchronized (this.lock) {
+			return this.generation;
+		}
+	}
+
+	/**
+	 * Return the number of requests in-flight (or waiting for an earlier request).
+	 *
+	 * @return the number of in-flight requests.
+	 * @since 0.0.2 ~2026.10.17
+	 */
+	@Range(from = 0, to = Integer.MAX_VALUE)
+	public int getInFlightCount() {
+		synchronized (this.lock) {
+			return this.requests.size();
+		}
+	}
+
+	/**
+	 * Return true if there are no more pages to be fetched.
+	 *
+	 * @return true, if this source is exhausted.
+	 * @since 0.0.2 ~2026.10.17
+	 */
+	public boolean isExhausted() {
+		synchronized (this.lock) {
+			return this.exhausted;
+		}
+	}
+
+	/**
+	 * Start a new generation, cancel the outstanding requests and fetch the page with the
+	 * given {@code key}. The items of the adapter get replaced with the fetched page (the
+	 * current items are kept until then) and the load-more controller of the adapter (if
+	 * any) forgets its loading state.
+	 *
+	 * @param key the key of the first page.
+	 * @throws NullPointerException if the given {@code key} is null.
+	 * @since 0.0.2 ~2026.10.17
+	 */
+	public void refresh(@NotNull K key) {
+		Objects.requireNonNull(key, "key");
+		List<Request<K>> cancelled;
+		Request<K> request;
+
+		synchronized (this.lock) {
+			this.generation++;
+			cancelled = this.clear();
+			this.exhausted = false;
+			this.nextKey = this.fetcher.keyAfter(key);
+			this.replaceNext = false;
+			this.submitting = false;
+			request = new Request<>(this, key, this.generation, true, null);
+			this.requests.add(request);
+		}
+
+		this.cancelled(cancelled);
+		this.resetLoadMoreController();
+		this.executor.execute(request.task);
+	}
+
+	/**
+	 * Request the next page (unless the source is exhausted, the key of the next page is
+	 * not known yet or the maximum number of requests are in-flight). After a failed
+	 * request, the failed page is requested again. (replacing the items if it was a
+	 * refresh)
+	 *
+	 * @return true, if a request started.
+	 * @since 0.0.2 ~2026.10.17
+	 */
+	public boolean request() {
+		return this.request(null);
+	}
+
+	/**
+	 * Apply the completed requests at the head of the queue (unless a refreshed page is
+	 * being submitted). Must be invoked while holding the {@link #writeLock} and the
+	 * {@link #lock}. The collected actions must be performed, in order, after releasing the
+	 * {@link #lock} and before releasing the {@link #writeLock}.
+	 *
+	 * @param actions the list to add the writes to the items and the callbacks to be
+	 *                invoked (outside the lock) to.
+	 * @since 0.0.2 ~2026.10.17
+	 */
+	protected void apply(@NotNull List<Runnable> actions) {
+		while (!this.submitting && !this.requests.isEmpty() && this.requests.peek().done) {
+			Request<K> request = this.requests.poll();
+			LoadMoreController.Callback callback = request.callback;
+			Page<K> page = request.page;
+
+			if (page == null) {
+				//failed, the later pages cannot be appended after a gap
+				Throwable failure = request.failure;
+				actions.addAll(this.callbacks(this.clear()));
+				this.nextKey = request.key;
+				this.replaceNext = request.replace;
+
+				if (callback != null)
+					actions.add(() -> callback.onFailed(failure));
+				return;
+			}
+
+			List<?> items = page.items;
+
+			if (request.replace) {
+				//the following pages wait for the submission to be published
+				int generation = request.generation;
+				this.submitting = true;
+				actions.add(() -> this.adapter.items().submit(items, this.differ, this.adapter.executor, () -> this.getGeneration() == generation, () -> this.submitted(generation)));
+			} else
+				actions.add(() -> this.adapter.items().addAll(items));
+
+			if (page.nextKey == null) {
+				actions.addAll(this.callbacks(this.clear()));
+				this.exhausted = true;
+			} else if (this.nextKey == null && this.requests.isEmpty())
+				//the key of the next page was not known ahead
+				this.nextKey = page.nextKey;
+
+			if (callback != null) {
+				boolean hasMore = !this.exhausted;
+				actions.add(() -> callback.onLoaded(hasMore));
+			}
+		}
+	}
+
+	/**
+	 * Return the callbacks releasing the load-more controller from the given {@code
+	 * cancelled} requests. (as loaded with nothing, so it loads again later)
+	 *
+	 * @param cancelled the cancelled requests.
+	 * @return the callbacks to be invoked.
+	 * @since 0.0.2 ~2026.10.17
+	 */
+	@NotNull
+	protected List<Runnable> callbacks(@NotNull List<Request<K>> cancelled) {
+		List<Runnable> callbacks = new ArrayList<>(cancelled.size());
+
+		for (Request<K> request : cancelled) {
+			LoadMoreController.Callback callback = request.callback;
+
+			if (callback != null)
+				callbacks.add(() -> callback.onLoaded(true));
+		}
+
+		return callbacks;
+	}
+
+	/**
+	 * Release the given {@code cancelled} requests. Must be invoked outside the {@link
+	 * #lock}.
+	 *
+	 * @param cancelled the cancelled requests.
+	 * @since 0.0.2 ~2026.10.17
+	 */
+	protected void cancelled(@NotNull List<Request<K>> cancelled) {
+		for (Runnable callback : this.callbacks(cancelled))
+			callback.run();
+	}
+
+	/**
+	 * Cancel and remove all the requests. Must be invoked while holding the {@link
+	 * #lock}.
+	 *
+	 * @return the cancelled requests.
+	 * @since 0.0.2 ~2026.10.17
+	 */
+	@NotNull
+	protected List<Request<K>> clear() {
+		List<Request<K>> cancelled = new ArrayList<>(this.requests);
+
+		for (Request<K> request : cancelled)
+			request.cancel();
+
+		this.requests.clear();
+		return cancelled;
+	}
+
+	/**
+	 * Invoked on the executor thread when the given {@code request} completes.
+	 *
+	 * @param request the completed request.
+	 * @param page    the fetched page. (or null if failed)
+	 * @param failure the failure. (or null if succeeded)
+	 * @since 0.0.2 ~2026.10.17
+	 */
+	protected void complete(@NotNull Request<K> request, @Nullable Page<K> page, @Nullable Throwable failure) {
+		List<Runnable> actions = new ArrayList<>();
+
+		synchronized (this.writeLock) {
+			synchronized (this.lock) {
+				//a late result, dropped
+				if (request.cancelled || request.generation != this.generation)
+					return;
+
+				request.page = page;
+				request.failure = failure;
+				request.done = true;
+				this.apply(actions);
+			}
+
+			for (Runnable action : actions)
+				action.run();
+		}
+	}
+
+	/**
+	 * Request the next page.
+	 *
+	 * @param callback the callback to be invoked when the page is appended. (or null)
+	 * @return true, if a request started.
+	 * @since 0.0.2 ~2026.10.17
+	 */
+	protected boolean request(@Nullable LoadMoreController.Callback callback) {
+		Request<K> request;
+
+		synchronized (this.lock) {
+			K key = this.nextKey;
+
+			if (this.exhausted || key == null || this.requests.size() >= this.maxInFlight)
+				return false;
+
+			this.nextKey = this.fetcher.keyAfter(key);
+			request = new Request<>(this, key, this.generation, this.replaceNext, callback);
+			this.replaceNext = false;
+			this.requests.add(request);
+		}
+
+		this.executor.execute(request.task);
+		return true;
+	}
+
+	/**
+	 * Make the load-more controller of the adapter (if any) forget its loading state. (on
+	 * the main thread)
+	 *
+	 * @since 0.0.2 ~2026.10.17
+	 */
+	protected void resetLoadMoreController() {
+		if (!Looper.getMainLooper().isCurrentThread()) {
+			this.handler.post(this::resetLoadMoreController);
+			return;
+		}
+
+		LoadMoreController controller = this.adapter.loadMoreController;
+
+		if (controller != null)
+			controller.reset();
+	}
+
+	/**
+	 * Invoked (on the executor of the adapter) when the refreshed page of the given
+	 * {@code generation} got published (or discarded). Applies the pages that were waiting
+	 * for it.
+	 *
+	 * @param generation the generation of the refreshed page.
+	 * @since 0.0.2 ~2026.10.17
+	 */
+	protected void submitted(int generation) {
+		List<Runnable> actions = new ArrayList<>();
+
+		synchronized (this.writeLock) {
+			synchronized (this.lock) {
+				//cancelled or superseded by a newer refresh (the submission got discarded)
+				if (generation != this.generation)
+					return;
+
+				this.submitting = false;
+				this.apply(actions);
+			}
+
+			for (Runnable action : actions)
+				action.run();
+		}
+	}
+
+	/**
+	 * A fetcher of pages. Invoked on the executor of the source.
+	 *
+	 * @param <K> the type of the page keys.
+	 * @author LSafer
+	 * @version 0.0.2
+	 * @since 0.0.2 ~2026.10.17
+	 */
+	@FunctionalInterface
+	public interface Fetcher<K> {
+		/**
+		 * Fetch the page with the given {@code key}. A cancelled request gets interrupted,
+		 * and long fetches should check {@link Request#isCancelled()}.
+		 *
+		 * @param key     the key of the page.
+		 * @param request the request being fetched.
+		 * @return the fetched page.
+		 * @throws NullPointerException if the given {@code key} or {@code request} is
+		 *                              null.
+		 * @throws Exception            if the fetch failed.
+		 * @since 0.0.2 ~2026.10.17
+		 */
+		@NotNull
+		Page<K> fetch(@NotNull K key, @NotNull Request<K> request) throws Exception;
+
+		/**
+		 * Return the key of the page after the page with the given {@code key}, if it is
+		 * known ahead. (like page numbers) Allows requesting more than a page at a time.
+		 *
+		 * @param key the key of a page.
+		 * @return the key of the next page. (or null if only known from the fetched page)
+		 * @throws NullPointerException if the given {@code key} is null.
+		 * @since 0.0.2 ~2026.10.17
+		 */
+		@Nullable
+		default K keyAfter(@NotNull K key) {
+			return null;
+		}
+	}
+
+	/**
+	 * A fetched page.
+	 *
+	 * @param <K> the type of the page keys.
+	 * @author LSafer
+	 * @version 0.0.2
+	 * @since 0.0.2 ~2026.10.17
+	 */
+	public static final class Page<K> {
+		/**
+		 * The items of the page.
+		 *
+		 * @since 0.0.2 ~2026.10.17
+		 */
+		@NotNull
+		final List<?> items;
+		/**
+		 * The key of the next page. (or null if there are no more pages)
+		 *
+		 * @since 0.0.2 ~2026.10.17
+		 */
+		@Nullable
+		final K nextKey;
+
+		/**
+		 * Construct a new page.
+		 *
+		 * @param items   the items of the page.
+		 * @param nextKey the key of the next page. (or null if there are no more pages)
+		 * @throws NullPointerException if the given {@code items} is null.
+		 * @since 0.0.2 ~2026.10.17
+		 */
+		public Page(@NotNull List<?> items, @Nullable K nextKey) {
+			Objects.requireNonNull(items, "items");
+			this.items = items;
+			this.nextKey = nextKey;
+		}
+	}
+
+	/**
+	 * A request of a page.
+	 *
+	 * @param <K> the type of the page keys.
+	 * @author LSafer
+	 * @version 0.0.2
+	 * @since 0.0.2 ~2026.10.17
+	 */
+	public static final class Request<K> {
+		/**
+		 * The callback to be invoked when the page is appended. (or null)
+		 *
+		 * @since 0.0.2 ~2026.10.17
+		 */
+		@Nullable
+		final LoadMoreController.Callback callback;
+		/**
+		 * The generation the request was made at.
+		 *
+		 * @since 0.0.2 ~2026.10.17
+		 */
+		final int generation;
+		/**
+		 * The key of the page.
+		 *
+		 * @since 0.0.2 ~2026.10.17
+		 */
+		@NotNull
+		final K key;
+		/**
+		 * True, if the page replaces the items. (a refresh)
+		 *
+		 * @since 0.0.2 ~2026.10.17
+		 */
+		final boolean replace;
+		/**
+		 * The task fetching the page.
+		 *
+		 * @since 0.0.2 ~2026.10.17
+		 */
+		@NotNull
+		final FutureTask<Void> task;
+
+		/**
+		 * True, if the request got cancelled.
+		 *
+		 * @since 0.0.2 ~2026.10.17
+		 */
+		volatile boolean cancelled;
+		/**
+		 * True, if the request completed. Guarded by the lock of the source.
+		 *
+		 * @since 0.0.2 ~2026.10.17
+		 */
+		boolean done;
+		/**
+		 * The failure of the request. Guarded by the lock of the source.
+		 *
+		 * @since 0.0.2 ~2026.10.17
+		 */
+		@Nullable
+		Throwable failure;
+		/**
+		 * The fetched page. Guarded by the lock of the source.
+		 *
+		 * @since 0.0.2 ~2026.10.17
+		 */
+		@Nullable
+		Page<K> page;
+
+		/**
+		 * Construct a new request.
+		 *
+		 * @param source     the source of the request.
+		 * @param key        the key of the page.
+		 * @param generation the generation the request was made at.
+		 * @param replace    true, if the page replaces the items.
+		 * @param callback   the callback to be invoked when the page is appended.
+		 * @since 0.0.2 ~2026.10.17
+		 */
+		Request(@NotNull ItemSource<K> source, @NotNull K key, int generation, boolean replace, @Nullable LoadMoreController.Callback callback) {
+			this.key = key;
+			this.generation = generation;
+			this.replace = replace;
+			this.callback = callback;
+			this.task = new FutureTask<>(() -> {
+				Page<K> page = null;
+				Throwable failure = null;
+
+				try {
+					page = Objects.requireNonNull(source.fetcher.fetch(key, this), "page");
+				} catch (Throwable throwable) {
+					failure = throwable;
+				}
+
+				source.complete(this, page, failure);
+			}, null);
+		}
+
+		/**
+		 * Return the key of the page.
+		 *
+		 * @return the key of the page.
+		 * @since 0.0.2 ~2026.10.17
+		 */
+		@NotNull
+		public K getKey() {
+			return this.key;
+		}
+
+		/**
+		 * Return true if the request got cancelled. (its result will be dropped)
+		 *
+		 * @return true, if cancelled.
+		 * @since 0.0.2 ~2026.10.17
+		 */
+		public boolean isCancelled() {
+			return this.cancelled;
+		}
+
+		/**
+		 * Cancel the request and interrupt its fetch.
+		 *
+		 * @since 0.0.2 ~2026.10.17
+		 */
+		void cancel() {
+			this.cancelled = true;
+			this.task.cancel(true);
+		}
+	}
+}
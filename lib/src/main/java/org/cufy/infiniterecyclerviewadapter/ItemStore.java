@@ -0,0 +1,1464 @@
+/*
+ *	Copyright 2021 Cufy
+ *
+ *	Licensed under the Apache License, Version 2.0 (the "License");
+ *	you may not use this file except in compliance with the License.
+ *	You may obtain a copy of the License at
+ *
+ *	    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *	Unless required by applicable law or agreed to in writing, software
+ *	distributed under the License is distributed on an "AS IS" BASIS,
+ *	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *	See the License for the specific language governing permissions and
+ *	limitations under the License.
+ */
+package org.cufy.infiniterecyclerviewadapter;
+
+import android.os.Handler;
+import android.os.Looper;
+
+import androidx.recyclerview.widget.DiffUtil;
+import androidx.recyclerview.widget.ListUpdateCallback;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.jetbrains.annotations.Range;
+
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.RandomAccess;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.BooleanSupplier;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+
+/**
+ * A copy-on-write versioned items store. Every change publishes a new immutable {@link
+ * Snapshot}. The published snapshots are handed (in order) to the observer of the store
+ * on the main thread together with the change that produced them. Changes can be made
+ * from any thread. Reads through this list return the latest published snapshot without
+ * locking. Since the snapshots are immutable, every single-item {@code set} or {@code
+ * remove} copies the items. Bursts of them should go through {@link #edit(Consumer)},
+ * {@link #setAll(int, Collection)}, {@link #removeRange(int, int)} or {@link
+ * #removeIf(Predicate)} to copy once.
+ *
+ * @author LSafer
+ * @version 0.0.2
+ * @since 0.0.2 ~2026.10.17
+ */
+public class ItemStore extends AbstractList<Object> implements RandomAccess {
+	/**
+	 * True, if a drain of the pending versions is currently posted to the main thread.
+	 *
+	 * @since 0.0.2 ~2026.10.17
+	 */
+	@NotNull
+	protected final AtomicBoolean drainPosted = new AtomicBoolean();
+	/**
+	 * The runnable draining the pending versions.
+	 *
+	 * @since 0.0.2 ~2026.10.17
+	 */
+	@NotNull
+	protected final Runnable drainer = this::drain;
+	/**
+	 * A handler posting to the main thread.
+	 *
+	 * @since 0.0.2 ~2026.10.17
+	 */
+	@NotNull
+	protected final Handler handler = new Handler(Looper.getMainLooper());
+	/**
+	 * The lock serializing the writers.
+	 *
+	 * @since 0.0.2 ~2026.10.17
+	 */
+	@NotNull
+	protected final Object lock = new Object();
+	/**
+	 * The observer to receive the published versions.
+	 *
+	 * @since 0.0.2 ~2026.10.17
+	 */
+	@NotNull
+	protected final Observer observer;
+	/**
+	 * The versions published but not handed to the observer yet.
+	 *
+	 * @since 0.0.2 ~2026.10.17
+	 */
+	@NotNull
+	protected final ConcurrentLinkedQueue<Version> pending = new ConcurrentLinkedQueue<>();
+	/**
+	 * The latest published snapshot.
+	 *
+	 * @since 0.0.2 ~2026.10.17
+	 */
+	@NotNull
+	protected volatile Snapshot latest = Snapshot.EMPTY;
+	/**
+	 * The number of submissions made to this store. Only the latest submission gets
+	 * published. Only accessed while holding the {@link #lock}.
+	 *
+	 * @since 0.0.2 ~2026.10.17
+	 */
+	protected int submissions;
+
+	/**
+	 * Construct a new items store publishing its versions to the given {@code observer}.
+	 *
+	 * @param observer the observer to receive the published versions.
+	 * @throws NullPointerException if the given {@code observer} is null.
+	 * @since 0.0.2 ~2026.10.17
+	 */
+	public ItemStore(@NotNull Observer observer) {
+		Objects.requireNonNull(observer, "observer");
+		this.observer = observer;
+	}
+
+	@Override
+	public boolean add(@Nullable Object element) {
+		synchronized (this.lock) {
+			Snapshot snapshot = this.latest;
+			this.publish(snapshot.insert(snapshot.size, new Object[]{element}), Change.inserted(snapshot.size, 1));
+		}
+
+		this.dispatch();
+		return true;
+	}
+
+	@Override
+	public void add(int index, @Nullable Object element) {
+		synchronized (this.lock) {
+			Snapshot snapshot = this.latest;
+			ItemStore.checkPositionIndex(index, snapshot.size);
+			this.publish(snapshot.insert(index, new Object[]{element}), Change.inserted(index, 1));
+		}
+
+		this.dispatch();
+	}
+
+	@Override
+	public boolean addAll(@NotNull Collection<?> collection) {
+		Objects.requireNonNull(collection, "collection");
+
+		if (collection instanceof CompactTable.RefList) {
+			//stored flat, without materializing the refs
+			CompactTable.RefList rows = (CompactTable.RefList) collection;
+
+			if (rows.size == 0)
+				return false;
+
+			synchronized (this.lock) {
+				Snapshot snapshot = this.latest;
+				int index = snapshot.size;
+				this.publish(snapshot.insert(index, rows.table, rows.offset, rows.size), Change.inserted(index, rows.size));
+			}
+
+			this.dispatch();
+			return true;
+		}
+
+		Object[] elements = collection.toArray();
+
+		if (elements.length == 0)
+			return false;
+
+		synchronized (this.lock) {
+			Snapshot snapshot = this.latest;
+			int index = snapshot.size;
+			this.publish(snapshot.insert(index, elements), Change.inserted(index, elements.length));
+		}
+
+		this.dispatch();
+		return true;
+	}
+
+	@Override
+	public boolean addAll(int index, @NotNull Collection<?> collection) {
+		Objects.requireNonNull(collection, "collection");
+
+		if (collection instanceof CompactTable.RefList) {
+			//stored flat, without materializing the refs
+			CompactTable.RefList rows = (CompactTable.RefList) collection;
+
+			synchronized (this.lock) {
+				Snapshot snapshot = this.latest;
+				ItemStore.checkPositionIndex(index, snapshot.size);
+
+				if (rows.size == 0)
+					return false;
+
+				this.publish(snapshot.insert(index, rows.table, rows.offset, rows.size), Change.inserted(index, rows.size));
+			}
+
+			this.dispatch();
+			return true;
+		}
+
+		Object[] elements = collection.toArray();
+
+		synchronized (this.lock) {
+			Snapshot snapshot = this.latest;
+			ItemStore.checkPositionIndex(index, snapshot.size);
+
+			if (elements.length == 0)
+				return false;
+
+			this.publish(snapshot.insert(index, elements), Change.inserted(index, elements.length));
+		}
+
+		this.dispatch();
+		return true;
+	}
+
+	@Override
+	public void clear() {
+		synchronized (this.lock) {
+			Snapshot snapshot = this.latest;
+
+			if (snapshot.size != 0)
+				this.publish(snapshot.remove(0, snapshot.size), Change.removed(0, snapshot.size));
+		}
+
+		this.dispatch();
+	}
+
+	@Nullable
+	@Override
+	public Object get(@Range(from = 0, to = Integer.MAX_VALUE) int index) {
+		return this.latest.get(index);
+	}
+
+	@NotNull
+	@Override
+	public Iterator<Object> iterator() {
+		return this.latest.iterator();
+	}
+
+	@Nullable
+	@Override
+	public Object remove(@Range(from = 0, to = Integer.MAX_VALUE) int index) {
+		Object element;
+
+		synchronized (this.lock) {
+			Snapshot snapshot = this.latest;
+			element = snapshot.get(index);
+			this.publish(snapshot.remove(index, 1), Change.removed(index, 1));
+		}
+
+		this.dispatch();
+		return element;
+	}
+
+	@Override
+	public boolean removeAll(@NotNull Collection<?> collection) {
+		Objects.requireNonNull(collection, "collection");
+		return this.removeIf(collection::contains);
+	}
+
+	@Override
+	public boolean removeIf(@NotNull Predicate<? super Object> filter) {
+		Objects.requireNonNull(filter, "filter");
+
+		while (true) {
+			//the filter is evaluated outside the lock, against a snapshot
+			Snapshot base = this.latest;
+			BitSet matches = new BitSet(base.size);
+
+			for (int i = 0; i < base.size; i++)
+				if (filter.test(base.get(i)))
+					matches.set(i);
+
+			if (matches.isEmpty())
+				return false;
+
+			synchronized (this.lock) {
+				if (this.latest != base)
+					//changed while filtering, filter the new version
+					continue;
+
+				//a single copy, carrying all the removals
+				Snapshot snapshot = base.remove(matches);
+				//from the end, so the indices of the remaining items stay valid
+				int end = matches.length();
+
+				while (end > 0) {
+					//coalesce adjacent matches into a single removal
+					int start = matches.previousClearBit(end - 1) + 1;
+					this.publish(snapshot, Change.removed(start, end - start));
+					end = start == 0 ? 0 : matches.previousSetBit(start - 1) + 1;
+				}
+			}
+
+			this.dispatch();
+			return true;
+		}
+	}
+
+	@Override
+	public boolean retainAll(@NotNull Collection<?> collection) {
+		Objects.requireNonNull(collection, "collection");
+		return this.removeIf(element -> !collection.contains(element));
+	}
+
+	@Nullable
+	@Override
+	public Object set(@Range(from = 0, to = Integer.MAX_VALUE) int index, @Nullable Object element) {
+		return this.set(index, element, null);
+	}
+
+	@Range(from = 0, to = Integer.MAX_VALUE)
+	@Override
+	public int size() {
+		return this.latest.size;
+	}
+
+	@NotNull
+	@Override
+	public Object[] toArray() {
+		Snapshot snapshot = this.latest;
+		Object[] array = new Object[snapshot.size];
+
+		for (int i = 0; i < array.length; i++)
+			array[i] = snapshot.get(i);
+
+		return array;
+	}
+
+	/**
+	 * Replace items of this store through an editor passed to the given {@code block}.
+	 * The items are copied once (at the first write) for all the writes of the editor,
+	 * instead of once per write. The writes are published (as a single version) when the
+	 * block returns. The observer receives a change per write. The block is invoked while
+	 * holding the {@link #lock} and must not write to this store directly.
+	 *
+	 * @param block the block to write through the editor.
+	 * @throws NullPointerException            if the given {@code block} is null.
+	 * @throws ConcurrentModificationException if the given {@code block} wrote to this
+	 *                                         store directly. (the writes of the editor
+	 *                                         get discarded)
+	 * @since 0.0.2 ~2026.10.17
+	 */
+	public void edit(@NotNull Consumer<@NotNull Editor> block) {
+		Objects.requireNonNull(block, "block");
+
+		synchronized (this.lock) {
+			Snapshot base = this.latest;
+			Editor editor = new Editor(base);
+
+			try {
+				block.accept(editor);
+			} finally {
+				editor.closed = true;
+			}
+
+			if (this.latest != base)
+				throw new ConcurrentModificationException("Written while editing");
+
+			if (editor.items != null) {
+				Snapshot snapshot = new Snapshot(editor.items, editor.indices, base.size, base.version + 1);
+
+				for (Change change : editor.changes)
+					this.publish(snapshot, change);
+			}
+		}
+
+		this.dispatch();
+	}
+
+	/**
+	 * Move the item at the given {@code fromIndex} to the given {@code toIndex}.
+	 *
+	 * @param fromIndex the current index of the item.
+	 * @param toIndex   the new index of the item.
+	 * @throws IndexOutOfBoundsException if the given {@code fromIndex} or {@code toIndex}
+	 *                                   is out of bounds.
+	 * @since 0.0.2 ~2026.10.17
+	 */
+	public void move(@Range(from = 0, to = Integer.MAX_VALUE) int fromIndex, @Range(from = 0, to = Integer.MAX_VALUE) int toIndex) {
+		synchronized (this.lock) {
+			Snapshot snapshot = this.latest;
+			Object element = snapshot.get(fromIndex);
+			ItemStore.checkElementIndex(toIndex, snapshot.size);
+
+			if (fromIndex != toIndex)
+				this.publish(
+						snapshot.remove(fromIndex, 1).insert(toIndex, new Object[]{element}),
+						Change.moved(fromIndex, toIndex)
+				);
+		}
+
+		this.dispatch();
+	}
+
+	/**
+	 * Replace all the items in this store with the given {@code items} in a single
+	 * version. The observer will treat it as the whole data set has changed.
+	 *
+	 * @param items the new items.
+	 * @throws NullPointerException if the given {@code items} is null.
+	 * @since 0.0.2 ~2026.10.17
+	 */
+	public void replace(@NotNull Collection<?> items) {
+		Objects.requireNonNull(items, "items");
+		Object[] elements = items.toArray();
+
+		synchronized (this.lock) {
+			this.publish(Snapshot.of(elements, this.latest.version + 1), Change.reset());
+		}
+
+		this.dispatch();
+	}
+
+	/**
+	 * Replace the item at the given {@code index} with the given {@code element}. The
+	 * observer will receive a change carrying the given {@code payload}, so only the
+	 * affected parts of the item get rebound. (the same element can be passed after
+	 * mutating it in place) The items are copied on each call. (to replace several
+	 * items, use {@link #setAll(int, Collection, Object)} or {@link #edit(Consumer)})
+	 *
+	 * @param index   the index of the item.
+	 * @param element the new item.
+	 * @param payload the change payload. (null for a full rebind)
+	 * @return the previous item.
+	 * @throws IndexOutOfBoundsException if the given {@code index} is out of bounds.
+	 * @since 0.0.2 ~2026.10.17
+	 */
+	@Nullable
+	public Object set(@Range(from = 0, to = Integer.MAX_VALUE) int index, @Nullable Object element, @Nullable Object payload) {
+		Object previous;
+
+		synchronized (this.lock) {
+			Snapshot snapshot = this.latest;
+			previous = snapshot.get(index);
+			this.publish(snapshot.replace(index, new Object[]{element}), Change.changed(index, 1, payload));
+		}
+
+		this.dispatch();
+		return previous;
+	}
+
+	/**
+	 * Replace the items starting at the given {@code index} with the given {@code items}
+	 * in a single version. The observer will receive a single range change.
+	 *
+	 * @param index the index of the first item to be replaced.
+	 * @param items the new items.
+	 * @throws NullPointerException      if the given {@code items} is null.
+	 * @throws IndexOutOfBoundsException if the replaced range is out of bounds.
+	 * @since 0.0.2 ~2026.10.17
+	 */
+	public void setAll(@Range(from = 0, to = Integer.MAX_VALUE) int index, @NotNull Collection<?> items) {
+		this.setAll(index, items, null);
+	}
+
+	/**
+	 * Replace the items starting at the given {@code index} with the given {@code items}
+	 * in a single version. The observer will receive a single range change carrying the
+	 * given {@code payload}.
+	 *
+	 * @param index   the index of the first item to be replaced.
+	 * @param items   the new items.
+	 * @param payload the change payload. (null for a full rebind)
+	 * @throws NullPointerException      if the given {@code items} is null.
+	 * @throws IndexOutOfBoundsException if the replaced range is out of bounds.
+	 * @since 0.0.2 ~2026.10.17
+	 */
+	public void setAll(@Range(from = 0, to = Integer.MAX_VALUE) int index, @NotNull Collection<?> items, @Nullable Object payload) {
+		Objects.requireNonNull(items, "items");
+		Object[] elements = items.toArray();
+
+		synchronized (this.lock) {
+			Snapshot snapshot = this.latest;
+
+			if (index < 0 || index + elements.length > snapshot.size)
+				throw new IndexOutOfBoundsException("Index: " + index + ", Count: " + elements.length + ", Size: " + snapshot.size);
+			if (elements.length != 0)
+				this.publish(snapshot.replace(index, elements), Change.changed(index, elements.length, payload));
+		}
+
+		this.dispatch();
+	}
+
+	/**
+	 * Return the latest published snapshot of this store.
+	 *
+	 * @return the latest snapshot.
+	 * @since 0.0.2 ~2026.10.17
+	 */
+	@NotNull
+	public Snapshot snapshot() {
+		return this.latest;
+	}
+
+	/**
+	 * Replace the items of this store with the given {@code items}. The difference
+	 * between the current items and the given {@code items} is calculated using the given
+	 * {@code executor}. If this store got changed before the difference got calculated, the
+	 * difference is calculated again against the changed items. The submission is only
+	 * discarded if another submission was made after it.
+	 *
+	 * @param items    the new items.
+	 * @param differ   the differ to compare the items with.
+	 * @param executor the executor to calculate the difference with.
+	 * @param <T>      the type of the items.
+	 * @throws NullPointerException if the given {@code items} or {@code differ} or {@code
+	 *                              executor} is null.
+	 * @since 0.0.2 ~2026.10.17
+	 */
+	public <T> void submit(@NotNull List<? extends T> items, @NotNull InfiniteRecyclerViewAdapter.ItemDiffer<T> differ, @NotNull Executor executor) {
+		this.submit(items, differ, executor, null, null);
+	}
+
+	/**
+	 * Replace the items of this store with the given {@code items}. The difference
+	 * between the current items and the given {@code items} is calculated using the given
+	 * {@code executor}. If this store got changed before the difference got calculated, the
+	 * difference is calculated again against the changed items. The submission is
+	 * discarded if another submission was made after it, or if the given {@code
+	 * condition} no longer holds when it is about to be published.
+	 *
+	 * @param items     the new items.
+	 * @param differ    the differ to compare the items with.
+	 * @param executor  the executor to calculate the difference with.
+	 * @param condition the condition checked (while holding the {@link #lock}) right
+	 *                  before publishing. (or null to always publish)
+	 * @param callback  the callback to be invoked (on the given {@code executor}) once the
+	 *                  submission got published or discarded. (or null)
+	 * @param <T>       the type of the items.
+	 * @throws NullPointerException if the given {@code items} or {@code differ} or {@code
+	 *                              executor} is null.
+	 * @since 0.0.2 ~2026.10.17
+	 */
+	public <T> void submit(@NotNull List<? extends T> items, @NotNull InfiniteRecyclerViewAdapter.ItemDiffer<T> differ, @NotNull Executor executor, @Nullable BooleanSupplier condition, @Nullable Runnable callback) {
+		Objects.requireNonNull(items, "items");
+		Objects.requireNonNull(differ, "differ");
+		Objects.requireNonNull(executor, "executor");
+		Object[] elements = items.toArray();
+		int submission;
+
+		synchronized (this.lock) {
+			submission = ++this.submissions;
+		}
+
+		executor.execute(new Runnable() {
+			@Override
+			public void run() {
+				Snapshot base = ItemStore.this.latest;
+				DiffUtil.DiffResult result = DiffUtil.calculateDiff(new InfiniteRecyclerViewAdapter.ItemDifferCallback<>(
+						base.list(),
+						Arrays.asList(elements),
+						differ
+				));
+
+				synchronized (ItemStore.this.lock) {
+					if (ItemStore.this.submissions == submission && (condition == null || condition.getAsBoolean())) {
+						if (ItemStore.this.latest != base) {
+							//stale, the items were changed while diffing. diff again
+							executor.execute(this);
+							return;
+						}
+
+						ItemStore.this.publish(Snapshot.of(elements, base.version + 1), Change.diff(result));
+					}
+					//otherwise, superseded by a later submission (or no longer wanted)
+				}
+
+				ItemStore.this.dispatch();
+
+				if (callback != null)
+					callback.run();
+			}
+		});
+	}
+
+	/**
+	 * Hand the pending versions to the observer. Immediately when invoked on the main
+	 * thread. Otherwise, posted to the main thread. Must not be invoked while holding the
+	 * {@link #lock}.
+	 *
+	 * @since 0.0.2 ~2026.10.17
+	 */
+	protected void dispatch() {
+		if (Looper.getMainLooper().isCurrentThread())
+			this.drain();
+		else if (!this.pending.isEmpty() && this.drainPosted.compareAndSet(false, true))
+			this.handler.post(this.drainer);
+	}
+
+	/**
+	 * Hand the pending versions to the observer. Must be invoked on the main thread.
+	 *
+	 * @since 0.0.2 ~2026.10.17
+	 */
+	protected void drain() {
+		this.drainPosted.set(false);
+
+		for (Version version; (version = this.pending.poll()) != null; )
+			this.observer.onPublished(version.snapshot, version.change);
+	}
+
+	/**
+	 * Publish the given {@code snapshot} as the latest version of this store. Must be
+	 * invoked while holding the {@link #lock}. The published version will be handed to the
+	 * observer by the next {@link #dispatch()}. A snapshot produced by several changes (in
+	 * a single copy) is published once per change, in order.
+	 *
+	 * @param snapshot the snapshot to be published.
+	 * @param change   the change that produced the given {@code snapshot}.
+	 * @throws NullPointerException if the given {@code snapshot} or {@code change} is
+	 *                              null.
+	 * @since 0.0.2 ~2026.10.17
+	 */
+	protected void publish(@NotNull Snapshot snapshot, @NotNull Change change) {
+		Objects.requireNonNull(snapshot, "snapshot");
+		Objects.requireNonNull(change, "change");
+		this.latest = snapshot;
+		this.pending.add(new Version(snapshot, change));
+		this.modCount++;
+		this.observer.onWritten(snapshot, change);
+	}
+
+	@Override
+	protected void removeRange(int fromIndex, int toIndex) {
+		synchronized (this.lock) {
+			Snapshot snapshot = this.latest;
+
+			if (fromIndex < 0 || toIndex > snapshot.size || fromIndex > toIndex)
+				throw new IndexOutOfBoundsException("fromIndex: " + fromIndex + ", toIndex: " + toIndex + ", size: " + snapshot.size);
+			if (fromIndex != toIndex)
+				this.publish(snapshot.remove(fromIndex, toIndex - fromIndex), Change.removed(fromIndex, toIndex - fromIndex));
+		}
+
+		this.dispatch();
+	}
+
+	/**
+	 * Throw an exception if the given {@code index} is not an element index.
+	 *
+	 * @param index the index to be checked.
+	 * @param size  the size of the list.
+	 * @throws IndexOutOfBoundsException if the given {@code index} is out of bounds.
+	 * @since 0.0.2 ~2026.10.17
+	 */
+	protected static void checkElementIndex(int index, int size) {
+		if (index < 0 || index >= size)
+			throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+	}
+
+	/**
+	 * Throw an exception if the given {@code index} is not a position index.
+	 *
+	 * @param index the index to be checked.
+	 * @param size  the size of the list.
+	 * @throws IndexOutOfBoundsException if the given {@code index} is out of bounds.
+	 * @since 0.0.2 ~2026.10.17
+	 */
+	protected static void checkPositionIndex(int index, int size) {
+		if (index < 0 || index > size)
+			throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+	}
+
+	/**
+	 * An observer to receive the versions published by a store.
+	 *
+	 * @author LSafer
+	 * @version 0.0.2
+	 * @since 0.0.2 ~2026.10.17
+	 */
+	@FunctionalInterface
+	public interface Observer {
+		/**
+		 * Invoked on the main thread (in order) for each version published by the store.
+		 *
+		 * @param snapshot the published snapshot.
+		 * @param change   the change that produced the given {@code snapshot}.
+		 * @throws NullPointerException if the given {@code snapshot} or {@code change} is
+		 *                              null.
+		 * @since 0.0.2 ~2026.10.17
+		 */
+		void onPublished(@NotNull Snapshot snapshot, @NotNull Change change);
+
+		/**
+		 * Invoked on the writing thread, while holding the lock of the store, for each
+		 * version as soon as it is written (before it is handed to the main thread). Meant
+		 * for scheduling background work early, so it must be quick and must not access the
+		 * store.
+		 *
+		 * @param snapshot the written snapshot.
+		 * @param change   the change that produced the given {@code snapshot}.
+		 * @throws NullPointerException if the given {@code snapshot} or {@code change} is
+		 *                              null.
+		 * @since 0.0.2 ~2026.10.17
+		 */
+		default void onWritten(@NotNull Snapshot snapshot, @NotNull Change change) {
+		}
+	}
+
+	/**
+	 * A change that produced a version of a store.
+	 *
+	 * @author LSafer
+	 * @version 0.0.2
+	 * @since 0.0.2 ~2026.10.17
+	 */
+	public static final class Change {
+		/**
+		 * A change of a range of items.
+		 *
+		 * @since 0.0.2 ~2026.10.17
+		 */
+		public static final int CHANGED = 0;
+		/**
+		 * A calculated difference.
+		 *
+		 * @since 0.0.2 ~2026.10.17
+		 */
+		public static final int DIFF = 1;
+		/**
+		 * An insertion of a range of items.
+		 *
+		 * @since 0.0.2 ~2026.10.17
+		 */
+		public static final int INSERTED = 2;
+		/**
+		 * A move of a single item.
+		 *
+		 * @since 0.0.2 ~2026.10.17
+		 */
+		public static final int MOVED = 3;
+		/**
+		 * A removal of a range of items.
+		 *
+		 * @since 0.0.2 ~2026.10.17
+		 */
+		public static final int REMOVED = 4;
+		/**
+		 * A replacement of the whole data set.
+		 *
+		 * @since 0.0.2 ~2026.10.17
+		 */
+		public static final int RESET = 5;
+
+		/**
+		 * The number of items. (or the target position of a move)
+		 *
+		 * @since 0.0.2 ~2026.10.17
+		 */
+		public final int count;
+		/**
+		 * The difference result. (for {@link #DIFF} changes)
+		 *
+		 * @since 0.0.2 ~2026.10.17
+		 */
+		@Nullable
+		public final DiffUtil.DiffResult diff;
+		/**
+		 * The kind of the change.
+		 *
+		 * @since 0.0.2 ~2026.10.17
+		 */
+		public final int kind;
+		/**
+		 * The change payload. (for {@link #CHANGED} changes)
+		 *
+		 * @since 0.0.2 ~2026.10.17
+		 */
+		@Nullable
+		public final Object payload;
+		/**
+		 * The position of the first item.
+		 *
+		 * @since 0.0.2 ~2026.10.17
+		 */
+		public final int position;
+
+		/**
+		 * Construct a new change.
+		 *
+		 * @param kind     the kind of the change.
+		 * @param position the position of the first item.
+		 * @param count    the number of items. (or the target position of a move)
+		 * @param payload  the change payload.
+		 * @param diff     the difference result.
+		 * @since 0.0.2 ~2026.10.17
+		 */
+		private Change(int kind, int position, int count, @Nullable Object payload, @Nullable DiffUtil.DiffResult diff) {
+			this.kind = kind;
+			this.position = position;
+			this.count = count;
+			this.payload = payload;
+			this.diff = diff;
+		}
+
+		/**
+		 * Return a change of the given range of items.
+		 *
+		 * @param position the position of the first item.
+		 * @param count    the number of items.
+		 * @return a new change.
+		 * @since 0.0.2 ~2026.10.17
+		 */
+		@NotNull
+		public static Change changed(int position, int count) {
+			return new Change(Change.CHANGED, position, count, null, null);
+		}
+
+		/**
+		 * Return a change of the given range of items carrying the given {@code
+		 * payload}.
+		 *
+		 * @param position the position of the first item.
+		 * @param count    the number of items.
+		 * @param payload  the change payload. (null for a full rebind)
+		 * @return a new change.
+		 * @since 0.0.2 ~2026.10.17
+		 */
+		@NotNull
+		public static Change changed(int position, int count, @Nullable Object payload) {
+			return new Change(Change.CHANGED, position, count, payload, null);
+		}
+
+		/**
+		 * Return a change of the given calculated difference.
+		 *
+		 * @param diff the difference result.
+		 * @return a new change.
+		 * @throws NullPointerException if the given {@code diff} is null.
+		 * @since 0.0.2 ~2026.10.17
+		 */
+		@NotNull
+		public static Change diff(@NotNull DiffUtil.DiffResult diff) {
+			Objects.requireNonNull(diff, "diff");
+			return new Change(Change.DIFF, 0, 0, null, diff);
+		}
+
+		/**
+		 * Return an insertion of the given range of items.
+		 *
+		 * @param position the position of the first item.
+		 * @param count    the number of items.
+		 * @return a new change.
+		 * @since 0.0.2 ~2026.10.17
+		 */
+		@NotNull
+		public static Change inserted(int position, int count) {
+			return new Change(Change.INSERTED, position, count, null, null);
+		}
+
+		/**
+		 * Return a move of a single item.
+		 *
+		 * @param fromPosition the previous position of the item.
+		 * @param toPosition   the new position of the item.
+		 * @return a new change.
+		 * @since 0.0.2 ~2026.10.17
+		 */
+		@NotNull
+		public static Change moved(int fromPosition, int toPosition) {
+			return new Change(Change.MOVED, fromPosition, toPosition, null, null);
+		}
+
+		/**
+		 * Return a removal of the given range of items.
+		 *
+		 * @param position the position of the first item.
+		 * @param count    the number of items.
+		 * @return a new change.
+		 * @since 0.0.2 ~2026.10.17
+		 */
+		@NotNull
+		public static Change removed(int position, int count) {
+			return new Change(Change.REMOVED, position, count, null, null);
+		}
+
+		/**
+		 * Return a replacement of the whole data set.
+		 *
+		 * @return a new change.
+		 * @since 0.0.2 ~2026.10.17
+		 */
+		@NotNull
+		public static Change reset() {
+			return new Change(Change.RESET, 0, 0, null, null);
+		}
+
+		/**
+		 * Dispatch this change to the given {@code callback}. A {@link #RESET} change
+		 * cannot be described to a callback and is ignored.
+		 *
+		 * @param callback the callback to dispatch this change to.
+		 * @throws NullPointerException if the given {@code callback} is null.
+		 * @since 0.0.2 ~2026.10.17
+		 */
+		public void dispatchTo(@NotNull ListUpdateCallback callback) {
+			Objects.requireNonNull(callback, "callback");
+			switch (this.kind) {
+				case Change.CHANGED:
+					callback.onChanged(this.position, this.count, this.payload);
+					break;
+				case Change.DIFF:
+					assert this.diff != null;
+					this.diff.dispatchUpdatesTo(callback);
+					break;
+				case Change.INSERTED:
+					callback.onInserted(this.position, this.count);
+					break;
+				case Change.MOVED:
+					callback.onMoved(this.position, this.count);
+					break;
+				case Change.REMOVED:
+					callback.onRemoved(this.position, this.count);
+					break;
+				default:
+					break;
+			}
+		}
+	}
+
+	/**
+	 * An editor writing to a single copy of the items of a store. Only valid within the
+	 * block passed to {@link ItemStore#edit(Consumer)}.
+	 *
+	 * @author LSafer
+	 * @version 0.0.2
+	 * @since 0.0.2 ~2026.10.17
+	 */
+	public static final class Editor {
+		/**
+		 * The snapshot being edited.
+		 *
+		 * @since 0.0.2 ~2026.10.17
+		 */
+		@NotNull
+		final Snapshot base;
+		/**
+		 * The changes made through this editor. (in order)
+		 *
+		 * @since 0.0.2 ~2026.10.17
+		 */
+		@NotNull
+		final List<@NotNull Change> changes = new ArrayList<>();
+		/**
+		 * True, if the block of this editor returned.
+		 *
+		 * @since 0.0.2 ~2026.10.17
+		 */
+		boolean closed;
+		/**
+		 * The copy of the row indices. (or null if not copied yet, or no row is stored)
+		 *
+		 * @since 0.0.2 ~2026.10.17
+		 */
+		int @Nullable [] indices;
+		/**
+		 * The copy of the items. (or null if nothing was written yet)
+		 *
+		 * @since 0.0.2 ~2026.10.17
+		 */
+		@Nullable
+		Object[] items;
+
+		/**
+		 * Construct a new editor of the given {@code base} snapshot.
+		 *
+		 * @param base the snapshot to be edited.
+		 * @since 0.0.2 ~2026.10.17
+		 */
+		Editor(@NotNull Snapshot base) {
+			this.base = base;
+		}
+
+		/**
+		 * Return the item at the given {@code index}. (including the writes of this
+		 * editor)
+		 *
+		 * @param index the index of the item.
+		 * @return the item at the given {@code index}.
+		 * @throws IndexOutOfBoundsException if the given {@code index} is out of bounds.
+		 * @throws IllegalStateException     if the block of this editor returned.
+		 * @since 0.0.2 ~2026.10.17
+		 */
+		@Nullable
+		public Object get(@Range(from = 0, to = Integer.MAX_VALUE) int index) {
+			if (this.closed)
+				throw new IllegalStateException("Closed editor");
+			if (this.items == null)
+				return this.base.get(index);
+
+			ItemStore.checkElementIndex(index, this.base.size);
+			Object item = this.items[index];
+
+			if (item instanceof CompactTable)
+				return new CompactTable.Ref((CompactTable) item, this.indices[index]);
+
+			return item;
+		}
+
+		/**
+		 * Replace the item at the given {@code index} with the given {@code element}. The
+		 * observer will receive a change carrying the given {@code payload}.
+		 *
+		 * @param index   the index of the item.
+		 * @param element the new item.
+		 * @param payload the change payload. (null for a full rebind)
+		 * @return the previous item.
+		 * @throws IndexOutOfBoundsException if the given {@code index} is out of bounds.
+		 * @throws IllegalStateException     if the block of this editor returned.
+		 * @since 0.0.2 ~2026.10.17
+		 */
+		@Nullable
+		public Object set(@Range(from = 0, to = Integer.MAX_VALUE) int index, @Nullable Object element, @Nullable Object payload) {
+			Object previous = this.get(index);
+
+			if (this.items == null) {
+				//the only copy of this editor
+				this.items = Arrays.copyOf(this.base.items, this.base.size);
+				this.indices = this.base.indices == null ? null : Arrays.copyOf(this.base.indices, this.base.size);
+			}
+
+			this.indices = Snapshot.put(this.items, this.indices, index, new Object[]{element});
+			this.changes.add(Change.changed(index, 1, payload));
+			return previous;
+		}
+
+		/**
+		 * Return the number of items.
+		 *
+		 * @return the number of items.
+		 * @since 0.0.2 ~2026.10.17
+		 */
+		@Range(from = 0, to = Integer.MAX_VALUE)
+		public int size() {
+			return this.base.size;
+		}
+	}
+
+	/**
+	 * An immutable snapshot of the items of a store. The rows of a {@link CompactTable}
+	 * are stored flat (their table and their index) without an object per row. They are
+	 * materialized as {@link CompactTable.Ref}s by {@link #get(int)}, or decoded into a
+	 * reused {@link CompactTable.Row} by {@link #get(int, CompactTable.Row)}.
+	 *
+	 * @author LSafer
+	 * @version 0.0.2
+	 * @since 0.0.2 ~2026.10.17
+	 */
+	public static final class Snapshot {
+		/**
+		 * An empty snapshot.
+		 *
+		 * @since 0.0.2 ~2026.10.17
+		 */
+		@NotNull
+		public static final Snapshot EMPTY = new Snapshot(new Object[0], null, 0, 0);
+
+		/**
+		 * The row indices of the items that are rows of a table. (parallel to {@link
+		 * #items}, or null if no row was stored)
+		 *
+		 * @since 0.0.2 ~2026.10.17
+		 */
+		final int @Nullable [] indices;
+		/**
+		 * The items array. (the table in place of each row) Only the first {@link #size}
+		 * elements belong to this snapshot. The elements after them might be used by
+		 * later snapshots.
+		 *
+		 * @since 0.0.2 ~2026.10.17
+		 */
+		@NotNull
+		final Object[] items;
+		/**
+		 * The number of items.
+		 *
+		 * @since 0.0.2 ~2026.10.17
+		 */
+		final int size;
+		/**
+		 * The version of this snapshot.
+		 *
+		 * @since 0.0.2 ~2026.10.17
+		 */
+		final int version;
+
+		/**
+		 * Construct a new snapshot.
+		 *
+		 * @param items   the items array.
+		 * @param indices the row indices array. (or null if no row is stored)
+		 * @param size    the number of items.
+		 * @param version the version of the snapshot.
+		 * @since 0.0.2 ~2026.10.17
+		 */
+		Snapshot(@NotNull Object[] items, int @Nullable [] indices, int size, int version) {
+			this.items = items;
+			this.indices = indices;
+			this.size = size;
+			this.version = version;
+		}
+
+		/**
+		 * Return the item at the given {@code index}. A row of a table is returned as a
+		 * new {@link CompactTable.Ref}.
+		 *
+		 * @param index the index of the item.
+		 * @return the item at the given {@code index}.
+		 * @throws IndexOutOfBoundsException if the given {@code index} is out of bounds.
+		 * @since 0.0.2 ~2026.10.17
+		 */
+		@Nullable
+		public Object get(@Range(from = 0, to = Integer.MAX_VALUE) int index) {
+			ItemStore.checkElementIndex(index, this.size);
+			Object item = this.items[index];
+
+			if (item instanceof CompactTable)
+				return new CompactTable.Ref((CompactTable) item, this.indices[index]);
+
+			return item;
+		}
+
+		/**
+		 * Return the item at the given {@code index}. A row of a table is returned as the
+		 * given {@code row} moved to it. (without allocating)
+		 *
+		 * @param index the index of the item.
+		 * @param row   the flyweight to decode a row of a table with.
+		 * @return the item at the given {@code index}.
+		 * @throws NullPointerException      if the given {@code row} is null.
+		 * @throws IndexOutOfBoundsException if the given {@code index} is out of bounds.
+		 * @since 0.0.2 ~2026.10.17
+		 */
+		@Nullable
+		public Object get(@Range(from = 0, to = Integer.MAX_VALUE) int index, @NotNull CompactTable.Row row) {
+			Objects.requireNonNull(row, "row");
+			ItemStore.checkElementIndex(index, this.size);
+			Object item = this.items[index];
+
+			if (item instanceof CompactTable)
+				return row.moveTo((CompactTable) item, this.indices[index]);
+
+			return item;
+		}
+
+		/**
+		 * Return an iterator over the items of this snapshot.
+		 *
+		 * @return a new read-only iterator.
+		 * @since 0.0.2 ~2026.10.17
+		 */
+		@NotNull
+		public Iterator<Object> iterator() {
+			return new Iterator<Object>() {
+				private int cursor;
+
+				@Override
+				public boolean hasNext() {
+					return this.cursor < Snapshot.this.size;
+				}
+
+				@Override
+				public Object next() {
+					if (this.cursor >= Snapshot.this.size)
+						throw new NoSuchElementException();
+
+					return Snapshot.this.get(this.cursor++);
+				}
+			};
+		}
+
+		/**
+		 * Return the number of items in this snapshot.
+		 *
+		 * @return the number of items.
+		 * @since 0.0.2 ~2026.10.17
+		 */
+		@Range(from = 0, to = Integer.MAX_VALUE)
+		public int size() {
+			return this.size;
+		}
+
+		/**
+		 * Return the version of this snapshot.
+		 *
+		 * @return the version.
+		 * @since 0.0.2 ~2026.10.17
+		 */
+		public int version() {
+			return this.version;
+		}
+
+		/**
+		 * Return a new snapshot of the given {@code elements}. The refs in the given
+		 * {@code elements} are stored flat. (the given array is reused)
+		 *
+		 * @param elements the elements.
+		 * @param version  the version of the snapshot.
+		 * @return a new snapshot.
+		 * @since 0.0.2 ~2026.10.17
+		 */
+		@NotNull
+		static Snapshot of(@NotNull Object[] elements, int version) {
+			int[] indices = Snapshot.put(elements, null, 0, elements);
+			return new Snapshot(elements, indices, elements.length, version);
+		}
+
+		/**
+		 * Write the given {@code elements} to the given {@code items} starting at the
+		 * given {@code index}. The refs are written flat. (their tables to the given
+		 * {@code items} and their indices to the given {@code indices})
+		 *
+		 * @param items    the items array.
+		 * @param indices  the row indices array. (or null if not allocated yet)
+		 * @param index    the index to write the first element at.
+		 * @param elements the elements to be written.
+		 * @return the row indices array. (allocated if a ref was written, null otherwise)
+		 * @since 0.0.2 ~2026.10.17
+		 */
+		static int @Nullable [] put(@NotNull Object[] items, int @Nullable [] indices, int index, @NotNull Object[] elements) {
+			for (int i = 0; i < elements.length; i++) {
+				Object element = elements[i];
+
+				if (element instanceof CompactTable.Ref) {
+					CompactTable.Ref ref = (CompactTable.Ref) element;
+
+					if (indices == null)
+						indices = new int[items.length];
+
+					items[index + i] = ref.table;
+					indices[index + i] = ref.index;
+				} else
+					items[index + i] = element;
+			}
+
+			return indices;
+		}
+
+		/**
+		 * Return a new snapshot with the given {@code elements} inserted at the given
+		 * {@code index}. Appending to the latest snapshot reuses its arrays when they have
+		 * spare capacity (the older snapshots never read past their size).
+		 *
+		 * @param index    the index to insert at.
+		 * @param elements the elements to be inserted.
+		 * @return a new snapshot.
+		 * @since 0.0.2 ~2026.10.17
+		 */
+		@NotNull
+		Snapshot insert(int index, @NotNull Object[] elements) {
+			int size = this.size + elements.length;
+
+			if (index == this.size && size <= this.items.length) {
+				int[] indices = Snapshot.put(this.items, this.indices, index, elements);
+				return new Snapshot(this.items, indices, size, this.version + 1);
+			}
+
+			int capacity = Math.max(size, this.size + (this.size >> 1));
+			Object[] items = new Object[capacity];
+			int[] indices = this.indices == null ? null : new int[capacity];
+			System.arraycopy(this.items, 0, items, 0, index);
+			System.arraycopy(this.items, index, items, index + elements.length, this.size - index);
+
+			if (indices != null) {
+				System.arraycopy(this.indices, 0, indices, 0, index);
+				System.arraycopy(this.indices, index, indices, index + elements.length, this.size - index);
+			}
+
+			indices = Snapshot.put(items, indices, index, elements);
+			return new Snapshot(items, indices, size, this.version + 1);
+		}
+
+		/**
+		 * Return a new snapshot with the rows of the given {@code table} starting at the
+		 * given {@code offset} inserted (flat) at the given {@code index}.
+		 *
+		 * @param index  the index to insert at.
+		 * @param table  the table of the rows.
+		 * @param offset the index of the first row.
+		 * @param count  the number of rows.
+		 * @return a new snapshot.
+		 * @since 0.0.2 ~2026.10.17
+		 */
+		@NotNull
+		Snapshot insert(int index, @NotNull CompactTable table, int offset, int count) {
+			int size = this.size + count;
+			Object[] items;
+			int[] indices;
+
+			if (index == this.size && size <= this.items.length) {
+				items = this.items;
+				indices = this.indices == null ? new int[items.length] : this.indices;
+			} else {
+				int capacity = Math.max(size, this.size + (this.size >> 1));
+				items = new Object[capacity];
+				indices = new int[capacity];
+				System.arraycopy(this.items, 0, items, 0, index);
+				System.arraycopy(this.items, index, items, index + count, this.size - index);
+
+				if (this.indices != null) {
+					System.arraycopy(this.indices, 0, indices, 0, index);
+					System.arraycopy(this.indices, index, indices, index + count, this.size - index);
+				}
+			}
+
+			Arrays.fill(items, index, index + count, table);
+
+			for (int i = 0; i < count; i++)
+				indices[index + i] = offset + i;
+
+			return new Snapshot(items, indices, size, this.version + 1);
+		}
+
+		/**
+		 * Return a read-only list view of this snapshot.
+		 *
+		 * @return a list view of this snapshot.
+		 * @since 0.0.2 ~2026.10.17
+		 */
+		@NotNull
+		List<Object> list() {
+			return new ListView();
+		}
+
+		/**
+		 * Return a new snapshot with the items at the given {@code matches} removed. (in a
+		 * single copy)
+		 *
+		 * @param matches the indices of the items to be removed.
+		 * @return a new snapshot.
+		 * @since 0.0.2 ~2026.10.17
+		 */
+		@NotNull
+		Snapshot remove(@NotNull BitSet matches) {
+			int size = this.size - matches.cardinality();
+			Object[] items = new Object[size];
+			int[] indices = this.indices == null ? null : new int[size];
+
+			for (int start = matches.nextClearBit(0), index = 0; start < this.size; ) {
+				int end = matches.nextSetBit(start);
+
+				if (end < 0)
+					end = this.size;
+
+				System.arraycopy(this.items, start, items, index, end - start);
+
+				if (indices != null)
+					System.arraycopy(this.indices, start, indices, index, end - start);
+
+				index += end - start;
+				start = matches.nextClearBit(end);
+			}
+
+			return new Snapshot(items, indices, size, this.version + 1);
+		}
+
+		/**
+		 * Return a new snapshot with the given range removed.
+		 *
+		 * @param index the index of the first item to be removed.
+		 * @param count the number of items to be removed.
+		 * @return a new snapshot.
+		 * @since 0.0.2 ~2026.10.17
+		 */
+		@NotNull
+		Snapshot remove(int index, int count) {
+			int size = this.size - count;
+			Object[] items = new Object[size];
+			int[] indices = this.indices == null ? null : new int[size];
+			System.arraycopy(this.items, 0, items, 0, index);
+			System.arraycopy(this.items, index + count, items, index, size - index);
+
+			if (indices != null) {
+				System.arraycopy(this.indices, 0, indices, 0, index);
+				System.arraycopy(this.indices, index + count, indices, index, size - index);
+			}
+
+			return new Snapshot(items, indices, size, this.version + 1);
+		}
+
+		/**
+		 * Return a new snapshot with the items starting at the given {@code index}
+		 * replaced with the given {@code elements}.
+		 *
+		 * @param index    the index of the first item to be replaced.
+		 * @param elements the new elements.
+		 * @return a new snapshot.
+		 * @since 0.0.2 ~2026.10.17
+		 */
+		@NotNull
+		Snapshot replace(int index, @NotNull Object[] elements) {
+			Object[] items = Arrays.copyOf(this.items, this.size);
+			int[] indices = this.indices == null ? null : Arrays.copyOf(this.indices, this.size);
+			indices = Snapshot.put(items, indices, index, elements);
+			return new Snapshot(items, indices, this.size, this.version + 1);
+		}
+
+		/**
+		 * A read-only list view of a snapshot.
+		 *
+		 * @author LSafer
+		 * @version 0.0.2
+		 * @since 0.0.2 ~2026.10.17
+		 */
+		final class ListView extends AbstractList<Object> implements RandomAccess {
+			@Nullable
+			@Override
+			public Object get(int index) {
+				return Snapshot.this.get(index);
+			}
+
+			@Override
+			public int size() {
+				return Snapshot.this.size;
+			}
+		}
+	}
+
+	/**
+	 * A published version of a store.
+	 *
+	 * @author LSafer
+	 * @version 0.0.2
+	 * @since 0.0.2 ~2026.10.17
+	 */
+	protected static final class Version {
+		/**
+		 * The change that produced the snapshot.
+		 *
+		 * @since 0.0.2 ~2026.10.17
+		 */
+		@NotNull
+		final Change change;
+		/**
+		 * The published snapshot.
+		 *
+		 * @since 0.0.2 ~2026.10.17
+		 */
+		@NotNull
+		final Snapshot snapshot;
+
+		/**
+		 * Construct a new version.
+		 *
+		 * @param snapshot the published snapshot.
+		 * @param change   the change that produced the snapshot.
+		 * @since 0.0.2 ~2026.10.17
+		 */
+		Version(@NotNull Snapshot snapshot, @NotNull Change change) {
+			this.snapshot = snapshot;
+			this.change = change;
+		}
+	}
+}
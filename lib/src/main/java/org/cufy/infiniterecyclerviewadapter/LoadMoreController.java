@@ -0,0 +1,490 @@
+/*
+ *	Copyright 2021 Cufy
+ *
+ *	Licensed under the Apache License, Version 2.0 (the "License");
+ *	you may not use this file except in compliance with the License.
+ *	You may obtain a copy of the License at
+ *
+ *	    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *	Unless required by applicable law or agreed to in writing, software
+ *	distributed under the License is distributed on an "AS IS" BASIS,
+ *	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *	See the License for the specific language governing permissions and
+ *	limitations under the License.
+ */
+package org.cufy.infiniterecyclerviewadapter;
+
+import android.os.Handler;
+import android.os.Looper;
+import android.os.SystemClock;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.jetbrains.annotations.Range;
+
+import java.util.Objects;
+
+/**
+ * A controller loading more items when the visible positions get within a prefetch
+ * distance from the end of the items (and optionally, from the start of the items). Only
+ * one load is in-flight at a time on each side. The controller stops loading a side when
+ * its loader reports that there are no more items, and does not retry a failed load
+ * until the items count changes (or {@link #retry()} is invoked).
+ * <br>
+ * All the methods of this class must be invoked on the main thread.
+ *
+ * @author LSafer
+ * @version 0.0.2
+ * @since 0.0.2 ~2026.10.17
+ */
+public class LoadMoreController implements InfiniteRecyclerViewAdapter.OnScrollListener {
+	/**
+	 * A handler posting to the main thread.
+	 *
+	 * @since 0.0.2 ~2026.10.17
+	 */
+	@NotNull
+	protected final Handler handler = new Handler(Looper.getMainLooper());
+	/**
+	 * The loading state of the start of the items.
+	 *
+	 * @since 0.0.2 ~2026.10.17
+	 */
+	@NotNull
+	protected final Side head = new Side();
+	/**
+	 * The loading state of the end of the items.
+	 *
+	 * @since 0.0.2 ~2026.10.17
+	 */
+	@NotNull
+	protected final Side tail = new Side();
+	/**
+	 * The adapter this controller is set to. (or null if not set to an adapter)
+	 *
+	 * @since 0.0.2 ~2026.10.17
+	 */
+	@Nullable
+	protected InfiniteRecyclerViewAdapter adapter;
+	/**
+	 * The last visible item when the last scroll occurred. (or -1 if no scroll occurred)
+	 *
+	 * @since 0.0.2 ~2026.10.17
+	 */
+	protected int lastVisible = -1;
+	/**
+	 * How many milliseconds of scrolling (at the reported velocity) to look ahead. (0 to
+	 * disable velocity-aware lookahead)
+	 *
+	 * @since 0.0.2 ~2026.10.17
+	 */
+	protected long lookahead;
+	/**
+	 * The listener to report the load latencies to. (or null if disabled)
+	 *
+	 * @since 0.0.2 ~2026.10.17
+	 */
+	@Nullable
+	protected InfiniteRecyclerViewAdapter.MetricsListener metricsListener;
+	/**
+	 * How many items before the end (or the start) of the items to start loading at.
+	 *
+	 * @since 0.0.2 ~2026.10.17
+	 */
+	protected int prefetchDistance;
+	/**
+	 * The number of spans (items per row) of the layout manager.
+	 *
+	 * @since 0.0.2 ~2026.10.17
+	 */
+	protected int spanCount = 1;
+
+	/**
+	 * Construct a new load-more controller.
+	 *
+	 * @param loader           the loader to load more items at the end with.
+	 * @param prefetchDistance how many items before the end of the items to start
+	 *                         loading at.
+	 * @throws NullPointerException     if the given {@code loader} is null.
+	 * @throws IllegalArgumentException if the given {@code prefetchDistance} is
+	 *                                  negative.
+	 * @since 0.0.2 ~2026.10.17
+	 */
+	public LoadMoreController(@NotNull Loader loader, @Range(from = 0, to = Integer.MAX_VALUE) int prefetchDistance) {
+		Objects.requireNonNull(loader, "loader");
+		if (prefetchDistance < 0)
+			throw new IllegalArgumentException("prefetchDistance < 0");
+		this.tail.loader = loader;
+		this.prefetchDistance = prefetchDistance;
+	}
+
+	@Override
+	public void onScroll(int count, int first, int last) {
+		this.onScroll(count, first, last, 0, 0);
+	}
+
+	@Override
+	public void onScroll(int count, int first, int last, int direction, float velocity) {
+		if (first < 0 || last < 0)
+			return;
+
+		this.lastVisible = last;
+
+		//in a grid, the distance is in rows
+		int distance = this.prefetchDistance * this.spanCount;
+		int ahead = (int) (Math.abs(velocity) * this.lookahead / 1000);
+		int tailDistance = distance + (velocity > 0 ? ahead : 0);
+		int headDistance = distance + (velocity < 0 ? ahead : 0);
+
+		if (last + tailDistance >= count - 1)
+			this.load(this.tail, count);
+		if (first - headDistance <= 0)
+			this.load(this.head, count);
+	}
+
+	/**
+	 * Return true if there are no more items to be loaded at the end.
+	 *
+	 * @return true, if the loader is exhausted.
+	 * @since 0.0.2 ~2026.10.17
+	 */
+	public boolean isExhausted() {
+		return this.tail.exhausted;
+	}
+
+	/**
+	 * Return true if there are no more items to be loaded at the start (or no head
+	 * loader was set).
+	 *
+	 * @return true, if the head loader is exhausted.
+	 * @since 0.0.2 ~2026.10.17
+	 */
+	public boolean isHeadExhausted() {
+		return this.head.loader == null || this.head.exhausted;
+	}
+
+	/**
+	 * Return true if a load at the start is currently in-flight.
+	 *
+	 * @return true, if loading at the start.
+	 * @since 0.0.2 ~2026.10.17
+	 */
+	public boolean isHeadLoading() {
+		return this.head.loading;
+	}
+
+	/**
+	 * Return true if a load at the end is currently in-flight.
+	 *
+	 * @return true, if loading.
+	 * @since 0.0.2 ~2026.10.17
+	 */
+	public boolean isLoading() {
+		return this.tail.loading;
+	}
+
+	/**
+	 * Load more items at the start now (unless a load is in-flight, the head loader is
+	 * exhausted or no head loader was set).
+	 *
+	 * @return true, if a load started.
+	 * @since 0.0.2 ~2026.10.17
+	 */
+	public boolean loadHead() {
+		return this.load(this.head, -1);
+	}
+
+	/**
+	 * Load more items at the end now (unless a load is in-flight or the loader is
+	 * exhausted).
+	 *
+	 * @return true, if a load started.
+	 * @since 0.0.2 ~2026.10.17
+	 */
+	public boolean loadMore() {
+		return this.load(this.tail, -1);
+	}
+
+	/**
+	 * Forget the loading state (exhaustion, failures and the in-flight loads). Useful
+	 * when the items got refreshed. The results of the in-flight loads will be ignored.
+	 *
+	 * @since 0.0.2 ~2026.10.17
+	 */
+	public void reset() {
+		this.head.reset();
+		this.tail.reset();
+	}
+
+	/**
+	 * Allow retrying after a failed load. The next scroll reaching the prefetch distance
+	 * will trigger a load.
+	 *
+	 * @since 0.0.2 ~2026.10.17
+	 */
+	public void retry() {
+		this.head.failedCount = -1;
+		this.tail.failedCount = -1;
+	}
+
+	/**
+	 * Set the loader to load more items at the start of the items with. The loader
+	 * should insert the loaded items at index {@code 0}. Consider enabling {@link
+	 * InfiniteRecyclerViewAdapter#setAnchoring(boolean)} to keep the visible items in
+	 * place.
+	 *
+	 * @param loader the head loader. (or null to disable loading at the start)
+	 * @since 0.0.2 ~2026.10.17
+	 */
+	public void setHeadLoader(@Nullable Loader loader) {
+		this.head.reset();
+		this.head.loader = loader;
+	}
+
+	/**
+	 * Set how many milliseconds of scrolling (at the velocity reported by the adapter)
+	 * to look ahead when deciding to load. A fast fling triggers the load earlier. Use
+	 * the expected latency of a load.
+	 *
+	 * @param lookahead the lookahead in milliseconds. (0 to disable)
+	 * @throws IllegalArgumentException if the given {@code lookahead} is negative.
+	 * @since 0.0.2 ~2026.10.17
+	 */
+	public void setLookahead(@Range(from = 0, to = Long.MAX_VALUE) long lookahead) {
+		if (lookahead < 0)
+			throw new IllegalArgumentException("lookahead < 0");
+		this.lookahead = lookahead;
+	}
+
+	/**
+	 * Set the listener to report the load latencies to. (set by the adapter)
+	 *
+	 * @param listener the listener. (null to disable the metrics)
+	 * @since 0.0.2 ~2026.10.17
+	 */
+	public void setMetricsListener(@Nullable InfiniteRecyclerViewAdapter.MetricsListener listener) {
+		this.metricsListener = listener;
+	}
+
+	/**
+	 * Set how many items (rows, in a grid) before the end (or the start) of the items to
+	 * start loading at.
+	 *
+	 * @param prefetchDistance the prefetch distance.
+	 * @throws IllegalArgumentException if the given {@code prefetchDistance} is
+	 *                                  negative.
+	 * @since 0.0.2 ~2026.10.17
+	 */
+	public void setPrefetchDistance(@Range(from = 0, to = Integer.MAX_VALUE) int prefetchDistance) {
+		if (prefetchDistance < 0)
+			throw new IllegalArgumentException("prefetchDistance < 0");
+		this.prefetchDistance = prefetchDistance;
+	}
+
+	/**
+	 * Set the number of spans (items per row) of the layout manager. The prefetch
+	 * distance is multiplied by it, so it counts rows in a grid. Invoked by the adapter on
+	 * every scroll.
+	 *
+	 * @param spanCount the number of spans.
+	 * @throws IllegalArgumentException if the given {@code spanCount} is less than 1.
+	 * @since 0.0.2 ~2026.10.17
+	 */
+	public void setSpanCount(@Range(from = 1, to = Integer.MAX_VALUE) int spanCount) {
+		if (spanCount < 1)
+			throw new IllegalArgumentException("spanCount < 1");
+		this.spanCount = spanCount;
+	}
+
+	/**
+	 * Start a load on the given {@code side} (unless it has no loader, a load is
+	 * in-flight, it is exhausted or its last load failed at the given {@code count}).
+	 *
+	 * @param side  the side to load at.
+	 * @param count the current items count. (or -1 to skip the failure check)
+	 * @return true, if a load started.
+	 * @throws NullPointerException if the given {@code side} is null.
+	 * @since 0.0.2 ~2026.10.17
+	 */
+	protected boolean load(@NotNull Side side, int count) {
+		Objects.requireNonNull(side, "side");
+		Loader loader = side.loader;
+
+		if (loader == null || side.loading || side.exhausted || count >= 0 && count == side.failedCount)
+			return false;
+
+		int token = ++side.token;
+		long start = this.metricsListener == null ? 0 : SystemClock.elapsedRealtimeNanos();
+		side.loading = true;
+		loader.load(new Callback() {
+			@Override
+			public void onFailed(@NotNull Throwable throwable) {
+				LoadMoreController.this.handler.post(() -> {
+					if (side.token != token)
+						return;
+
+					side.loading = false;
+					side.failedCount = count;
+					LoadMoreController.this.onLoaded(start, true);
+				});
+			}
+
+			@Override
+			public void onLoaded(boolean hasMore) {
+				LoadMoreController.this.handler.post(() -> {
+					if (side.token != token)
+						return;
+
+					LoadMoreController.this.onLoaded(start, false);
+					side.loading = false;
+					side.exhausted = !hasMore;
+					side.failedCount = -1;
+
+					if (side == LoadMoreController.this.tail)
+						//the scrolling might have stopped within the prefetch distance
+						LoadMoreController.this.recheck();
+				});
+			}
+		});
+		return true;
+	}
+
+	/**
+	 * Report a completed load that started at the given {@code start} to the metrics
+	 * listener. (if any)
+	 *
+	 * @param start  the time (elapsed realtime nanos) the load started at. (0 if not
+	 *               measured)
+	 * @param failed true, if the load failed.
+	 * @since 0.0.2 ~2026.10.17
+	 */
+	protected void onLoaded(long start, boolean failed) {
+		InfiniteRecyclerViewAdapter.MetricsListener listener = this.metricsListener;
+
+		if (listener != null && start != 0)
+			listener.onLoaded(SystemClock.elapsedRealtimeNanos() - start, failed);
+	}
+
+	/**
+	 * Check the last visible item against the current items count of the adapter (if
+	 * any) and load more items at the end if it is still within the prefetch distance.
+	 * Invoked when a load at the end completes, since no scroll gets dispatched while the
+	 * visible range stays the same. (the head is left to the scroll dispatched by the
+	 * anchoring, as the positions shift after a load at the start)
+	 *
+	 * @since 0.0.2 ~2026.10.17
+	 */
+	protected void recheck() {
+		InfiniteRecyclerViewAdapter adapter = this.adapter;
+		int count = adapter == null ? 0 : adapter.snapshot.size();
+
+		if (count == 0 || this.lastVisible < 0)
+			return;
+
+		int last = Math.min(this.lastVisible, count - 1);
+
+		if (last + this.prefetchDistance * this.spanCount >= count - 1)
+			this.load(this.tail, count);
+	}
+
+	/**
+	 * A callback to be invoked (from any thread) when a load completes.
+	 *
+	 * @author LSafer
+	 * @version 0.0.2
+	 * @since 0.0.2 ~2026.10.17
+	 */
+	public interface Callback {
+		/**
+		 * Invoked when the load failed.
+		 *
+		 * @param throwable the failure.
+		 * @throws NullPointerException if the given {@code throwable} is null.
+		 * @since 0.0.2 ~2026.10.17
+		 */
+		void onFailed(@NotNull Throwable throwable);
+
+		/**
+		 * Invoked when the load succeeded (after the loaded items got added).
+		 *
+		 * @param hasMore true, if there are more items to be loaded.
+		 * @since 0.0.2 ~2026.10.17
+		 */
+		void onLoaded(boolean hasMore);
+	}
+
+	/**
+	 * A loader of more items.
+	 *
+	 * @author LSafer
+	 * @version 0.0.2
+	 * @since 0.0.2 ~2026.10.17
+	 */
+	@FunctionalInterface
+	public interface Loader {
+		/**
+		 * Load more items, add them to the adapter, then invoke the given {@code
+		 * callback}.
+		 *
+		 * @param callback the callback to be invoked when the load completes.
+		 * @throws NullPointerException if the given {@code callback} is null.
+		 * @since 0.0.2 ~2026.10.17
+		 */
+		void load(@NotNull Callback callback);
+	}
+
+	/**
+	 * The loading state of a side of the items.
+	 *
+	 * @author LSafer
+	 * @version 0.0.2
+	 * @since 0.0.2 ~2026.10.17
+	 */
+	protected static class Side {
+		/**
+		 * True, if there are no more items to be loaded.
+		 *
+		 * @since 0.0.2 ~2026.10.17
+		 */
+		public boolean exhausted;
+		/**
+		 * The items count when the last load failed. (or -1 if the last load did not
+		 * fail)
+		 *
+		 * @since 0.0.2 ~2026.10.17
+		 */
+		public int failedCount = -1;
+		/**
+		 * The loader of the side. (or null if the side is not loaded)
+		 *
+		 * @since 0.0.2 ~2026.10.17
+		 */
+		@Nullable
+		public Loader loader;
+		/**
+		 * True, if a load is currently in-flight.
+		 *
+		 * @since 0.0.2 ~2026.10.17
+		 */
+		public boolean loading;
+		/**
+		 * A token incremented on every load (and reset). To discard stale results.
+		 *
+		 * @since 0.0.2 ~2026.10.17
+		 */
+		public int token;
+
+		/**
+		 * Forget the loading state. The result of the in-flight load will be ignored.
+		 *
+		 * @since 0.0.2 ~2026.10.17
+		 */
+		public void reset() {
+			this.token++;
+			this.loading = false;
+			this.exhausted = false;
+			this.failedCount = -1;
+		}
+	}
+}
@@ -0,0 +1,998 @@
+/*
+ *	Copyright 2021 Cufy
+ *
+ *	Licensed under the Apache License, Version 2.0 (the "License");
+ *	you may not use this file except in compliance with the License.
+ *	You may obtain a copy of the License at
+ *
+ *	    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *	Unless required by applicable law or agreed to in writing, software
+ *	distributed under the License is distributed on an "AS IS" BASIS,
+ *	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *	See the License for the specific language governing permissions and
+ *	limitations under the License.
+ */
+package org.cufy.infiniterecyclerviewadapter;
+
+import android.os.Handler;
+import android.os.Looper;
+import android.view.View;
+
+import androidx.recyclerview.widget.LinearLayoutManager;
+import androidx.recyclerview.widget.RecyclerView;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.jetbrains.annotations.Range;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.Executor;
+
+/**
+ * A sliding window of pages loaded into the items of an adapter. Keeps at most a
+ * configured number of pages in memory. The pages far from the visible positions are
+ * dropped (replaced with {@link InfiniteRecyclerViewAdapter.Placeholder}s) and get
+ * reloaded when scrolled back to.
+ * <br>
+ * The window assumes it owns the items of the adapter. All the methods of this class
+ * must be invoked on the main thread.
+ *
+ * @param <K> the type of the page keys.
+ * @author LSafer
+ * @version 0.0.2
+ * @since 0.0.2 ~2026.10.17
+ */
+public class PagedWindow<K> implements InfiniteRecyclerViewAdapter.OnScrollListener, LoadMoreController.Loader {
+	/**
+	 * The size of the buffers used to save and restore the states.
+	 *
+	 * @since 0.0.2 ~2026.10.17
+	 */
+	protected static final int BUFFER_SIZE = 1 << 16;
+	/**
+	 * The magic number starting the saved states. ({@code "IRVW"})
+	 *
+	 * @since 0.0.2 ~2026.10.17
+	 */
+	protected static final int MAGIC = 0x49525657;
+	/**
+	 * The maximum number of items (loaded or dropped) a saved state can declare. Larger
+	 * counts are treated as corruption.
+	 *
+	 * @since 0.0.2 ~2026.10.17
+	 */
+	protected static final int MAX_ITEMS = 1 << 22;
+	/**
+	 * The version of the format of the saved states.
+	 *
+	 * @since 0.0.2 ~2026.10.17
+	 */
+	protected static final int VERSION = 1;
+
+	/**
+	 * The adapter to load the pages into.
+	 *
+	 * @since 0.0.2 ~2026.10.17
+	 */
+	@NotNull
+	protected final InfiniteRecyclerViewAdapter adapter;
+	/**
+	 * A handler posting to the main thread.
+	 *
+	 * @since 0.0.2 ~2026.10.17
+	 */
+	@NotNull
+	protected final Handler handler = new Handler(Looper.getMainLooper());
+	/**
+	 * The loader to load the pages with.
+	 *
+	 * @since 0.0.2 ~2026.10.17
+	 */
+	@NotNull
+	protected final PageLoader<K> loader;
+	/**
+	 * The maximum number of pages to be kept in memory.
+	 *
+	 * @since 0.0.2 ~2026.10.17
+	 */
+	protected final int maxPages;
+	/**
+	 * The pages. (in order)
+	 *
+	 * @since 0.0.2 ~2026.10.17
+	 */
+	@NotNull
+	protected final List<@NotNull Page<K>> pages = new ArrayList<>();
+	/**
+	 * True, if the next page is currently being loaded.
+	 *
+	 * @since 0.0.2 ~2026.10.17
+	 */
+	protected boolean appending;
+	/**
+	 * The first visible page when the last scroll occurred.
+	 *
+	 * @since 0.0.2 ~2026.10.17
+	 */
+	protected int firstVisiblePage;
+	/**
+	 * Incremented when the state of this window gets replaced. To discard the results of
+	 * the appends started before.
+	 *
+	 * @since 0.0.2 ~2026.10.17
+	 */
+	protected int generation;
+	/**
+	 * The last visible page when the last scroll occurred.
+	 *
+	 * @since 0.0.2 ~2026.10.17
+	 */
+	protected int lastVisiblePage;
+	/**
+	 * The key of the next page. (null if there are no more pages)
+	 *
+	 * @since 0.0.2 ~2026.10.17
+	 */
+	@Nullable
+	protected K nextKey;
+	/**
+	 * The callbacks waiting for the in-flight append. (null if not appending)
+	 *
+	 * @since 0.0.2 ~2026.10.17
+	 */
+	@Nullable
+	protected List<LoadMoreController.@NotNull Callback> waiting;
+
+	/**
+	 * Construct a new paged window loading pages into the given {@code adapter}.
+	 *
+	 * @param adapter  the adapter to load the pages into.
+	 * @param loader   the loader to load the pages with.
+	 * @param firstKey the key of the first page.
+	 * @param maxPages the maximum number of pages to be kept in memory.
+	 * @throws NullPointerException     if the given {@code adapter} or {@code loader} or
+	 *                                  {@code firstKey} is null.
+	 * @throws IllegalArgumentException if the given {@code maxPages} is less than 1.
+	 * @since 0.0.2 ~2026.10.17
+	 */
+	public PagedWindow(@NotNull InfiniteRecyclerViewAdapter adapter, @NotNull PageLoader<K> loader, @NotNull K firstKey, @Range(from = 1, to = Integer.MAX_VALUE) int maxPages) {
+		Objects.requireNonNull(adapter, "adapter");
+		Objects.requireNonNull(loader, "loader");
+		Objects.requireNonNull(firstKey, "firstKey");
+		if (maxPages < 1)
+			throw new IllegalArgumentException("maxPages < 1");
+		this.adapter = adapter;
+		this.loader = loader;
+		this.nextKey = firstKey;
+		this.maxPages = maxPages;
+	}
+
+	@Override
+	public void load(@NotNull LoadMoreController.Callback callback) {
+		Objects.requireNonNull(callback, "callback");
+
+		if (this.appending && this.waiting != null) {
+			//reported once the in-flight page lands, so the controller keeps waiting
+			this.waiting.add(callback);
+			return;
+		}
+		if (!this.loadNext(callback))
+			callback.onLoaded(this.hasNext());
+	}
+
+	@Override
+	public void onScroll(int count, int first, int last) {
+		if (first < 0 || last < first || this.pages.isEmpty())
+			return;
+
+		this.firstVisiblePage = this.pageAt(first);
+		this.lastVisiblePage = this.pageAt(last);
+
+		for (int i = this.firstVisiblePage; i <= this.lastVisiblePage; i++) {
+			Page<K> page = this.pages.get(i);
+
+			if (page.state == Page.DROPPED)
+				this.reload(page);
+		}
+
+		this.trim();
+	}
+
+	/**
+	 * Return true if there are more pages to be loaded after the last loaded page.
+	 *
+	 * @return true, if there are more pages.
+	 * @since 0.0.2 ~2026.10.17
+	 */
+	public boolean hasNext() {
+		return this.nextKey != null;
+	}
+
+	/**
+	 * Return true if the next page is currently being loaded.
+	 *
+	 * @return true, if the next page is being loaded.
+	 * @since 0.0.2 ~2026.10.17
+	 */
+	public boolean isAppending() {
+		return this.appending;
+	}
+
+	/**
+	 * Load the next page (if there is a next page and it is not already being loaded).
+	 *
+	 * @return true, if the next page started loading.
+	 * @since 0.0.2 ~2026.10.17
+	 */
+	public boolean loadNext() {
+		return this.loadNext(null);
+	}
+
+	/**
+	 * Restore the state saved by {@link #save(File, ItemCodec, ItemCodec)} from the given
+	 * {@code file}. Replaces the pages and the items of the adapter and discards the
+	 * in-flight loads. The saved pages are restored without loading, and the pages that
+	 * were not saved are restored as placeholders to be loaded lazily when scrolled to.
+	 * Then, the recycler view (if attached) is scrolled back to the saved anchor. The I/O
+	 * is performed on the calling thread.
+	 *
+	 * @param file      the file to read the state from.
+	 * @param keyCodec  the codec to read the page keys with.
+	 * @param itemCodec the codec to read the items with.
+	 * @param <T>       the type of the items.
+	 * @return true, if the state was restored. False, if the given {@code file} does not
+	 * 		exist.
+	 * @throws NullPointerException if the given {@code file} or {@code keyCodec} or
+	 *                              {@code itemCodec} is null.
+	 * @throws IOException          if any I/O exception occurs or the file is not a
+	 *                              saved state. (or is truncated or corrupted)
+	 * @since 0.0.2 ~2026.10.17
+	 */
+	public <T> boolean restore(@NotNull File file, @NotNull ItemCodec<K> keyCodec, @NotNull ItemCodec<T> itemCodec) throws IOException {
+		Objects.requireNonNull(file, "file");
+		Objects.requireNonNull(keyCodec, "keyCodec");
+		Objects.requireNonNull(itemCodec, "itemCodec");
+		State<K> state = PagedWindow.read(file, keyCodec, itemCodec);
+
+		if (state == null)
+			return false;
+
+		this.apply(state);
+		return true;
+	}
+
+	/**
+	 * Restore the state saved by {@link #save(File, ItemCodec, ItemCodec)} from the given
+	 * {@code file} like {@link #restore(File, ItemCodec, ItemCodec)}. But, the file is
+	 * read using the given {@code executor} and the state is applied back on the main
+	 * thread. Then, the given {@code callback} (if any) is invoked on the main thread.
+	 *
+	 * @param file      the file to read the state from.
+	 * @param keyCodec  the codec to read the page keys with.
+	 * @param itemCodec the codec to read the items with.
+	 * @param executor  the executor to read the file with.
+	 * @param callback  the callback to be invoked when done.
+	 * @param <T>       the type of the items.
+	 * @throws NullPointerException if the given {@code file} or {@code keyCodec} or
+	 *                              {@code itemCodec} or {@code executor} is null.
+	 * @since 0.0.2 ~2026.10.17
+	 */
+	public <T> void restore(@NotNull File file, @NotNull ItemCodec<K> keyCodec, @NotNull ItemCodec<T> itemCodec, @NotNull Executor executor, @Nullable StateCallback callback) {
+		Objects.requireNonNull(file, "file");
+		Objects.requireNonNull(keyCodec, "keyCodec");
+		Objects.requireNonNull(itemCodec, "itemCodec");
+		Objects.requireNonNull(executor, "executor");
+		executor.execute(() -> {
+			try {
+				State<K> state = PagedWindow.read(file, keyCodec, itemCodec);
+
+				this.handler.post(() -> {
+					if (state != null)
+						this.apply(state);
+					if (callback != null)
+						callback.onStateCompleted(state != null);
+				});
+			} catch (IOException e) {
+				if (callback != null)
+					this.handler.post(() -> callback.onStateFailed(e));
+			}
+		});
+	}
+
+	/**
+	 * Save the state of this window to the given {@code file}. The state includes the
+	 * keys and the sizes of the pages, the items of the loaded pages and the scroll
+	 * anchor (the first visible item and its offset). The state is written to a temporary
+	 * file first, then renamed over the given {@code file}. The I/O is performed on the
+	 * calling thread.
+	 *
+	 * @param file      the file to write the state to.
+	 * @param keyCodec  the codec to write the page keys with.
+	 * @param itemCodec the codec to write the items with.
+	 * @param <T>       the type of the items.
+	 * @throws NullPointerException if the given {@code file} or {@code keyCodec} or
+	 *                              {@code itemCodec} is null.
+	 * @throws IOException          if any I/O exception occurs.
+	 * @since 0.0.2 ~2026.10.17
+	 */
+	public <T> void save(@NotNull File file, @NotNull ItemCodec<K> keyCodec, @NotNull ItemCodec<T> itemCodec) throws IOException {
+		Objects.requireNonNull(file, "file");
+		Objects.requireNonNull(keyCodec, "keyCodec");
+		Objects.requireNonNull(itemCodec, "itemCodec");
+		PagedWindow.write(file, this.capture(), keyCodec, itemCodec);
+	}
+
+	/**
+	 * Save the state of this window to the given {@code file} like {@link #save(File,
+	 * ItemCodec, ItemCodec)}. But, only the capturing of the state is performed on the
+	 * calling thread. The file is written (and synced) using the given {@code executor}.
+	 * Then, the given {@code callback} (if any) is invoked on the main thread.
+	 *
+	 * @param file      the file to write the state to.
+	 * @param keyCodec  the codec to write the page keys with.
+	 * @param itemCodec the codec to write the items with.
+	 * @param executor  the executor to write the file with.
+	 * @param callback  the callback to be invoked when done.
+	 * @param <T>       the type of the items.
+	 * @throws NullPointerException if the given {@code file} or {@code keyCodec} or
+	 *                              {@code itemCodec} or {@code executor} is null.
+	 * @since 0.0.2 ~2026.10.17
+	 */
+	public <T> void save(@NotNull File file, @NotNull ItemCodec<K> keyCodec, @NotNull ItemCodec<T> itemCodec, @NotNull Executor executor, @Nullable StateCallback callback) {
+		Objects.requireNonNull(file, "file");
+		Objects.requireNonNull(keyCodec, "keyCodec");
+		Objects.requireNonNull(itemCodec, "itemCodec");
+		Objects.requireNonNull(executor, "executor");
+		State<K> state = this.capture();
+		executor.execute(() -> {
+			try {
+				PagedWindow.write(file, state, keyCodec, itemCodec);
+
+				if (callback != null)
+					this.handler.post(() -> callback.onStateCompleted(true));
+			} catch (IOException e) {
+				if (callback != null)
+					this.handler.post(() -> callback.onStateFailed(e));
+			}
+		});
+	}
+
+	/**
+	 * Replace the pages of this window and the items of the adapter with the given
+	 * {@code state}. Discards the in-flight loads. Then, scroll the recycler view (if
+	 * attached) back to the anchor of the given {@code state}.
+	 *
+	 * @param state the state to be applied.
+	 * @throws NullPointerException if the given {@code state} is null.
+	 * @since 0.0.2 ~2026.10.17
+	 */
+	protected void apply(@NotNull State<K> state) {
+		Objects.requireNonNull(state, "state");
+		List<Object> items = new ArrayList<>(state.items.size());
+
+		for (int i = 0, start = 0, l = state.pages.size(); i < l; i++) {
+			Page<K> page = state.pages.get(i);
+
+			if (page.state == Page.LOADED) {
+				items.addAll(state.items.subList(start, start + page.size));
+				start += page.size;
+			} else
+				items.addAll(Collections.nCopies(page.size, InfiniteRecyclerViewAdapter.Placeholder.INSTANCE));
+		}
+
+		for (Page<K> page : this.pages)
+			//discard the in-flight reloads
+			page.token++;
+
+		//discard the in-flight append
+		this.generation++;
+		this.pages.clear();
+		this.pages.addAll(state.pages);
+		this.nextKey = state.nextKey;
+		this.appending = false;
+		//released when the discarded append lands
+		this.waiting = null;
+		this.adapter.items().replace(items);
+
+		RecyclerView recyclerView = this.adapter.recyclerView;
+		RecyclerView.LayoutManager manager = recyclerView == null ? null : recyclerView.getLayoutManager();
+		int anchorPosition = state.anchorPosition;
+		int position = this.adapter.headerCount + anchorPosition;
+
+		if (anchorPosition >= 0 && anchorPosition < items.size())
+			if (manager instanceof LinearLayoutManager)
+				((LinearLayoutManager) manager).scrollToPositionWithOffset(position, state.anchorOffset);
+			else if (recyclerView != null)
+				recyclerView.scrollToPosition(position);
+	}
+
+	/**
+	 * Capture the current state of this window. The pages are copied and only the
+	 * references of the items of the loaded pages are collected, so the returned state
+	 * can be written from any thread.
+	 *
+	 * @return the current state of this window.
+	 * @since 0.0.2 ~2026.10.17
+	 */
+	@NotNull
+	protected State<K> capture() {
+		RecyclerView recyclerView = this.adapter.recyclerView;
+		RecyclerView.LayoutManager manager = recyclerView == null ? null : recyclerView.getLayoutManager();
+		ItemStore.Snapshot snapshot = this.adapter.items().snapshot();
+		State<K> state = new State<>();
+		state.anchorPosition = -1;
+
+		if (manager instanceof LinearLayoutManager) {
+			LinearLayoutManager linearLayoutManager = (LinearLayoutManager) manager;
+			int first = linearLayoutManager.findFirstVisibleItemPosition();
+
+			if (first != RecyclerView.NO_POSITION) {
+				View view = linearLayoutManager.findViewByPosition(first);
+				state.anchorPosition = Math.max(0, first - this.adapter.headerCount);
+				state.anchorOffset = view == null ? 0 :
+									 linearLayoutManager.getOrientation() == RecyclerView.HORIZONTAL ?
+									 linearLayoutManager.getDecoratedLeft(view) - linearLayoutManager.getPaddingLeft() :
+									 linearLayoutManager.getDecoratedTop(view) - linearLayoutManager.getPaddingTop();
+			}
+		} else
+			state.anchorPosition = this.adapter.scrollFirst;
+
+		state.nextKey = this.nextKey;
+
+		for (int i = 0, start = 0, l = this.pages.size(); i < l; start += this.pages.get(i++).size) {
+			Page<K> page = this.pages.get(i);
+			Page<K> copy = new Page<>(page.key);
+			copy.size = page.size;
+			copy.state = page.state == Page.LOADED ? Page.LOADED : Page.DROPPED;
+
+			if (copy.state == Page.LOADED)
+				for (int j = start, m = start + page.size; j < m; j++)
+					state.items.add(snapshot.get(j));
+
+			state.pages.add(copy);
+		}
+
+		return state;
+	}
+
+	/**
+	 * Load the next page (if there is a next page and it is not already being loaded).
+	 * Then, invoke the given {@code callback} (if any) and the callbacks that waited for
+	 * the page.
+	 *
+	 * @param callback the callback to be invoked when the page is loaded.
+	 * @return true, if the next page started loading.
+	 * @since 0.0.2 ~2026.10.17
+	 */
+	protected boolean loadNext(@Nullable LoadMoreController.Callback callback) {
+		K key = this.nextKey;
+
+		if (this.appending || key == null)
+			return false;
+
+		Page<K> page = new Page<>(key);
+		int token = ++page.token;
+		int generation = this.generation;
+		List<LoadMoreController.Callback> waiting = new ArrayList<>();
+		if (callback != null)
+			waiting.add(callback);
+		this.appending = true;
+		this.waiting = waiting;
+		this.loader.loadPage(key, new PageCallback<K>() {
+			@Override
+			public void onPageFailed(@NotNull Throwable throwable) {
+				Objects.requireNonNull(throwable, "throwable");
+				PagedWindow.this.handler.post(() -> {
+					if (page.token != token)
+						return;
+					if (PagedWindow.this.generation != generation) {
+						//the state got replaced while loading, not a failure of the current state
+						for (LoadMoreController.Callback waiter : waiting)
+							waiter.onLoaded(PagedWindow.this.hasNext());
+
+						return;
+					}
+
+					page.token++;
+					PagedWindow.this.appending = false;
+					PagedWindow.this.waiting = null;
+
+					for (LoadMoreController.Callback waiter : waiting)
+						waiter.onFailed(throwable);
+				});
+			}
+
+			@Override
+			public void onPageLoaded(@NotNull List<?> items, @Nullable K nextKey) {
+				Objects.requireNonNull(items, "items");
+				List<?> list = new ArrayList<>(items);
+				PagedWindow.this.handler.post(() -> {
+					if (page.token != token)
+						return;
+					if (PagedWindow.this.generation != generation) {
+						//the state got replaced while loading
+						for (LoadMoreController.Callback waiter : waiting)
+							waiter.onLoaded(PagedWindow.this.hasNext());
+
+						return;
+					}
+
+					page.token++;
+					page.state = Page.LOADED;
+					page.size = list.size();
+					PagedWindow.this.pages.add(page);
+					PagedWindow.this.nextKey = nextKey;
+					PagedWindow.this.appending = false;
+					PagedWindow.this.waiting = null;
+					PagedWindow.this.adapter.items().addAll(list);
+					PagedWindow.this.trim();
+
+					for (LoadMoreController.Callback waiter : waiting)
+						waiter.onLoaded(nextKey != null);
+				});
+			}
+		});
+		return true;
+	}
+
+	/**
+	 * Return the index of the page containing the item at the given {@code position}.
+	 *
+	 * @param position the position of the item.
+	 * @return the index of the page. (or the last page if the position is after the
+	 * 		last page)
+	 * @since 0.0.2 ~2026.10.17
+	 */
+	protected int pageAt(@Range(from = 0, to = Integer.MAX_VALUE) int position) {
+		int start = 0;
+
+		for (int i = 0, l = this.pages.size(); i < l; i++) {
+			start += this.pages.get(i).size;
+
+			if (position < start)
+				return i;
+		}
+
+		return this.pages.size() - 1;
+	}
+
+	/**
+	 * Return the position of the first item of the page at the given {@code index}.
+	 *
+	 * @param index the index of the page.
+	 * @return the position of the first item of the page.
+	 * @since 0.0.2 ~2026.10.17
+	 */
+	protected int pageStart(@Range(from = 0, to = Integer.MAX_VALUE) int index) {
+		int start = 0;
+
+		for (int i = 0; i < index; i++)
+			start += this.pages.get(i).size;
+
+		return start;
+	}
+
+	/**
+	 * Reload the given dropped {@code page}.
+	 *
+	 * @param page the page to be reloaded.
+	 * @throws NullPointerException if the given {@code page} is null.
+	 * @since 0.0.2 ~2026.10.17
+	 */
+	protected void reload(@NotNull Page<K> page) {
+		Objects.requireNonNull(page, "page");
+		int token = ++page.token;
+		page.state = Page.LOADING;
+		this.loader.loadPage(page.key, new PageCallback<K>() {
+			@Override
+			public void onPageFailed(@NotNull Throwable throwable) {
+				PagedWindow.this.handler.post(() -> {
+					if (page.token == token)
+						page.state = Page.DROPPED;
+				});
+			}
+
+			@Override
+			public void onPageLoaded(@NotNull List<?> items, @Nullable K nextKey) {
+				Objects.requireNonNull(items, "items");
+				List<?> list = new ArrayList<>(items);
+				PagedWindow.this.handler.post(() -> {
+					int index = PagedWindow.this.pages.indexOf(page);
+
+					if (page.token != token || index < 0)
+						return;
+
+					int start = PagedWindow.this.pageStart(index);
+					ItemStore store = PagedWindow.this.adapter.items();
+
+					if (list.size() == page.size)
+						store.setAll(start, list);
+					else {
+						//the page changed its size since it was dropped
+						store.subList(start, start + page.size).clear();
+						store.addAll(start, list);
+						page.size = list.size();
+					}
+
+					page.state = Page.LOADED;
+					PagedWindow.this.trim();
+				});
+			}
+		});
+	}
+
+	/**
+	 * Drop the loaded pages farthest from the visible pages until at most {@link
+	 * #maxPages} pages are loaded.
+	 *
+	 * @since 0.0.2 ~2026.10.17
+	 */
+	protected void trim() {
+		int loaded = 0;
+
+		for (Page<K> page : this.pages)
+			if (page.state != Page.DROPPED)
+				loaded++;
+
+		while (loaded > this.maxPages) {
+			int farthest = -1;
+			int distance = 0;
+
+			for (int i = 0, l = this.pages.size(); i < l; i++) {
+				int d = i < this.firstVisiblePage ?
+						this.firstVisiblePage - i :
+						i - this.lastVisiblePage;
+
+				if (d > distance && this.pages.get(i).state != Page.DROPPED) {
+					farthest = i;
+					distance = d;
+				}
+			}
+
+			if (farthest < 0)
+				//all the loaded pages are visible
+				return;
+
+			Page<K> page = this.pages.get(farthest);
+			page.token++;
+			page.state = Page.DROPPED;
+			this.adapter.items().setAll(
+					this.pageStart(farthest),
+					Collections.nCopies(page.size, InfiniteRecyclerViewAdapter.Placeholder.INSTANCE)
+			);
+			loaded--;
+		}
+	}
+
+	/**
+	 * Read a state saved by {@link #write(File, State, ItemCodec, ItemCodec)} from the
+	 * given {@code file}. Can be invoked from any thread.
+	 *
+	 * @param file      the file to read the state from.
+	 * @param keyCodec  the codec to read the page keys with.
+	 * @param itemCodec the codec to read the items with.
+	 * @param <K>       the type of the page keys.
+	 * @return the read state. (or null if the given {@code file} does not exist)
+	 * @throws NullPointerException if the given {@code file} or {@code keyCodec} or
+	 *                              {@code itemCodec} is null.
+	 * @throws IOException          if any I/O exception occurs or the file is not a
+	 *                              saved state. (or is truncated or corrupted)
+	 * @since 0.0.2 ~2026.10.17
+	 */
+	@Nullable
+	protected static <K> State<K> read(@NotNull File file, @NotNull ItemCodec<K> keyCodec, @NotNull ItemCodec<?> itemCodec) throws IOException {
+		Objects.requireNonNull(file, "file");
+		Objects.requireNonNull(keyCodec, "keyCodec");
+		Objects.requireNonNull(itemCodec, "itemCodec");
+
+		if (!file.exists())
+			return null;
+
+		State<K> state = new State<>();
+
+		try (FileChannel channel = new FileInputStream(file).getChannel();
+			 DataInputStream input = new DataInputStream(new BufferedInputStream(Channels.newInputStream(channel), PagedWindow.BUFFER_SIZE))) {
+			if (input.readInt() != PagedWindow.MAGIC || input.readInt() != PagedWindow.VERSION)
+				throw new IOException("Not a saved state: " + file);
+
+			state.anchorPosition = input.readInt();
+			state.anchorOffset = input.readInt();
+			state.nextKey = input.readBoolean() ? keyCodec.read(input) : null;
+
+			int pages = input.readInt();
+			long total = 0;
+
+			if (pages < 0 || pages > PagedWindow.MAX_ITEMS)
+				throw new IOException("Corrupted state (" + pages + " pages): " + file);
+
+			for (int i = 0; i < pages; i++) {
+				Page<K> page = new Page<>(keyCodec.read(input));
+				page.size = input.readInt();
+				page.state = input.readBoolean() ? Page.LOADED : Page.DROPPED;
+				total += page.size;
+
+				//validated here, the sizes are trusted when the state is applied
+				if (page.size < 0 || total > PagedWindow.MAX_ITEMS)
+					throw new IOException("Corrupted state (page of " + page.size + " items): " + file);
+
+				if (page.state == Page.LOADED)
+					for (int j = 0; j < page.size; j++)
+						state.items.add(itemCodec.read(input));
+
+				state.pages.add(page);
+			}
+		}
+
+		return state;
+	}
+
+	/**
+	 * Write the given {@code state} to the given {@code file}. The state is written to a
+	 * temporary file first, synced, then renamed over the given {@code file}. Can be
+	 * invoked from any thread.
+	 *
+	 * @param file      the file to write the state to.
+	 * @param state     the state to be written.
+	 * @param keyCodec  the codec to write the page keys with.
+	 * @param itemCodec the codec to write the items with.
+	 * @param <K>       the type of the page keys.
+	 * @param <T>       the type of the items.
+	 * @throws NullPointerException if the given {@code file} or {@code state} or {@code
+	 *                              keyCodec} or {@code itemCodec} is null.
+	 * @throws IOException          if any I/O exception occurs.
+	 * @since 0.0.2 ~2026.10.17
+	 */
+	protected static <K, T> void write(@NotNull File file, @NotNull State<K> state, @NotNull ItemCodec<K> keyCodec, @NotNull ItemCodec<T> itemCodec) throws IOException {
+		Objects.requireNonNull(file, "file");
+		Objects.requireNonNull(state, "state");
+		Objects.requireNonNull(keyCodec, "keyCodec");
+		Objects.requireNonNull(itemCodec, "itemCodec");
+		//unique, so concurrent saves do not write to the same temporary file
+		File temp = File.createTempFile(file.getName(), ".tmp", file.getAbsoluteFile().getParentFile());
+
+		try {
+			try (FileChannel channel = new FileOutputStream(temp).getChannel();
+				 DataOutputStream output = new DataOutputStream(new BufferedOutputStream(Channels.newOutputStream(channel), PagedWindow.BUFFER_SIZE))) {
+				output.writeInt(PagedWindow.MAGIC);
+				output.writeInt(PagedWindow.VERSION);
+				output.writeInt(state.anchorPosition);
+				output.writeInt(state.anchorOffset);
+				output.writeBoolean(state.nextKey != null);
+
+				if (state.nextKey != null)
+					keyCodec.write(output, state.nextKey);
+
+				output.writeInt(state.pages.size());
+
+				for (int i = 0, start = 0, l = state.pages.size(); i < l; i++) {
+					Page<K> page = state.pages.get(i);
+					boolean loaded = page.state == Page.LOADED;
+
+					keyCodec.write(output, page.key);
+					output.writeInt(page.size);
+					output.writeBoolean(loaded);
+
+					if (loaded) {
+						for (int j = start, m = start + page.size; j < m; j++)
+							itemCodec.write(output, (T) state.items.get(j));
+
+						start += page.size;
+					}
+				}
+
+				output.flush();
+				channel.force(false);
+			}
+
+			if (!temp.renameTo(file))
+				throw new IOException("Couldn't rename " + temp + " to " + file);
+		} finally {
+			//no-op if renamed
+			temp.delete();
+		}
+	}
+
+	/**
+	 * A loader of pages.
+	 *
+	 * @param <K> the type of the page keys.
+	 * @author LSafer
+	 * @version 0.0.2
+	 * @since 0.0.2 ~2026.10.17
+	 */
+	@FunctionalInterface
+	public interface PageLoader<K> {
+		/**
+		 * Load the page with the given {@code key}. The given {@code callback} can be
+		 * invoked from any thread.
+		 *
+		 * @param key      the key of the page to be loaded.
+		 * @param callback the callback to be invoked when the page is loaded.
+		 * @throws NullPointerException if the given {@code key} or {@code callback} is
+		 *                              null.
+		 * @since 0.0.2 ~2026.10.17
+		 */
+		void loadPage(@NotNull K key, @NotNull PageCallback<K> callback);
+	}
+
+	/**
+	 * A callback to be invoked when a page is loaded.
+	 *
+	 * @param <K> the type of the page keys.
+	 * @author LSafer
+	 * @version 0.0.2
+	 * @since 0.0.2 ~2026.10.17
+	 */
+	public interface PageCallback<K> {
+		/**
+		 * Invoked when the page failed to load.
+		 *
+		 * @param throwable the failure.
+		 * @throws NullPointerException if the given {@code throwable} is null.
+		 * @since 0.0.2 ~2026.10.17
+		 */
+		void onPageFailed(@NotNull Throwable throwable);
+
+		/**
+		 * Invoked when the page is loaded.
+		 *
+		 * @param items   the items of the page.
+		 * @param nextKey the key of the page after the loaded page. (null if there are no
+		 *                more pages)
+		 * @throws NullPointerException if the given {@code items} is null.
+		 * @since 0.0.2 ~2026.10.17
+		 */
+		void onPageLoaded(@NotNull List<?> items, @Nullable K nextKey);
+	}
+
+	/**
+	 * A callback to be invoked (on the main thread) when a state is saved or restored.
+	 *
+	 * @author LSafer
+	 * @version 0.0.2
+	 * @since 0.0.2 ~2026.10.17
+	 */
+	public interface StateCallback {
+		/**
+		 * Invoked when the state is saved or restored.
+		 *
+		 * @param found false, if restoring and the file does not exist.
+		 * @since 0.0.2 ~2026.10.17
+		 */
+		void onStateCompleted(boolean found);
+
+		/**
+		 * Invoked when saving or restoring the state failed.
+		 *
+		 * @param exception the failure.
+		 * @throws NullPointerException if the given {@code exception} is null.
+		 * @since 0.0.2 ~2026.10.17
+		 */
+		void onStateFailed(@NotNull IOException exception);
+	}
+
+	/**
+	 * A page in a window.
+	 *
+	 * @param <K> the type of the page key.
+	 * @author LSafer
+	 * @version 0.0.2
+	 * @since 0.0.2 ~2026.10.17
+	 */
+	protected static class Page<K> {
+		/**
+		 * The page was dropped and its items got replaced with placeholders.
+		 *
+		 * @since 0.0.2 ~2026.10.17
+		 */
+		public static final int DROPPED = 0;
+		/**
+		 * The page is loaded.
+		 *
+		 * @since 0.0.2 ~2026.10.17
+		 */
+		public static final int LOADED = 1;
+		/**
+		 * The page is being reloaded.
+		 *
+		 * @since 0.0.2 ~2026.10.17
+		 */
+		public static final int LOADING = 2;
+
+		/**
+		 * The key of the page.
+		 *
+		 * @since 0.0.2 ~2026.10.17
+		 */
+		@NotNull
+		public final K key;
+		/**
+		 * The number of items in the page.
+		 *
+		 * @since 0.0.2 ~2026.10.17
+		 */
+		public int size;
+		/**
+		 * The state of the page.
+		 *
+		 * @since 0.0.2 ~2026.10.17
+		 */
+		public int state = Page.LOADING;
+		/**
+		 * Incremented on every load (or drop) of the page. To discard stale results.
+		 *
+		 * @since 0.0.2 ~2026.10.17
+		 */
+		public int token;
+
+		/**
+		 * Construct a new page with the given {@code key}.
+		 *
+		 * @param key the key of the page.
+		 * @throws NullPointerException if the given {@code key} is null.
+		 * @since 0.0.2 ~2026.10.17
+		 */
+		public Page(@NotNull K key) {
+			Objects.requireNonNull(key, "key");
+			this.key = key;
+		}
+	}
+
+	/**
+	 * A state of a window. (captured or read from a file)
+	 *
+	 * @param <K> the type of the page keys.
+	 * @author LSafer
+	 * @version 0.0.2
+	 * @since 0.0.2 ~2026.10.17
+	 */
+	protected static class State<K> {
+		/**
+		 * The items of the loaded pages. (in order)
+		 *
+		 * @since 0.0.2 ~2026.10.17
+		 */
+		@NotNull
+		public final List<Object> items = new ArrayList<>();
+		/**
+		 * The pages. (each either {@link Page#LOADED} or {@link Page#DROPPED})
+		 *
+		 * @since 0.0.2 ~2026.10.17
+		 */
+		@NotNull
+		public final List<@NotNull Page<K>> pages = new ArrayList<>();
+		/**
+		 * The offset of the anchor item.
+		 *
+		 * @since 0.0.2 ~2026.10.17
+		 */
+		public int anchorOffset;
+		/**
+		 * The position of the anchor item. (the first visible item, or -1 if none)
+		 *
+		 * @since 0.0.2 ~2026.10.17
+		 */
+		public int anchorPosition;
+		/**
+		 * The key of the next page. (null if there are no more pages)
+		 *
+		 * @since 0.0.2 ~2026.10.17
+		 */
+		@Nullable
+		public K nextKey;
+	}
+}
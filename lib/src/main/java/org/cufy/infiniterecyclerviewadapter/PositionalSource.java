@@ -0,0 +1,236 @@
+/*
+ *	Copyright 2021 Cufy
+ *
+ *	Licensed under the Apache License, Version 2.0 (the "License");
+ *	you may not use this file except in compliance with the License.
+ *	You may obtain a copy of the License at
+ *
+ *	    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *	Unless required by applicable law or agreed to in writing, software
+ *	distributed under the License is distributed on an "AS IS" BASIS,
+ *	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *	See the License for the specific language governing permissions and
+ *	limitations under the License.
+ */
+package org.cufy.infiniterecyclerviewadapter;
+
+import android.os.Handler;
+import android.os.Looper;
+import android.util.SparseIntArray;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Range;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * A source of items with a total count known ahead. The adapter is filled with {@link
+ * InfiniteRecyclerViewAdapter.Placeholder}s, and the pages of the placeholders get loaded
+ * lazily when the placeholders get bound. A loaded page is swapped in with a single range
+ * change.
+ * <br>
+ * The source assumes it owns the items of the adapter. All the methods of this class
+ * must be invoked on the main thread.
+ *
+ * @author LSafer
+ * @version 0.0.2
+ * @since 0.0.2 ~2026.10.17
+ */
+public class PositionalSource implements InfiniteRecyclerViewAdapter.OnPlaceholderBoundListener {
+	/**
+	 * The adapter to load the items into.
+	 *
+	 * @since 0.0.2 ~2026.10.17
+	 */
+	@NotNull
+	protected final InfiniteRecyclerViewAdapter adapter;
+	/**
+	 * A handler posting to the main thread.
+	 *
+	 * @since 0.0.2 ~2026.10.17
+	 */
+	@NotNull
+	protected final Handler handler = new Handler(Looper.getMainLooper());
+	/**
+	 * The loader to load the ranges with.
+	 *
+	 * @since 0.0.2 ~2026.10.17
+	 */
+	@NotNull
+	protected final RangeLoader loader;
+	/**
+	 * The pages being loaded. ({@code page -> generation})
+	 *
+	 * @since 0.0.2 ~2026.10.17
+	 */
+	@NotNull
+	protected final SparseIntArray loading = new SparseIntArray();
+	/**
+	 * The number of items in a page.
+	 *
+	 * @since 0.0.2 ~2026.10.17
+	 */
+	protected final int pageSize;
+
+	/**
+	 * The current generation. Incremented when the total count gets set, to ignore the
+	 * loads started before.
+	 *
+	 * @since 0.0.2 ~2026.10.17
+	 */
+	protected int generation;
+
+	/**
+	 * Construct a new positional source loading into the given {@code adapter}. The
+	 * source registers itself as the placeholder listener of the given {@code adapter}.
+	 *
+	 * @param adapter  the adapter to load the items into.
+	 * @param loader   the loader to load the ranges with.
+	 * @param pageSize the number of items to load at once.
+	 * @throws NullPointerException     if the given {@code adapter} or {@code loader} is
+	 *                                  null.
+	 * @throws IllegalArgumentException if the given {@code pageSize} is less than 1.
+	 * @since 0.0.2 ~2026.10.17
+	 */
+	public PositionalSource(@NotNull InfiniteRecyclerViewAdapter adapter, @NotNull RangeLoader loader, @Range(from = 1, to = Integer.MAX_VALUE) int pageSize) {
+		Objects.requireNonNull(adapter, "adapter");
+		Objects.requireNonNull(loader, "loader");
+		if (pageSize < 1)
+			throw new IllegalArgumentException("pageSize < 1");
+		this.adapter = adapter;
+		this.loader = loader;
+		this.pageSize = pageSize;
+		adapter.setOnPlaceholderBoundListener(this);
+	}
+
+	@Override
+	public void onPlaceholderBound(int position) {
+		int page = position / this.pageSize;
+
+		if (this.loading.get(page, -1) == this.generation)
+			//already loading
+			return;
+
+		int generation = this.generation;
+		int start = page * this.pageSize;
+		int count = Math.min(this.pageSize, this.adapter.items().size() - start);
+
+		if (count <= 0)
+			return;
+
+		this.loading.put(page, generation);
+		this.loader.loadRange(start, count, new RangeCallback() {
+			@Override
+			public void onRangeFailed(@NotNull Throwable throwable) {
+				PositionalSource.this.handler.post(() -> {
+					//retried when bound again
+					if (PositionalSource.this.loading.get(page, -1) == generation)
+						PositionalSource.this.loading.delete(page);
+				});
+			}
+
+			@Override
+			public void onRangeLoaded(@NotNull List<?> items) {
+				Objects.requireNonNull(items, "items");
+				List<?> list = new ArrayList<>(items);
+				PositionalSource.this.handler.post(() -> {
+					if (PositionalSource.this.generation != generation ||
+						PositionalSource.this.loading.get(page, -1) != generation)
+						return;
+
+					PositionalSource.this.loading.delete(page);
+					int length = Math.min(Math.min(list.size(), count), PositionalSource.this.adapter.items().size() - start);
+
+					if (length > 0)
+						//a single range change
+						PositionalSource.this.adapter.items().setAll(start, list.subList(0, length));
+				});
+			}
+		});
+	}
+
+	/**
+	 * Return the number of items in a page.
+	 *
+	 * @return the page size.
+	 * @since 0.0.2 ~2026.10.17
+	 */
+	@Range(from = 1, to = Integer.MAX_VALUE)
+	public int getPageSize() {
+		return this.pageSize;
+	}
+
+	/**
+	 * Replace the items of the adapter with the given {@code total} count of placeholders.
+	 * The loads in-flight get ignored.
+	 *
+	 * @param total the total count of items.
+	 * @throws IllegalArgumentException if the given {@code total} is negative.
+	 * @since 0.0.2 ~2026.10.17
+	 */
+	public void setTotalCount(@Range(from = 0, to = Integer.MAX_VALUE) int total) {
+		if (total < 0)
+			throw new IllegalArgumentException("total < 0");
+
+		this.generation++;
+		this.loading.clear();
+		this.adapter.items().replace(Collections.nCopies(total, InfiniteRecyclerViewAdapter.Placeholder.INSTANCE));
+	}
+
+	/**
+	 * A loader of ranges of items.
+	 *
+	 * @author LSafer
+	 * @version 0.0.2
+	 * @since 0.0.2 ~2026.10.17
+	 */
+	@FunctionalInterface
+	public interface RangeLoader {
+		/**
+		 * Load the given {@code count} of items starting at the given {@code position}.
+		 * The given {@code callback} can be invoked from any thread.
+		 *
+		 * @param position the position of the first item.
+		 * @param count    the number of items.
+		 * @param callback the callback to be invoked when the items are loaded.
+		 * @throws NullPointerException if the given {@code callback} is null.
+		 * @since 0.0.2 ~2026.10.17
+		 */
+		void loadRange(
+				@Range(from = 0, to = Integer.MAX_VALUE) int position,
+				@Range(from = 1, to = Integer.MAX_VALUE) int count,
+				@NotNull RangeCallback callback
+		);
+	}
+
+	/**
+	 * A callback to be invoked when a range of items is loaded.
+	 *
+	 * @author LSafer
+	 * @version 0.0.2
+	 * @since 0.0.2 ~2026.10.17
+	 */
+	public interface RangeCallback {
+		/**
+		 * Invoked when the range failed to load.
+		 *
+		 * @param throwable the failure.
+		 * @throws NullPointerException if the given {@code throwable} is null.
+		 * @since 0.0.2 ~2026.10.17
+		 */
+		void onRangeFailed(@NotNull Throwable throwable);
+
+		/**
+		 * Invoked when the range is loaded.
+		 *
+		 * @param items the items of the range.
+		 * @throws NullPointerException if the given {@code items} is null.
+		 * @since 0.0.2 ~2026.10.17
+		 */
+		void onRangeLoaded(@NotNull List<?> items);
+	}
+}
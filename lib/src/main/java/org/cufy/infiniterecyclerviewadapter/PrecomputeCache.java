@@ -0,0 +1,266 @@
+/*
+ *	Copyright 2021 Cufy
+ *
+ *	Licensed under the Apache License, Version 2.0 (the "License");
+ *	you may not use this file except in compliance with the License.
+ *	You may obtain a copy of the License at
+ *
+ *	    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *	Unless required by applicable law or agreed to in writing, software
+ *	distributed under the License is distributed on an "AS IS" BASIS,
+ *	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *	See the License for the specific language governing permissions and
+ *	limitations under the License.
+ */
+package org.cufy.infiniterecyclerviewadapter;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.jetbrains.annotations.Range;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.FutureTask;
+
+/**
+ * A bounded (least recently used) cache of the results of a {@link
+ * InfiniteRecyclerViewAdapter.Precomputer}. Results are computed ahead on a background
+ * executor, so the binders can bind from them instead of doing the work in the frame. A
+ * miss on an item that is still being precomputed reuses the pending computation (runs it
+ * in place if the executor has not started it yet) instead of computing it twice.
+ *
+ * @param <T> the type of the items.
+ * @param <R> the type of the results.
+ * @author LSafer
+ * @version 0.0.2
+ * @since 0.0.2 ~2026.10.17
+ */
+public class PrecomputeCache<T, R> {
+	/**
+	 * The cached results. ({@code item -> result}, in access order, guarded by itself)
+	 *
+	 * @since 0.0.2 ~2026.10.17
+	 */
+	@NotNull
+	protected final LinkedHashMap<T, R> cache;
+	/**
+	 * The maximum number of cached results.
+	 *
+	 * @since 0.0.2 ~2026.10.17
+	 */
+	protected final int capacity;
+	/**
+	 * The executor to precompute the results with.
+	 *
+	 * @since 0.0.2 ~2026.10.17
+	 */
+	@NotNull
+	protected final Executor executor;
+	/**
+	 * The pending computations. ({@code item -> computation}, guarded by {@link #cache})
+	 *
+	 * @since 0.0.2 ~2026.10.17
+	 */
+	@NotNull
+	protected final Map<T, FutureTask<R>> pending = new HashMap<>();
+	/**
+	 * The precomputer.
+	 *
+	 * @since 0.0.2 ~2026.10.17
+	 */
+	@NotNull
+	protected final InfiniteRecyclerViewAdapter.Precomputer<T, R> precomputer;
+
+	/**
+	 * Construct a new precompute cache.
+	 *
+	 * @param precomputer the precomputer.
+	 * @param executor    the executor to precompute the results with.
+	 * @param capacity    the maximum number of cached results.
+	 * @throws NullPointerException     if the given {@code precomputer} or {@code
+	 *                                  executor} is null.
+	 * @throws IllegalArgumentException if the given {@code capacity} is less than 1.
+	 * @since 0.0.2 ~2026.10.17
+	 */
+	public PrecomputeCache(@NotNull InfiniteRecyclerViewAdapter.Precomputer<T, R> precomputer, @NotNull Executor executor, @Range(from = 1, to = Integer.MAX_VALUE) int capacity) {
+		Objects.requireNonNull(precomputer, "precomputer");
+		Objects.requireNonNull(executor, "executor");
+		if (capacity < 1)
+			throw new IllegalArgumentException("capacity < 1");
+		this.precomputer = precomputer;
+		this.executor = executor;
+		this.capacity = capacity;
+		this.cache = new LinkedHashMap<T, R>(16, .75f, true) {
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<T, R> eldest) {
+				return this.size() > PrecomputeCache.this.capacity;
+			}
+		};
+	}
+
+	/**
+	 * Clear all the cached results and cancel all the pending computations.
+	 *
+	 * @since 0.0.2 ~2026.10.17
+	 */
+	public void clear() {
+		synchronized (this.cache) {
+			for (FutureTask<R> task : this.pending.values())
+				task.cancel(false);
+
+			this.pending.clear();
+			this.cache.clear();
+		}
+	}
+
+	/**
+	 * Return the result of the given {@code item}. If the item is being precomputed, the
+	 * pending computation is run in place (or waited for if the executor has already
+	 * started it). Otherwise, the result is computed synchronously (and cached).
+	 *
+	 * @param item the item.
+	 * @return the result of the given {@code item}.
+	 * @throws NullPointerException if the given {@code item} is null.
+	 * @since 0.0.2 ~2026.10.17
+	 */
+	@Nullable
+	public R get(@NotNull T item) {
+		Objects.requireNonNull(item, "item");
+
+		while (true) {
+			FutureTask<R> task;
+
+			synchronized (this.cache) {
+				R result = this.cache.get(item);
+
+				if (result != null || this.cache.containsKey(item))
+					return result;
+
+				task = this.pending.get(item);
+
+				if (task == null) {
+					task = this.task(item);
+					this.pending.put(item, task);
+				}
+			}
+
+			//no-op if the executor has already started it
+			task.run();
+
+			try {
+				return task.get();
+			} catch (CancellationException ignored) {
+				//superseded by a newer computation
+			} catch (ExecutionException e) {
+				Throwable cause = e.getCause();
+
+				if (cause instanceof RuntimeException)
+					throw (RuntimeException) cause;
+				if (cause instanceof Error)
+					throw (Error) cause;
+
+				throw new IllegalStateException(cause);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				return this.precomputer.precompute(item);
+			}
+		}
+	}
+
+	/**
+	 * Return the maximum number of cached results.
+	 *
+	 * @return the capacity of this cache.
+	 * @since 0.0.2 ~2026.10.17
+	 */
+	@Range(from = 1, to = Integer.MAX_VALUE)
+	public int getCapacity() {
+		return this.capacity;
+	}
+
+	/**
+	 * Schedule computing the result of the given {@code item} in the background, unless
+	 * it is already cached or pending.
+	 *
+	 * @param item the item.
+	 * @throws NullPointerException if the given {@code item} is null.
+	 * @since 0.0.2 ~2026.10.17
+	 */
+	public void prefetch(@NotNull T item) {
+		Objects.requireNonNull(item, "item");
+
+		synchronized (this.cache) {
+			if (this.cache.containsKey(item) || this.pending.containsKey(item))
+				return;
+		}
+
+		this.schedule(item);
+	}
+
+	/**
+	 * Schedule computing the result of the given {@code item} in the background. The
+	 * previously cached result (if any) is removed immediately, and the previously pending
+	 * computation (if any) is cancelled, since both might reflect an outdated state of the
+	 * item.
+	 *
+	 * @param item the item.
+	 * @throws NullPointerException if the given {@code item} is null.
+	 * @since 0.0.2 ~2026.10.17
+	 */
+	public void schedule(@NotNull T item) {
+		Objects.requireNonNull(item, "item");
+		FutureTask<R> task = this.task(item);
+
+		synchronized (this.cache) {
+			FutureTask<R> previous = this.pending.put(item, task);
+
+			if (previous != null)
+				previous.cancel(false);
+
+			this.cache.remove(item);
+		}
+
+		this.executor.execute(task);
+	}
+
+	/**
+	 * Create a computation of the result of the given {@code item}. The computation
+	 * caches its result once done, unless it was cancelled or superseded by a newer
+	 * computation.
+	 *
+	 * @param item the item.
+	 * @return a new computation of the result of the given {@code item}.
+	 * @throws NullPointerException if the given {@code item} is null.
+	 * @since 0.0.2 ~2026.10.17
+	 */
+	@NotNull
+	protected FutureTask<R> task(@NotNull T item) {
+		Objects.requireNonNull(item, "item");
+		return new FutureTask<R>(() -> this.precomputer.precompute(item)) {
+			@Override
+			protected void done() {
+				synchronized (PrecomputeCache.this.cache) {
+					if (PrecomputeCache.this.pending.get(item) != this)
+						return;
+
+					PrecomputeCache.this.pending.remove(item);
+
+					if (this.isCancelled())
+						return;
+
+					try {
+						PrecomputeCache.this.cache.put(item, this.get());
+					} catch (ExecutionException | InterruptedException ignored) {
+						//computed again on demand
+					}
+				}
+			}
+		};
+	}
+}
@@ -0,0 +1,335 @@
+/*
+ *	Copyright 2021 Cufy
+ *
+ *	Licensed under the Apache License, Version 2.0 (the "License");
+ *	you may not use this file except in compliance with the License.
+ *	You may obtain a copy of the License at
+ *
+ *	    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *	Unless required by applicable law or agreed to in writing, software
+ *	distributed under the License is distributed on an "AS IS" BASIS,
+ *	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *	See the License for the specific language governing permissions and
+ *	limitations under the License.
+ */
+package org.cufy.infiniterecyclerviewadapter;
+
+import android.os.Handler;
+import android.os.Looper;
+import android.util.SparseArray;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.jetbrains.annotations.Range;
+
+import java.util.Objects;
+
+/**
+ * A prefetcher warming resources (like images) of the positions ahead of the visible
+ * window in the scrolling direction, before they get bound. Requests that fall out of the
+ * window get cancelled, and at most a limited number of requests are in-flight at a
+ * time.
+ * <br>
+ * All the methods of this class must be invoked on the main thread.
+ *
+ * @author LSafer
+ * @version 0.0.2
+ * @since 0.0.2 ~2026.10.17
+ */
+public class ScrollPrefetcher implements InfiniteRecyclerViewAdapter.OnScrollListener {
+	/**
+	 * The fetcher to start the requests with.
+	 *
+	 * @since 0.0.2 ~2026.10.17
+	 */
+	@NotNull
+	protected final Fetcher fetcher;
+	/**
+	 * A handler posting to the main thread.
+	 *
+	 * @since 0.0.2 ~2026.10.17
+	 */
+	@NotNull
+	protected final Handler handler = new Handler(Looper.getMainLooper());
+	/**
+	 * The requests of the positions in the current window. ({@code position ->
+	 * request})
+	 *
+	 * @since 0.0.2 ~2026.10.17
+	 */
+	@NotNull
+	protected final SparseArray<Request> requests = new SparseArray<>();
+
+	/**
+	 * The number of in-flight requests.
+	 *
+	 * @since 0.0.2 ~2026.10.17
+	 */
+	protected int active;
+	/**
+	 * The direction of the current window. ({@code 1} towards the end, {@code -1} towards
+	 * the start)
+	 *
+	 * @since 0.0.2 ~2026.10.17
+	 */
+	protected int direction = 1;
+	/**
+	 * How many positions ahead of the visible window to prefetch.
+	 *
+	 * @since 0.0.2 ~2026.10.17
+	 */
+	protected int distance;
+	/**
+	 * The maximum number of in-flight requests.
+	 *
+	 * @since 0.0.2 ~2026.10.17
+	 */
+	protected int maxConcurrency;
+	/**
+	 * The last position of the current window. (inclusive)
+	 *
+	 * @since 0.0.2 ~2026.10.17
+	 */
+	protected int windowEnd = -1;
+	/**
+	 * The first position of the current window.
+	 *
+	 * @since 0.0.2 ~2026.10.17
+	 */
+	protected int windowStart;
+
+	/**
+	 * Construct a new scroll prefetcher.
+	 *
+	 * @param fetcher        the fetcher to start the requests with.
+	 * @param distance       how many positions ahead of the visible window to prefetch.
+	 * @param maxConcurrency the maximum number of in-flight requests.
+	 * @throws NullPointerException     if the given {@code fetcher} is null.
+	 * @throws IllegalArgumentException if the given {@code distance} is negative or the
+	 *                                  given {@code maxConcurrency} is less than 1.
+	 * @since 0.0.2 ~2026.10.17
+	 */
+	public ScrollPrefetcher(@NotNull Fetcher fetcher, @Range(from = 0, to = Integer.MAX_VALUE) int distance, @Range(from = 1, to = Integer.MAX_VALUE) int maxConcurrency) {
+		Objects.requireNonNull(fetcher, "fetcher");
+		if (distance < 0)
+			throw new IllegalArgumentException("distance < 0");
+		if (maxConcurrency < 1)
+			throw new IllegalArgumentException("maxConcurrency < 1");
+		this.fetcher = fetcher;
+		this.distance = distance;
+		this.maxConcurrency = maxConcurrency;
+	}
+
+	@Override
+	public void onScroll(int count, int first, int last) {
+		this.onScroll(count, first, last, 0, 0);
+	}
+
+	@Override
+	public void onScroll(int count, int first, int last, int direction, float velocity) {
+		if (first < 0 || last < 0)
+			return;
+		if (direction != 0)
+			this.direction = direction;
+
+		if (this.direction > 0) {
+			this.windowStart = last + 1;
+			this.windowEnd = Math.min(count - 1, last + this.distance);
+		} else {
+			this.windowStart = Math.max(0, first - this.distance);
+			this.windowEnd = first - 1;
+		}
+
+		//cancel (and forget) the requests that fell out of the window
+		for (int i = this.requests.size() - 1; i >= 0; i--) {
+			int position = this.requests.keyAt(i);
+
+			if (position < this.windowStart || position > this.windowEnd) {
+				this.requests.valueAt(i).cancel();
+				this.requests.remove(position);
+			}
+		}
+
+		this.fill();
+	}
+
+	/**
+	 * Cancel all the requests and forget the current window.
+	 *
+	 * @since 0.0.2 ~2026.10.17
+	 */
+	public void clear() {
+		for (int i = 0, l = this.requests.size(); i < l; i++)
+			this.requests.valueAt(i).cancel();
+
+		this.requests.clear();
+		this.windowStart = 0;
+		this.windowEnd = -1;
+	}
+
+	/**
+	 * Set how many positions ahead of the visible window to prefetch.
+	 *
+	 * @param distance the distance.
+	 * @throws IllegalArgumentException if the given {@code distance} is negative.
+	 * @since 0.0.2 ~2026.10.17
+	 */
+	public void setDistance(@Range(from = 0, to = Integer.MAX_VALUE) int distance) {
+		if (distance < 0)
+			throw new IllegalArgumentException("distance < 0");
+		this.distance = distance;
+	}
+
+	/**
+	 * Set the maximum number of in-flight requests.
+	 *
+	 * @param maxConcurrency the maximum number of in-flight requests.
+	 * @throws IllegalArgumentException if the given {@code maxConcurrency} is less than
+	 *                                  1.
+	 * @since 0.0.2 ~2026.10.17
+	 */
+	public void setMaxConcurrency(@Range(from = 1, to = Integer.MAX_VALUE) int maxConcurrency) {
+		if (maxConcurrency < 1)
+			throw new IllegalArgumentException("maxConcurrency < 1");
+		this.maxConcurrency = maxConcurrency;
+		this.fill();
+	}
+
+	/**
+	 * Start requests for the positions of the current window (nearest to the visible
+	 * window first) that were not requested, while below the concurrency limit.
+	 *
+	 * @since 0.0.2 ~2026.10.17
+	 */
+	protected void fill() {
+		int length = this.windowEnd - this.windowStart + 1;
+
+		for (int i = 0; i < length && this.active < this.maxConcurrency; i++) {
+			int position = this.direction > 0 ? this.windowStart + i : this.windowEnd - i;
+
+			if (this.requests.get(position) == null) {
+				Request request = new Request(position);
+
+				this.requests.put(position, request);
+				this.active++;
+				request.cancel = this.fetcher.fetch(position, () -> this.handler.post(() -> this.finish(request)));
+			}
+		}
+	}
+
+	/**
+	 * Invoked when the given {@code request} has finished. Release its slot and start
+	 * more requests.
+	 *
+	 * @param request the finished request.
+	 * @since 0.0.2 ~2026.10.17
+	 */
+	protected void finish(@NotNull Request request) {
+		if (request.state != Request.ACTIVE)
+			//cancelled, or already finished
+			return;
+
+		request.state = Request.DONE;
+		this.active--;
+		this.fill();
+	}
+
+	/**
+	 * A fetcher starting the prefetch requests.
+	 *
+	 * @author LSafer
+	 * @version 0.0.2
+	 * @since 0.0.2 ~2026.10.17
+	 */
+	@FunctionalInterface
+	public interface Fetcher {
+		/**
+		 * Start prefetching the resources of the given {@code position}. The given {@code
+		 * done} must be invoked (from any thread) when the request completes (or fails).
+		 *
+		 * @param position the position to prefetch the resources of.
+		 * @param done     the callback to be invoked when the request completes.
+		 * @return an action cancelling the request. (or null if not cancellable)
+		 * @throws NullPointerException if the given {@code done} is null.
+		 * @since 0.0.2 ~2026.10.17
+		 */
+		@Nullable
+		Runnable fetch(@Range(from = 0, to = Integer.MAX_VALUE) int position, @NotNull Runnable done);
+	}
+
+	/**
+	 * The state of a prefetch request.
+	 *
+	 * @author LSafer
+	 * @version 0.0.2
+	 * @since 0.0.2 ~2026.10.17
+	 */
+	protected class Request {
+		/**
+		 * The state of an in-flight request.
+		 *
+		 * @since 0.0.2 ~2026.10.17
+		 */
+		public static final int ACTIVE = 0;
+		/**
+		 * The state of a cancelled request.
+		 *
+		 * @since 0.0.2 ~2026.10.17
+		 */
+		public static final int CANCELLED = 1;
+		/**
+		 * The state of a completed request.
+		 *
+		 * @since 0.0.2 ~2026.10.17
+		 */
+		public static final int DONE = 2;
+
+		/**
+		 * The requested position.
+		 *
+		 * @since 0.0.2 ~2026.10.17
+		 */
+		public final int position;
+
+		/**
+		 * The action cancelling the request. (or null if not cancellable)
+		 *
+		 * @since 0.0.2 ~2026.10.17
+		 */
+		@Nullable
+		public Runnable cancel;
+		/**
+		 * The state of the request.
+		 *
+		 * @since 0.0.2 ~2026.10.17
+		 */
+		public int state = Request.ACTIVE;
+
+		/**
+		 * Construct a new request for the given {@code position}.
+		 *
+		 * @param position the requested position.
+		 * @since 0.0.2 ~2026.10.17
+		 */
+		public Request(int position) {
+			this.position = position;
+		}
+
+		/**
+		 * Cancel this request (if in-flight) and release its slot.
+		 *
+		 * @since 0.0.2 ~2026.10.17
+		 */
+		public void cancel() {
+			if (this.state != Request.ACTIVE)
+				return;
+
+			this.state = Request.CANCELLED;
+			ScrollPrefetcher.this.active--;
+
+			if (this.cancel != null)
+				this.cancel.run();
+		}
+	}
+}
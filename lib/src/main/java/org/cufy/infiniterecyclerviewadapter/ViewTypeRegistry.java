@@ -0,0 +1,257 @@
+/*
+ *	Copyright 2021 Cufy
+ *
+ *	Licensed under the Apache License, Version 2.0 (the "License");
+ *	you may not use this file except in compliance with the License.
+ *	You may obtain a copy of the License at
+ *
+ *	    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *	Unless required by applicable law or agreed to in writing, software
+ *	distributed under the License is distributed on an "AS IS" BASIS,
+ *	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *	See the License for the specific language governing permissions and
+ *	limitations under the License.
+ */
+package org.cufy.infiniterecyclerviewadapter;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.jetbrains.annotations.Range;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * A registry mapping view types to values with primitive keys. Lookups read an immutable
+ * table without boxing nor hashing: a dense array indexed by {@code type - min} when the
+ * types are close to each other, or a binary search on a sorted array of types
+ * otherwise. Modifications rebuild the table, so they are meant for setup time.
+ *
+ * @param <V> the type of the values.
+ * @author LSafer
+ * @version 0.0.2
+ * @since 0.0.2 ~2026.10.17
+ */
+public class ViewTypeRegistry<V> {
+	/**
+	 * The maximum span of types ({@code max - min + 1}) to be stored in a dense array.
+	 *
+	 * @since 0.0.2 ~2026.10.17
+	 */
+	public static final int MAX_DENSE_SPAN = 256;
+
+	/**
+	 * True, if this registry no longer accepts modifications.
+	 *
+	 * @since 0.0.2 ~2026.10.17
+	 */
+	protected volatile boolean frozen;
+	/**
+	 * The current table.
+	 *
+	 * @since 0.0.2 ~2026.10.17
+	 */
+	@NotNull
+	protected volatile Table table = Table.EMPTY;
+
+	/**
+	 * Reject any further modification to this registry.
+	 *
+	 * @since 0.0.2 ~2026.10.17
+	 */
+	public void freeze() {
+		this.frozen = true;
+	}
+
+	/**
+	 * Return the value of the given {@code type}.
+	 *
+	 * @param type the type.
+	 * @return the value of the given {@code type}. (or null if not registered)
+	 * @since 0.0.2 ~2026.10.17
+	 */
+	@Nullable
+	public V get(int type) {
+		Table table = this.table;
+		Object[] dense = table.dense;
+
+		if (dense != null) {
+			int index = type - table.min;
+
+			return index >= 0 && index < dense.length ? (V) dense[index] : null;
+		}
+
+		int index = Arrays.binarySearch(table.types, type);
+
+		return index >= 0 ? (V) table.values[index] : null;
+	}
+
+	/**
+	 * Return true if this registry no longer accepts modifications.
+	 *
+	 * @return true, if frozen.
+	 * @since 0.0.2 ~2026.10.17
+	 */
+	public boolean isFrozen() {
+		return this.frozen;
+	}
+
+	/**
+	 * Set the value of the given {@code type} to the given {@code value}.
+	 *
+	 * @param type  the type.
+	 * @param value the value to be set.
+	 * @throws NullPointerException  if the given {@code value} is null.
+	 * @throws IllegalStateException if this registry is frozen.
+	 * @since 0.0.2 ~2026.10.17
+	 */
+	public synchronized void put(int type, @NotNull V value) {
+		Objects.requireNonNull(value, "value");
+		if (this.frozen)
+			throw new IllegalStateException("Frozen registry");
+
+		Table table = this.table;
+		int index = Arrays.binarySearch(table.types, type);
+		int[] types;
+		Object[] values;
+
+		if (index >= 0) {
+			types = table.types;
+			values = table.values.clone();
+			values[index] = value;
+		} else {
+			int insertion = -index - 1;
+			int length = table.types.length;
+
+			types = new int[length + 1];
+			values = new Object[length + 1];
+			System.arraycopy(table.types, 0, types, 0, insertion);
+			System.arraycopy(table.values, 0, values, 0, insertion);
+			System.arraycopy(table.types, insertion, types, insertion + 1, length - insertion);
+			System.arraycopy(table.values, insertion, values, insertion + 1, length - insertion);
+			types[insertion] = type;
+			values[insertion] = value;
+		}
+
+		this.table = new Table(types, values);
+	}
+
+	/**
+	 * Remove the value of the given {@code type}.
+	 *
+	 * @param type the type.
+	 * @throws IllegalStateException if this registry is frozen.
+	 * @since 0.0.2 ~2026.10.17
+	 */
+	public synchronized void remove(int type) {
+		if (this.frozen)
+			throw new IllegalStateException("Frozen registry");
+
+		Table table = this.table;
+		int index = Arrays.binarySearch(table.types, type);
+
+		if (index < 0)
+			return;
+
+		int length = table.types.length;
+		int[] types = new int[length - 1];
+		Object[] values = new Object[length - 1];
+
+		System.arraycopy(table.types, 0, types, 0, index);
+		System.arraycopy(table.values, 0, values, 0, index);
+		System.arraycopy(table.types, index + 1, types, index, length - index - 1);
+		System.arraycopy(table.values, index + 1, values, index, length - index - 1);
+
+		this.table = new Table(types, values);
+	}
+
+	/**
+	 * Return the number of registered types.
+	 *
+	 * @return the number of registered types.
+	 * @since 0.0.2 ~2026.10.17
+	 */
+	@Range(from = 0, to = Integer.MAX_VALUE)
+	public int size() {
+		return this.table.types.length;
+	}
+
+	/**
+	 * An immutable table of types and values.
+	 *
+	 * @author LSafer
+	 * @version 0.0.2
+	 * @since 0.0.2 ~2026.10.17
+	 */
+	protected static final class Table {
+		/**
+		 * An empty table.
+		 *
+		 * @since 0.0.2 ~2026.10.17
+		 */
+		@NotNull
+		public static final Table EMPTY = new Table(new int[0], new Object[0]);
+
+		/**
+		 * The values indexed by {@code type - min}. (null if the types are too sparse)
+		 *
+		 * @since 0.0.2 ~2026.10.17
+		 */
+		@Nullable
+		public final Object[] dense;
+		/**
+		 * The smallest type.
+		 *
+		 * @since 0.0.2 ~2026.10.17
+		 */
+		public final int min;
+		/**
+		 * The types. (sorted)
+		 *
+		 * @since 0.0.2 ~2026.10.17
+		 */
+		public final int @NotNull [] types;
+		/**
+		 * The values. (parallel to {@link #types})
+		 *
+		 * @since 0.0.2 ~2026.10.17
+		 */
+		@NotNull
+		public final Object @NotNull [] values;
+
+		/**
+		 * Construct a new table from the given sorted {@code types} and their {@code
+		 * values}.
+		 *
+		 * @param types  the types. (sorted)
+		 * @param values the values.
+		 * @since 0.0.2 ~2026.10.17
+		 */
+		private Table(int @NotNull [] types, @NotNull Object @NotNull [] values) {
+			this.types = types;
+			this.values = values;
+
+			if (types.length == 0) {
+				this.min = 0;
+				this.dense = null;
+				return;
+			}
+
+			int min = types[0];
+			long span = (long) types[types.length - 1] - min + 1;
+
+			this.min = min;
+
+			if (span <= ViewTypeRegistry.MAX_DENSE_SPAN) {
+				Object[] dense = new Object[(int) span];
+
+				for (int i = 0; i < types.length; i++)
+					dense[types[i] - min] = values[i];
+
+				this.dense = dense;
+			} else
+				this.dense = null;
+		}
+	}
+}
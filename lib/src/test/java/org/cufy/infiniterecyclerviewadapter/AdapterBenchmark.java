@@ -0,0 +1,242 @@
+/*
+ *	Copyright 2021 Cufy
+ *
+ *	Licensed under the Apache License, Version 2.0 (the "License");
+ *	you may not use this file except in compliance with the License.
+ *	You may obtain a copy of the License at
+ *
+ *	    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *	Unless required by applicable law or agreed to in writing, software
+ *	distributed under the License is distributed on an "AS IS" BASIS,
+ *	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *	See the License for the specific language governing permissions and
+ *	limitations under the License.
+ */
+package org.cufy.infiniterecyclerviewadapter;
+
+import android.content.Context;
+import android.view.View;
+import android.view.ViewGroup;
+import android.widget.FrameLayout;
+
+import androidx.recyclerview.widget.LinearLayoutManager;
+import androidx.recyclerview.widget.RecyclerView;
+import androidx.test.core.app.ApplicationProvider;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricTestRunner;
+
+import java.io.File;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.io.Writer;
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Benchmarks of the adapter hot paths under Robolectric. Run with {@code ./gradlew
+ * :lib:testDebugUnitTest -Pbenchmark --tests '*AdapterBenchmark'}. The results (time and
+ * allocated bytes per operation) are written to {@code build/reports/benchmarks/adapter.json}.
+ */
+@RunWith(RobolectricTestRunner.class)
+public class AdapterBenchmark {
+	private static final int OPERATIONS = 100_000;
+	private static final Map<String, double[]> RESULTS = new TreeMap<>();
+	private static final int ROUNDS = 5;
+
+	private final int[] visible = {0, 0, 1};
+	private InfiniteRecyclerViewAdapter adapter;
+	private Context context;
+	private RecyclerView recyclerView;
+
+	@Before
+	public void setUp() {
+		this.context = ApplicationProvider.getApplicationContext();
+		this.recyclerView = new RecyclerView(this.context);
+		this.recyclerView.setLayoutManager(new LinearLayoutManager(this.context));
+		this.adapter = new InfiniteRecyclerViewAdapter();
+		this.adapter.setVisibleRangeResolver((manager, range) -> {
+			System.arraycopy(this.visible, 0, range, 0, 3);
+			return true;
+		});
+	}
+
+	@Test
+	public void addAll() throws IOException {
+		List<Object> notified = new ArrayList<>();
+		this.adapter.registerAdapterDataObserver(new RecyclerView.AdapterDataObserver() {
+			@Override
+			public void onItemRangeInserted(int positionStart, int itemCount) {
+				notified.add(itemCount);
+			}
+		});
+
+		for (int size : new int[]{10, 1_000, 100_000}) {
+			List<Object> items = new ArrayList<>(size);
+
+			for (int i = 0; i < size; i++)
+				items.add(i);
+
+			int operations = Math.max(10, AdapterBenchmark.OPERATIONS / size);
+			com.sun.management.ThreadMXBean threads = AdapterBenchmark.threads();
+			long thread = Thread.currentThread().getId();
+			double[] best = {Double.MAX_VALUE, Double.MAX_VALUE};
+
+			for (int round = -1; round < AdapterBenchmark.ROUNDS; round++) {
+				long nanos = 0;
+				long bytes = 0;
+
+				for (int i = 0; i < operations; i++) {
+					long bytesStart = threads.getThreadAllocatedBytes(thread);
+					long start = System.nanoTime();
+					//notified synchronously on the main thread
+					this.adapter.items().addAll(items);
+					nanos += System.nanoTime() - start;
+					bytes += threads.getThreadAllocatedBytes(thread) - bytesStart;
+					this.adapter.items().clear();
+					notified.clear();
+				}
+
+				if (round >= 0) {
+					best[0] = Math.min(best[0], (double) nanos / operations);
+					best[1] = Math.min(best[1], (double) bytes / operations);
+				}
+			}
+
+			AdapterBenchmark.report("items.addAll/" + size, best);
+		}
+	}
+
+	@Test
+	public void bind() throws IOException {
+		int type = this.register();
+
+		for (int i = 0; i < 1_000; i++)
+			this.adapter.items().add(i);
+
+		RecyclerView.ViewHolder holder = this.adapter.createViewHolder(this.recyclerView, type);
+		this.measure("onBindViewHolder", i -> this.adapter.onBindViewHolder(holder, i % 1_000));
+	}
+
+	@Test
+	public void createViewHolder() throws IOException {
+		int type = this.register();
+		this.measure("createViewHolder", i -> this.adapter.createViewHolder(this.recyclerView, type));
+	}
+
+	@Test
+	public void findViewById() throws IOException {
+		InfiniteRecyclerViewAdapter.AutoViewHolder holder = (InfiniteRecyclerViewAdapter.AutoViewHolder) this.adapter.createViewHolder(this.recyclerView, this.register());
+		this.measure("AutoViewHolder.findViewById", i -> holder.findViewById(1 + i % 3));
+	}
+
+	@Test
+	public void getItemViewType() throws IOException {
+		this.register();
+		this.adapter.register(String.class, this::holder, (InfiniteRecyclerViewAdapter.AutoViewHolder holder, String item) -> {
+		});
+
+		for (int i = 0; i < 1_000; i++)
+			this.adapter.items().add(i % 2 == 0 ? i : String.valueOf(i));
+
+		this.measure("getItemViewType", i -> this.adapter.getItemViewType(i % 1_000));
+	}
+
+	@Test
+	public void scroll() throws IOException {
+		int[] dispatched = new int[1];
+		this.adapter.addOnScrollListener((count, first, last) -> dispatched[0]++);
+
+		for (int i = 0; i < 1_000; i++)
+			this.adapter.items().add(i);
+
+		this.measure("onScrolled", i -> {
+			//a different range every scroll, so every scroll is dispatched
+			this.visible[0] = i % 990;
+			this.visible[1] = i % 990 + 10;
+			this.adapter.onScrollListener.onScrolled(this.recyclerView, 0, 10);
+		});
+	}
+
+	private InfiniteRecyclerViewAdapter.AutoViewHolder holder(ViewGroup parent) {
+		FrameLayout root = new FrameLayout(parent.getContext());
+		View title = new View(parent.getContext());
+		View subtitle = new View(parent.getContext());
+		title.setId(1);
+		subtitle.setId(2);
+		root.addView(title);
+		root.addView(subtitle);
+		return new InfiniteRecyclerViewAdapter.AutoViewHolder(root);
+	}
+
+	private void measure(String name, Operation operation) throws IOException {
+		com.sun.management.ThreadMXBean threads = AdapterBenchmark.threads();
+		long thread = Thread.currentThread().getId();
+		double[] best = {Double.MAX_VALUE, Double.MAX_VALUE};
+
+		//the first round is a warm-up
+		for (int round = -1; round < AdapterBenchmark.ROUNDS; round++) {
+			long bytes = threads.getThreadAllocatedBytes(thread);
+			long start = System.nanoTime();
+
+			for (int i = 0; i < AdapterBenchmark.OPERATIONS; i++)
+				operation.run(i);
+
+			long nanos = System.nanoTime() - start;
+			bytes = threads.getThreadAllocatedBytes(thread) - bytes;
+
+			if (round >= 0) {
+				best[0] = Math.min(best[0], (double) nanos / AdapterBenchmark.OPERATIONS);
+				best[1] = Math.min(best[1], (double) bytes / AdapterBenchmark.OPERATIONS);
+			}
+		}
+
+		AdapterBenchmark.report(name, best);
+	}
+
+	private int register() {
+		return this.adapter.register(Integer.class, this::holder, (InfiniteRecyclerViewAdapter.AutoViewHolder holder, Integer item) -> {
+			holder.findViewById(1);
+			holder.findViewById(2);
+		});
+	}
+
+	private static void report(String name, double[] result) throws IOException {
+		AdapterBenchmark.RESULTS.put(name, result);
+		File directory = new File(System.getProperty("benchmark.dir", "build/reports/benchmarks"));
+		directory.mkdirs();
+
+		//rewritten after every benchmark, whatever the order they run in
+		try (Writer writer = new FileWriter(new File(directory, "adapter.json"))) {
+			writer.write("[\n");
+			String separator = "";
+
+			for (Map.Entry<String, double[]> entry : AdapterBenchmark.RESULTS.entrySet()) {
+				writer.write(String.format(
+						Locale.ROOT,
+						"%s\t{\"benchmark\": \"%s\", \"nsPerOp\": %.2f, \"bytesPerOp\": %.2f}",
+						separator, entry.getKey(), entry.getValue()[0], entry.getValue()[1]
+				));
+				separator = ",\n";
+			}
+
+			writer.write("\n]\n");
+		}
+	}
+
+	private static com.sun.management.ThreadMXBean threads() {
+		return (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+	}
+
+	@FunctionalInterface
+	private interface Operation {
+		void run(int i);
+	}
+}
@@ -0,0 +1,107 @@
+/*
+ *	Copyright 2021 Cufy
+ *
+ *	Licensed under the Apache License, Version 2.0 (the "License");
+ *	you may not use this file except in compliance with the License.
+ *	You may obtain a copy of the License at
+ *
+ *	    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *	Unless required by applicable law or agreed to in writing, software
+ *	distributed under the License is distributed on an "AS IS" BASIS,
+ *	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *	See the License for the specific language governing permissions and
+ *	limitations under the License.
+ */
+package org.cufy.infiniterecyclerviewadapter;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricTestRunner;
+
+import static org.junit.Assert.*;
+
+/**
+ * Tests of the histograms and the counters of {@link AdapterMetrics}.
+ */
+@RunWith(RobolectricTestRunner.class)
+public class AdapterMetricsTest {
+	@Test
+	public void histogramBucketsAreLog2Micros() {
+		AdapterMetrics.Histogram histogram = new AdapterMetrics.Histogram();
+		histogram.record(500);
+		histogram.record(1_999);
+		histogram.record(2_000);
+		histogram.record(1_000_000);
+		histogram.record(Long.MAX_VALUE);
+
+		//below 2us
+		assertEquals(2, histogram.getBucket(0));
+		assertEquals(1, histogram.getBucket(1));
+		//1ms is in [512us, 1024us)
+		assertEquals(1, histogram.getBucket(9));
+		//clamped to the last bucket
+		assertEquals(1, histogram.getBucket(AdapterMetrics.Histogram.BUCKETS - 1));
+		assertEquals(5, histogram.getCount());
+		assertEquals(Long.MAX_VALUE, histogram.getMax());
+	}
+
+	@Test
+	public void histogramQuantilesAreBucketUpperBounds() {
+		AdapterMetrics.Histogram histogram = new AdapterMetrics.Histogram();
+
+		for (int i = 0; i < 90; i++)
+			histogram.record(1_500);
+		for (int i = 0; i < 10; i++)
+			histogram.record(300_000);
+
+		assertEquals(2_000, histogram.quantile(.5));
+		assertEquals(2_000, histogram.quantile(.9));
+		//the upper bound of [256us, 512us) is clamped to the max
+		assertEquals(300_000, histogram.quantile(.99));
+		assertEquals(300_000, histogram.quantile(1));
+		assertEquals(90 * 1_500 + 10 * 300_000, histogram.getSum());
+	}
+
+	@Test
+	public void histogramResets() {
+		AdapterMetrics.Histogram histogram = new AdapterMetrics.Histogram();
+		histogram.record(5_000);
+		histogram.reset();
+
+		assertEquals(0, histogram.getCount());
+		assertEquals(0, histogram.getMax());
+		assertEquals(0, histogram.getSum());
+		assertEquals(0, histogram.getBucket(2));
+		assertEquals(0, histogram.quantile(.5));
+	}
+
+	@Test
+	public void metricsAreRecordedPerType() {
+		AdapterMetrics metrics = new AdapterMetrics();
+		metrics.onViewHolderCreated(7, 10_000);
+		metrics.onViewHolderBound(7, 1_000);
+		metrics.onViewHolderBound(3, 1_000);
+		metrics.onViewHolderBound(3, 1_000);
+		metrics.onNotified(ItemStore.Change.INSERTED, 10);
+		metrics.onNotified(ItemStore.Change.RESET, 0);
+		metrics.onLoaded(50_000_000, true);
+		metrics.onLoaded(20_000_000, false);
+
+		assertArrayEquals(new int[]{3, 7}, metrics.getTypes());
+		assertEquals(2, metrics.getBindLatency(3).getCount());
+		assertEquals(1, metrics.getCreateLatency(7).getCount());
+		assertNull(metrics.getCreateLatency(3));
+		assertEquals(1, metrics.getNotifications(ItemStore.Change.INSERTED));
+		assertEquals(1, metrics.getNotifications(ItemStore.Change.RESET));
+		assertEquals(2, metrics.getLoadLatency().getCount());
+		assertEquals(1, metrics.getFailedLoads());
+
+		metrics.reset();
+
+		assertEquals(0, metrics.getTypes().length);
+		assertEquals(0, metrics.getNotifications(ItemStore.Change.INSERTED));
+		assertEquals(0, metrics.getLoadLatency().getCount());
+		assertEquals(0, metrics.getFailedLoads());
+	}
+}
@@ -0,0 +1,114 @@
+/*
+ *	Copyright 2021 Cufy
+ *
+ *	Licensed under the Apache License, Version 2.0 (the "License");
+ *	you may not use this file except in compliance with the License.
+ *	You may obtain a copy of the License at
+ *
+ *	    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *	Unless required by applicable law or agreed to in writing, software
+ *	distributed under the License is distributed on an "AS IS" BASIS,
+ *	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *	See the License for the specific language governing permissions and
+ *	limitations under the License.
+ */
+package org.cufy.infiniterecyclerviewadapter;
+
+import android.os.Looper;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricTestRunner;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.Assert.*;
+import static org.robolectric.Shadows.shadowOf;
+
+/**
+ * Tests of the chunk growth and the delayed flushes of {@link ChunkedAppender}.
+ */
+@RunWith(RobolectricTestRunner.class)
+public class ChunkedAppenderTest {
+	private final List<Integer> inserts = new ArrayList<>();
+	private ItemStore store;
+
+	@Before
+	public void setUp() {
+		this.store = new ItemStore((snapshot, change) -> {
+			assertEquals(ItemStore.Change.INSERTED, change.kind);
+			this.inserts.add(change.count);
+		});
+	}
+
+	@Test
+	public void chunksDoubleUpToTheMaximum() {
+		ChunkedAppender appender = new ChunkedAppender(this.store, 16);
+
+		for (int i = 0; i < 60; i++)
+			appender.accept(i);
+
+		//an eighth of the maximum first, then doubling
+		assertEquals(Arrays.asList(2, 4, 8, 16, 16), this.inserts);
+		appender.close();
+		assertEquals(Arrays.asList(2, 4, 8, 16, 16, 14), this.inserts);
+		assertEquals(60, this.store.size());
+
+		for (int i = 0; i < 60; i++)
+			assertEquals(i, this.store.get(i));
+	}
+
+	@Test
+	public void closedAppenderRejectsItems() {
+		ChunkedAppender appender = new ChunkedAppender(this.store, 8);
+		appender.accept(0);
+		appender.close();
+
+		assertEquals(Arrays.asList(1), this.inserts);
+
+		try {
+			appender.accept(1);
+			fail("accepted after close");
+		} catch (IllegalStateException ignored) {
+		}
+	}
+
+	@Test
+	public void idleChunkIsAppendedAfterTheMaximumDelay() {
+		ChunkedAppender appender = new ChunkedAppender(this.store, 64, 100);
+		appender.accept(0);
+		appender.accept(1);
+
+		//no more items arrive
+		shadowOf(Looper.getMainLooper()).idleFor(Duration.ofMillis(99));
+		assertTrue(this.inserts.isEmpty());
+		shadowOf(Looper.getMainLooper()).idleFor(Duration.ofMillis(1));
+		assertEquals(Arrays.asList(2), this.inserts);
+
+		//the next chunk schedules its own flush
+		appender.accept(2);
+		shadowOf(Looper.getMainLooper()).idleFor(Duration.ofMillis(100));
+		assertEquals(Arrays.asList(2, 1), this.inserts);
+	}
+
+	@Test
+	public void staleDelayedFlushLeavesTheNextChunk() {
+		ChunkedAppender appender = new ChunkedAppender(this.store, 16, 100);
+		appender.accept(0);
+		appender.accept(1);
+		assertEquals(Arrays.asList(2), this.inserts);
+
+		shadowOf(Looper.getMainLooper()).idleFor(Duration.ofMillis(50));
+		appender.accept(2);
+		//the flush of the first chunk was cancelled, the second chunk is not due yet
+		shadowOf(Looper.getMainLooper()).idleFor(Duration.ofMillis(50));
+		assertEquals(Arrays.asList(2), this.inserts);
+		shadowOf(Looper.getMainLooper()).idleFor(Duration.ofMillis(50));
+		assertEquals(Arrays.asList(2, 1), this.inserts);
+	}
+}
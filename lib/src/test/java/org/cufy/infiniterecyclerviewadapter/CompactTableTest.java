@@ -0,0 +1,189 @@
+/*
+ *	Copyright 2021 Cufy
+ *
+ *	Licensed under the Apache License, Version 2.0 (the "License");
+ *	you may not use this file except in compliance with the License.
+ *	You may obtain a copy of the License at
+ *
+ *	    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *	Unless required by applicable law or agreed to in writing, software
+ *	distributed under the License is distributed on an "AS IS" BASIS,
+ *	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *	See the License for the specific language governing permissions and
+ *	limitations under the License.
+ */
+package org.cufy.infiniterecyclerviewadapter;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricTestRunner;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+/**
+ * Tests of the encoding of {@link CompactTable} and of its rows being stored flat in
+ * {@link ItemStore}.
+ */
+@RunWith(RobolectricTestRunner.class)
+public class CompactTableTest {
+	private static final CompactTable.Encoder<Object[]> ENCODER = (writer, item) -> writer
+			.putInt(0, (Integer) item[0])
+			.putLong(1, (Long) item[1])
+			.putDouble(2, (Double) item[2])
+			.putString(3, (String) item[3]);
+
+	private File directory;
+	private CompactTable table;
+
+	@Before
+	public void setUp() throws IOException {
+		this.directory = Files.createTempDirectory("table").toFile();
+		this.table = new CompactTable(CompactTable.INT, CompactTable.LONG, CompactTable.DOUBLE, CompactTable.STRING);
+	}
+
+	@After
+	public void tearDown() {
+		for (File child : this.directory.listFiles())
+			child.delete();
+
+		this.directory.delete();
+	}
+
+	@Test
+	public void appendAllKeepsTheRowsContiguous() {
+		this.table.writer().putInt(0, -1).commit();
+		List<CompactTable.Ref> refs = this.table.appendAll(Arrays.asList(
+				new Object[]{1, 10L, 0.5, "a"},
+				new Object[]{2, 20L, 1.5, "b"},
+				new Object[]{3, 30L, 2.5, "c"}
+		), CompactTableTest.ENCODER);
+
+		assertEquals(4, this.table.size());
+		assertEquals(3, refs.size());
+
+		for (int i = 0; i < refs.size(); i++)
+			assertEquals(1 + i, refs.get(i).getIndex());
+	}
+
+	@Test
+	public void charsAreDecodedIntoAReusedBuffer() {
+		this.table.appendAll(Arrays.asList(
+				new Object[]{1, 1L, 1.0, "first"},
+				new Object[]{2, 2L, 2.0, "second \u00e9"}
+		), CompactTableTest.ENCODER);
+		CompactTable.Row row = new CompactTable.Row();
+
+		CharSequence first = row.moveTo(this.table, 0).getChars(3);
+		assertEquals("first", first.toString());
+		CharSequence second = row.moveTo(this.table, 1).getChars(3);
+		assertEquals("second \u00e9", second.toString());
+		assertSame(first, second);
+	}
+
+	@Test
+	public void mappedTableDecodesTheSavedRows() throws IOException {
+		this.table.appendAll(Arrays.asList(
+				new Object[]{7, Long.MAX_VALUE, -0.25, "\u0633\u0644\u0627\u0645"},
+				new Object[]{8, Long.MIN_VALUE, Double.NaN, null}
+		), CompactTableTest.ENCODER);
+		File file = new File(this.directory, "table");
+		this.table.save(file);
+
+		CompactTable mapped = CompactTable.map(file);
+		CompactTable.Row row = new CompactTable.Row();
+
+		assertEquals(2, mapped.size());
+		row.moveTo(mapped, 0);
+		assertEquals(7, row.getInt(0));
+		assertEquals(Long.MAX_VALUE, row.getLong(1));
+		assertEquals(-0.25, row.getDouble(2), 0);
+		assertEquals("\u0633\u0644\u0627\u0645", row.getString(3));
+		row.moveTo(mapped, 1);
+		assertEquals(Long.MIN_VALUE, row.getLong(1));
+		assertTrue(Double.isNaN(row.getDouble(2)));
+		assertNull(row.getString(3));
+		assertNull(row.getChars(3));
+	}
+
+	@Test
+	public void failedSaveLeavesNoTemporaryFile() throws IOException {
+		this.table.writer().putInt(0, 1).commit();
+		//a non-empty directory in the way of the rename
+		File file = new File(this.directory, "table");
+		File child = new File(file, "child");
+		assertTrue(file.mkdir());
+		assertTrue(child.createNewFile());
+
+		try {
+			this.table.save(file);
+			fail("saved over a directory");
+		} catch (IOException ignored) {
+		}
+
+		assertEquals(Arrays.asList(file), Arrays.asList(this.directory.listFiles()));
+		assertTrue(child.delete());
+	}
+
+	@Test
+	public void repeatedStringsAreInternedAndCached() {
+		this.table.appendAll(Arrays.asList(
+				new Object[]{1, 1L, 1.0, "same"},
+				new Object[]{2, 2L, 2.0, "same"},
+				new Object[]{3, 3L, 3.0, "other"}
+		), CompactTableTest.ENCODER);
+		CompactTable.Row row = new CompactTable.Row();
+
+		//one pool entry for both rows
+		assertEquals(row.moveTo(this.table, 0).rows().getInt(row.base + this.table.offsets[3]),
+				row.moveTo(this.table, 1).rows().getInt(row.base + this.table.offsets[3]));
+
+		String first = row.moveTo(this.table, 0).getString(3);
+		String second = row.moveTo(this.table, 1).getString(3);
+		assertEquals("same", first);
+		assertSame(first, second);
+		assertEquals("other", row.moveTo(this.table, 2).getString(3));
+		assertSame(first, row.moveTo(this.table, 0).getString(3));
+	}
+
+	@Test
+	public void rowsAreStoredFlatInTheItems() {
+		ItemStore store = new ItemStore((snapshot, change) -> {
+		});
+		store.add("header");
+		store.addAll(this.table.appendAll(Arrays.asList(
+				new Object[]{1, 1L, 1.0, "a"},
+				new Object[]{2, 2L, 2.0, "b"}
+		), CompactTableTest.ENCODER));
+		ItemStore.Snapshot snapshot = store.snapshot();
+
+		//no object per row, the table and an int index
+		assertSame(this.table, snapshot.items[1]);
+		assertSame(this.table, snapshot.items[2]);
+		assertEquals(0, snapshot.indices[1]);
+		assertEquals(1, snapshot.indices[2]);
+
+		assertEquals(this.table.ref(1), store.get(2));
+		assertEquals(2, store.indexOf(this.table.ref(1)));
+
+		CompactTable.Row row = new CompactTable.Row();
+		assertSame(row, snapshot.get(1, row));
+		assertEquals(1, row.getInt(0));
+		assertEquals("header", snapshot.get(0, row));
+
+		//inserting in the middle and removing keeps the indices aligned
+		store.add(1, this.table.ref(1));
+		store.remove(0);
+		snapshot = store.snapshot();
+		assertEquals(Arrays.asList(this.table.ref(1), this.table.ref(0), this.table.ref(1)), store);
+		assertEquals(2, ((CompactTable.Row) snapshot.get(0, row)).getInt(0));
+	}
+}
@@ -0,0 +1,238 @@
+/*
+ *	Copyright 2021 Cufy
+ *
+ *	Licensed under the Apache License, Version 2.0 (the "License");
+ *	you may not use this file except in compliance with the License.
+ *	You may obtain a copy of the License at
+ *
+ *	    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *	Unless required by applicable law or agreed to in writing, software
+ *	distributed under the License is distributed on an "AS IS" BASIS,
+ *	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *	See the License for the specific language governing permissions and
+ *	limitations under the License.
+ */
+package org.cufy.infiniterecyclerviewadapter;
+
+import android.content.Context;
+import android.os.Looper;
+import android.view.View;
+import android.widget.FrameLayout;
+
+import androidx.recyclerview.widget.LinearLayoutManager;
+import androidx.recyclerview.widget.RecyclerView;
+import androidx.test.core.app.ApplicationProvider;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricTestRunner;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Queue;
+
+import static org.junit.Assert.*;
+import static org.robolectric.Shadows.shadowOf;
+
+/**
+ * Tests of the adapter paths of {@link InfiniteRecyclerViewAdapter}.
+ */
+@RunWith(RobolectricTestRunner.class)
+public class InfiniteRecyclerViewAdapterTest {
+	private final List<int[]> scrolls = new ArrayList<>();
+	private final int[] visible = {RecyclerView.NO_POSITION, RecyclerView.NO_POSITION, 1};
+	private InfiniteRecyclerViewAdapter adapter;
+	private Context context;
+	private RecyclerView recyclerView;
+
+	@Before
+	public void setUp() {
+		this.context = ApplicationProvider.getApplicationContext();
+		this.recyclerView = new RecyclerView(this.context);
+		this.recyclerView.setLayoutManager(new LinearLayoutManager(this.context));
+		this.adapter = new InfiniteRecyclerViewAdapter();
+		this.adapter.setVisibleRangeResolver((manager, range) -> {
+			System.arraycopy(this.visible, 0, range, 0, 3);
+			return true;
+		});
+		this.adapter.addOnScrollListener((count, first, last) -> {
+			assertTrue(count > 0 && first >= 0 && last >= first && last < count);
+			this.scrolls.add(new int[]{count, first, last});
+		});
+	}
+
+	@Test
+	public void bindingAllocatesNothingInSteadyState() {
+		int[] found = new int[1];
+		int type = this.adapter.register(Integer.class, parent -> {
+			FrameLayout root = new FrameLayout(parent.getContext());
+			View title = new View(parent.getContext());
+			View subtitle = new View(parent.getContext());
+			title.setId(1);
+			subtitle.setId(2);
+			root.addView(title);
+			root.addView(subtitle);
+			return new InfiniteRecyclerViewAdapter.AutoViewHolder(root);
+		}, (InfiniteRecyclerViewAdapter.AutoViewHolder holder, Integer item) -> {
+			if (holder.findViewById(1) != null)
+				found[0]++;
+			if (holder.findViewById(2) != null)
+				found[0]++;
+			if (holder.findViewById(3) == null)
+				found[0]++;
+		});
+
+		for (int i = 0; i < 100; i++)
+			this.adapter.items().add(i);
+
+		RecyclerView.ViewHolder holder = this.adapter.createViewHolder(this.recyclerView, type);
+
+		//warm up the lookup caches (and the runtime)
+		for (int i = 0; i < 10_000; i++)
+			this.adapter.onBindViewHolder(holder, i % 100);
+
+		com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+		long thread = Thread.currentThread().getId();
+		long before = threads.getThreadAllocatedBytes(thread);
+
+		for (int i = 0; i < 10_000; i++)
+			this.adapter.onBindViewHolder(holder, i % 100);
+
+		long allocated = threads.getThreadAllocatedBytes(thread) - before;
+
+		assertEquals(20_000 * 3, found[0]);
+		//a single allocation per bind would be at least 16 bytes each
+		assertTrue("allocated " + allocated + " bytes", allocated < 10_000);
+	}
+
+	@Test
+	public void slotsDoNotCloseAnOpenBatch() {
+		List<String> notifications = new ArrayList<>();
+		this.adapter.registerAdapterDataObserver(new RecyclerView.AdapterDataObserver() {
+			@Override
+			public void onItemRangeInserted(int positionStart, int itemCount) {
+				notifications.add("inserted " + positionStart + " " + itemCount);
+			}
+		});
+
+		this.adapter.beginBatch();
+		this.adapter.items().addAll(Arrays.asList(1, 2));
+		this.adapter.setHeaderVisible(true);
+		this.adapter.setStatus(InfiniteRecyclerViewAdapter.STATUS_LOADING, null);
+		this.adapter.setFooterVisible(true);
+
+		assertEquals(Arrays.asList("inserted 0 1", "inserted 1 1", "inserted 2 1"), notifications);
+		assertEquals(3, this.adapter.getItemCount());
+
+		this.adapter.endBatch();
+
+		//the items go between the header and the status
+		assertEquals("inserted 1 2", notifications.get(3));
+		assertEquals(5, this.adapter.getItemCount());
+	}
+
+	@Test
+	public void emptyListDispatchesNoScroll() {
+		this.scroll(0, 0);
+		this.scroll(RecyclerView.NO_POSITION, RecyclerView.NO_POSITION);
+
+		assertTrue(this.scrolls.isEmpty());
+	}
+
+	@Test
+	public void precomputationStartsWhenTheItemIsWritten() throws InterruptedException {
+		Queue<Runnable> tasks = new ArrayDeque<>();
+		this.adapter.setPrecomputer((int[] item) -> item[0], tasks::add, 10);
+
+		Thread thread = new Thread(() -> this.adapter.items().add(new int[]{1}));
+		thread.start();
+		thread.join();
+
+		//scheduled by the writer, before the main thread got the item
+		assertEquals(0, this.adapter.getItemCount());
+		assertEquals(1, tasks.size());
+
+		shadowOf(Looper.getMainLooper()).idle();
+		assertEquals(1, this.adapter.getItemCount());
+	}
+
+	@Test
+	public void changedItemIsNeverBoundWithAStaleResult() {
+		List<Integer> bound = new ArrayList<>();
+		Queue<Runnable> tasks = new ArrayDeque<>();
+		int[] item = {1};
+		int type = this.adapter.register(int[].class, parent -> new InfiniteRecyclerViewAdapter.AutoViewHolder(new View(parent.getContext())), (holder, value) -> {
+		});
+		this.adapter.setPrecomputer((int[] value) -> value[0], tasks::add, 10);
+		this.adapter.setPrecomputedBinder(type, (InfiniteRecyclerViewAdapter.AutoViewHolder holder, int[] value, Integer data) -> bound.add(data));
+		this.adapter.items().add(item);
+		tasks.poll().run();
+
+		RecyclerView.ViewHolder holder = this.adapter.createViewHolder(this.recyclerView, type);
+		this.adapter.onBindViewHolder(holder, 0);
+
+		item[0] = 2;
+		this.adapter.items().set(0, item);
+		//the recompute has not landed yet
+		this.adapter.onBindViewHolder(holder, 0);
+
+		assertEquals(Arrays.asList(1, 2), bound);
+	}
+
+	@Test
+	public void scrollsAreDispatchedOnlyWhenTheRangeChanges() {
+		this.adapter.items().addAll(Arrays.asList(1, 2, 3, 4, 5));
+
+		this.scroll(0, 2);
+		this.scroll(0, 2);
+		this.scroll(1, 3);
+
+		assertEquals(2, this.scrolls.size());
+		assertArrayEquals(new int[]{5, 0, 2}, this.scrolls.get(0));
+		assertArrayEquals(new int[]{5, 1, 3}, this.scrolls.get(1));
+	}
+
+	@Test
+	public void scrollPositionsExcludeTheSlots() {
+		this.adapter.items().addAll(Arrays.asList(1, 2, 3));
+		this.adapter.setHeaderVisible(true);
+		this.adapter.setFooterVisible(true);
+
+		//header, 3 items, footer
+		this.scroll(0, 4);
+
+		assertArrayEquals(new int[]{3, 0, 2}, this.scrolls.get(0));
+	}
+
+	@Test
+	public void shortPageLoadsAgainWithoutAScroll() {
+		List<LoadMoreController.Callback> loads = new ArrayList<>();
+		this.adapter.setLoadMoreController(new LoadMoreController(loads::add, 1));
+		this.adapter.items().addAll(Arrays.asList(1, 2, 3));
+		this.scroll(0, 2);
+		assertEquals(1, loads.size());
+
+		//a short page, the last visible item is still within the prefetch distance
+		this.adapter.items().add(4);
+		loads.get(0).onLoaded(true);
+		shadowOf(Looper.getMainLooper()).idle();
+		assertEquals(2, loads.size());
+
+		//a long page, the last visible item got away from the end
+		this.adapter.items().addAll(Arrays.asList(5, 6, 7, 8));
+		loads.get(1).onLoaded(true);
+		shadowOf(Looper.getMainLooper()).idle();
+		assertEquals(2, loads.size());
+	}
+
+	private void scroll(int first, int last) {
+		this.visible[0] = first;
+		this.visible[1] = last;
+		this.adapter.onScrollListener.onScrolled(this.recyclerView, 0, 10);
+	}
+}
@@ -0,0 +1,171 @@
+/*
+ *	Copyright 2021 Cufy
+ *
+ *	Licensed under the Apache License, Version 2.0 (the "License");
+ *	you may not use this file except in compliance with the License.
+ *	You may obtain a copy of the License at
+ *
+ *	    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *	Unless required by applicable law or agreed to in writing, software
+ *	distributed under the License is distributed on an "AS IS" BASIS,
+ *	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *	See the License for the specific language governing permissions and
+ *	limitations under the License.
+ */
+package org.cufy.infiniterecyclerviewadapter;
+
+import android.os.Looper;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricTestRunner;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.Assert.*;
+import static org.robolectric.Shadows.shadowOf;
+
+/**
+ * Tests of the ordering and the generations of {@link ItemSource}.
+ */
+@RunWith(RobolectricTestRunner.class)
+public class ItemSourceTest {
+	private final ArrayDeque<Runnable> diffs = new ArrayDeque<>();
+	private final ArrayDeque<Runnable> fetches = new ArrayDeque<>();
+	private InfiniteRecyclerViewAdapter adapter;
+	private ItemSource<Integer> source;
+	private int version;
+
+	@Before
+	public void setUp() {
+		this.adapter = new InfiniteRecyclerViewAdapter();
+		this.adapter.setExecutor(this.diffs::add);
+		this.source = new ItemSource<>(this.adapter, new ItemSource.Fetcher<Integer>() {
+			@Override
+			public ItemSource.Page<Integer> fetch(Integer key, ItemSource.Request<Integer> request) {
+				return new ItemSource.Page<>(ItemSourceTest.this.page(key), key + 1);
+			}
+
+			@Override
+			public Integer keyAfter(Integer key) {
+				return key + 1;
+			}
+		}, 0, this.fetches::add, 3);
+	}
+
+	@Test
+	public void lateResultOfAnOlderGenerationIsDropped() {
+		assertTrue(this.source.request());
+		Runnable stale = this.fetches.poll();
+		this.source.refresh(5);
+
+		stale.run();
+		assertTrue(this.adapter.items().isEmpty());
+		assertEquals(1, this.source.getInFlightCount());
+
+		this.fetches.poll().run();
+		this.runDiffs();
+		assertEquals(this.page(5), this.items());
+	}
+
+	@Test
+	public void pagesAreAppendedInRequestOrder() {
+		assertTrue(this.source.request());
+		assertTrue(this.source.request());
+		assertTrue(this.source.request());
+		assertFalse(this.source.request());
+
+		//complete in reverse order
+		this.fetches.pollLast().run();
+		this.fetches.pollLast().run();
+		assertTrue(this.adapter.items().isEmpty());
+		this.fetches.pollLast().run();
+
+		List<Object> expected = new ArrayList<>();
+		expected.addAll(this.page(0));
+		expected.addAll(this.page(1));
+		expected.addAll(this.page(2));
+		assertEquals(expected, this.items());
+		assertEquals(0, this.source.getInFlightCount());
+	}
+
+	@Test
+	public void cancelledRefreshIsNeverPublished() {
+		this.source.request();
+		this.fetches.poll().run();
+		List<Object> before = this.items();
+
+		this.version++;
+		this.source.refresh(0);
+		this.fetches.poll().run();
+		assertEquals(1, this.diffs.size());
+		this.source.cancel();
+		this.runDiffs();
+		assertEquals(before, this.items());
+
+		//the source keeps appending after the cancel
+		assertTrue(this.source.request());
+		this.fetches.poll().run();
+		List<Object> expected = new ArrayList<>(before);
+		expected.addAll(this.page(1));
+		assertEquals(expected, this.items());
+		assertEquals(0, this.source.getInFlightCount());
+	}
+
+	@Test
+	public void refreshResetsTheLoadMoreController() {
+		LoadMoreController controller = new LoadMoreController(this.source, 0);
+		this.adapter.setLoadMoreController(controller);
+		controller.tail.exhausted = true;
+		controller.tail.loading = true;
+
+		this.source.refresh(0);
+		shadowOf(Looper.getMainLooper()).idle();
+
+		assertFalse(controller.tail.exhausted);
+		assertFalse(controller.tail.loading);
+	}
+
+	@Test
+	public void refreshSubmitsTheFirstPageAndHoldsTheFollowingPages() {
+		this.source.request();
+		this.fetches.poll().run();
+		List<Object> before = this.items();
+
+		this.version++;
+		this.source.refresh(0);
+		assertTrue(this.source.request());
+		Runnable refresh = this.fetches.poll();
+		//the following page completes first
+		this.fetches.poll().run();
+		refresh.run();
+
+		//diffed in the background, the items are kept until then
+		assertEquals(1, this.diffs.size());
+		assertEquals(before, this.items());
+
+		this.runDiffs();
+		List<Object> expected = new ArrayList<>();
+		expected.addAll(this.page(0));
+		expected.addAll(this.page(1));
+		assertEquals(expected, this.items());
+	}
+
+	private List<Object> items() {
+		return new ArrayList<>(this.adapter.items());
+	}
+
+	private List<String> page(int key) {
+		return Arrays.asList(key + ".0." + this.version, key + ".1." + this.version);
+	}
+
+	private void runDiffs() {
+		while (!this.diffs.isEmpty())
+			this.diffs.poll().run();
+	}
+}
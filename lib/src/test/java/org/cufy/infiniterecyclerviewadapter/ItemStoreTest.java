@@ -0,0 +1,225 @@
+/*
+ *	Copyright 2021 Cufy
+ *
+ *	Licensed under the Apache License, Version 2.0 (the "License");
+ *	you may not use this file except in compliance with the License.
+ *	You may obtain a copy of the License at
+ *
+ *	    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *	Unless required by applicable law or agreed to in writing, software
+ *	distributed under the License is distributed on an "AS IS" BASIS,
+ *	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *	See the License for the specific language governing permissions and
+ *	limitations under the License.
+ */
+package org.cufy.infiniterecyclerviewadapter;
+
+import android.os.Looper;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricTestRunner;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.ConcurrentModificationException;
+import java.util.List;
+import java.util.Objects;
+
+import static org.junit.Assert.*;
+import static org.robolectric.Shadows.shadowOf;
+
+/**
+ * Tests of the version handoff of {@link ItemStore}.
+ */
+@RunWith(RobolectricTestRunner.class)
+public class ItemStoreTest {
+	private final ArrayDeque<Runnable> executor = new ArrayDeque<>();
+	private final List<ItemStore.Change> changes = new ArrayList<>();
+	private final List<ItemStore.Snapshot> snapshots = new ArrayList<>();
+	private ItemStore store;
+
+	@Before
+	public void setUp() {
+		this.store = new ItemStore((snapshot, change) -> {
+			assertTrue(Looper.getMainLooper().isCurrentThread());
+			this.snapshots.add(snapshot);
+			this.changes.add(change);
+		});
+	}
+
+	@Test
+	public void mainThreadWritesAreHandedImmediately() {
+		this.store.add("a");
+		this.store.addAll(Arrays.asList("b", "c"));
+		this.store.remove(0);
+
+		assertEquals(3, this.changes.size());
+		assertEquals(ItemStore.Change.INSERTED, this.changes.get(0).kind);
+		assertEquals(2, this.changes.get(1).count);
+		assertEquals(ItemStore.Change.REMOVED, this.changes.get(2).kind);
+		assertEquals(Arrays.asList("b", "c"), new ArrayList<>(this.store));
+	}
+
+	@Test
+	public void backgroundWritesAreHandedInOrderOnMain() throws InterruptedException {
+		Thread thread = new Thread(() -> {
+			for (int i = 0; i < 100; i++)
+				this.store.add(i);
+		});
+		thread.start();
+		thread.join();
+
+		assertTrue(this.changes.isEmpty());
+		assertEquals(100, this.store.size());
+
+		shadowOf(Looper.getMainLooper()).idle();
+
+		assertEquals(100, this.snapshots.size());
+
+		for (int i = 0; i < 100; i++) {
+			assertEquals(i + 1, this.snapshots.get(i).size());
+			assertEquals(i, this.snapshots.get(i).get(i));
+		}
+	}
+
+	@Test
+	public void snapshotsAreImmutable() {
+		this.store.addAll(Arrays.asList("a", "b"));
+		ItemStore.Snapshot snapshot = this.store.snapshot();
+
+		this.store.add("c");
+		this.store.set(0, "z");
+		this.store.remove(1);
+
+		assertEquals(2, snapshot.size());
+		assertEquals("a", snapshot.get(0));
+		assertEquals("b", snapshot.get(1));
+		assertEquals(Arrays.asList("z", "c"), new ArrayList<>(this.store));
+	}
+
+	@Test
+	public void removeIfCoalescesAdjacentMatches() {
+		this.store.addAll(Arrays.asList(1, 2, 3, 4, 5, 6, 7));
+		this.changes.clear();
+
+		assertTrue(this.store.removeIf(item -> (Integer) item >= 2 && (Integer) item <= 3 || (Integer) item >= 5));
+
+		assertEquals(Arrays.asList(1, 4), new ArrayList<>(this.store));
+		assertEquals(2, this.changes.size());
+		assertEquals(4, this.changes.get(0).position);
+		assertEquals(3, this.changes.get(0).count);
+		assertEquals(1, this.changes.get(1).position);
+		assertEquals(2, this.changes.get(1).count);
+		//a single copy for both removals
+		assertSame(this.snapshots.get(this.snapshots.size() - 1), this.snapshots.get(this.snapshots.size() - 2));
+		assertFalse(this.store.removeIf(item -> false));
+	}
+
+	@Test
+	public void editCopiesOnceForAllItsWrites() {
+		this.store.addAll(Arrays.asList("a", "b", "c"));
+		ItemStore.Snapshot before = this.store.snapshot();
+		this.changes.clear();
+		this.snapshots.clear();
+
+		this.store.edit(editor -> {
+			assertEquals("a", editor.set(0, "x", null));
+			assertEquals("c", editor.set(2, "z", "payload"));
+			assertEquals("x", editor.get(0));
+		});
+
+		assertEquals(Arrays.asList("x", "b", "z"), new ArrayList<>(this.store));
+		assertEquals(Arrays.asList("a", "b", "c"), new ArrayList<>(before.list()));
+		//a change per write, all in a single version
+		assertEquals(2, this.changes.size());
+		assertEquals(0, this.changes.get(0).position);
+		assertEquals(2, this.changes.get(1).position);
+		assertEquals("payload", this.changes.get(1).payload);
+		assertSame(this.snapshots.get(0), this.snapshots.get(1));
+		assertEquals(before.version() + 1, this.store.snapshot().version());
+	}
+
+	@Test
+	public void editDiscardsItsWritesAfterADirectWrite() {
+		this.store.addAll(Arrays.asList("a", "b"));
+
+		try {
+			this.store.edit(editor -> {
+				editor.set(0, "x", null);
+				this.store.add("c");
+			});
+			fail("published a stale edit");
+		} catch (ConcurrentModificationException ignored) {
+		}
+
+		assertEquals(Arrays.asList("a", "b", "c"), new ArrayList<>(this.store));
+	}
+
+	@Test
+	public void removeIfFiltersOutsideTheLock() {
+		this.store.addAll(Arrays.asList(1, 2, 3));
+
+		this.store.removeIf(item -> {
+			assertFalse(Thread.holdsLock(this.store.lock));
+			return (Integer) item == 2;
+		});
+
+		assertEquals(Arrays.asList(1, 3), new ArrayList<>(this.store));
+	}
+
+	@Test
+	public void submitDiffsAgainAfterAConcurrentWrite() {
+		this.store.addAll(Arrays.asList("a", "b"));
+		boolean[] written = {false};
+		this.store.submit(Arrays.asList("x", "y", "z"), new Differ() {
+			@Override
+			public boolean areItemsTheSame(Object oldItem, Object newItem) {
+				//a write the running diff did not see
+				if (!written[0]) {
+					written[0] = true;
+					ItemStoreTest.this.store.add("c");
+				}
+
+				return super.areItemsTheSame(oldItem, newItem);
+			}
+		}, this.executor::add);
+
+		this.executor.poll().run();
+
+		assertEquals(Arrays.asList("a", "b", "c"), new ArrayList<>(this.store));
+		assertEquals(1, this.executor.size());
+
+		this.executor.poll().run();
+
+		assertEquals(Arrays.asList("x", "y", "z"), new ArrayList<>(this.store));
+		assertEquals(ItemStore.Change.DIFF, this.changes.get(this.changes.size() - 1).kind);
+	}
+
+	@Test
+	public void laterSubmissionSupersedesEarlierOne() {
+		this.store.submit(Arrays.asList("a"), new Differ(), this.executor::add);
+		this.store.submit(Arrays.asList("b"), new Differ(), this.executor::add);
+
+		while (!this.executor.isEmpty())
+			this.executor.poll().run();
+
+		assertEquals(Arrays.asList("b"), new ArrayList<>(this.store));
+		assertEquals(1, this.changes.size());
+	}
+
+	private static class Differ implements InfiniteRecyclerViewAdapter.ItemDiffer<Object> {
+		@Override
+		public boolean areContentsTheSame(Object oldItem, Object newItem) {
+			return Objects.equals(oldItem, newItem);
+		}
+
+		@Override
+		public boolean areItemsTheSame(Object oldItem, Object newItem) {
+			return Objects.equals(oldItem, newItem);
+		}
+	}
+}
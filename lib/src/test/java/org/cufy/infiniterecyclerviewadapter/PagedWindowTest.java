@@ -0,0 +1,300 @@
+/*
+ *	Copyright 2021 Cufy
+ *
+ *	Licensed under the Apache License, Version 2.0 (the "License");
+ *	you may not use this file except in compliance with the License.
+ *	You may obtain a copy of the License at
+ *
+ *	    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *	Unless required by applicable law or agreed to in writing, software
+ *	distributed under the License is distributed on an "AS IS" BASIS,
+ *	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *	See the License for the specific language governing permissions and
+ *	limitations under the License.
+ */
+package org.cufy.infiniterecyclerviewadapter;
+
+import android.os.Looper;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricTestRunner;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.Assert.*;
+import static org.robolectric.Shadows.shadowOf;
+
+/**
+ * Tests of the save/restore round-trip of {@link PagedWindow}.
+ */
+@RunWith(RobolectricTestRunner.class)
+public class PagedWindowTest {
+	private static final ItemCodec<String> ITEM_CODEC = new ItemCodec<String>() {
+		@Override
+		public String read(DataInput input) throws IOException {
+			return input.readUTF();
+		}
+
+		@Override
+		public void write(DataOutput output, String item) throws IOException {
+			output.writeUTF(item);
+		}
+	};
+	private static final ItemCodec<Integer> KEY_CODEC = new ItemCodec<Integer>() {
+		@Override
+		public Integer read(DataInput input) throws IOException {
+			return input.readInt();
+		}
+
+		@Override
+		public void write(DataOutput output, Integer item) throws IOException {
+			output.writeInt(item);
+		}
+	};
+
+	private final ArrayDeque<Runnable> executor = new ArrayDeque<>();
+	private final ArrayDeque<PagedWindow.PageCallback<Integer>> loads = new ArrayDeque<>();
+	private File directory;
+	private File file;
+
+	@Before
+	public void setUp() throws IOException {
+		this.directory = Files.createTempDirectory("window").toFile();
+		this.file = new File(this.directory, "state");
+	}
+
+	@After
+	public void tearDown() {
+		for (File child : this.directory.listFiles())
+			child.delete();
+
+		this.directory.delete();
+	}
+
+	@Test
+	public void roundTripKeepsLoadedAndDroppedPages() throws IOException {
+		PagedWindow<Integer> window = this.window(new InfiniteRecyclerViewAdapter());
+		this.append(window, 0, 1);
+		this.append(window, 1, 2);
+		//drops the last page (farthest from the first page, visible by default)
+		this.append(window, 2, 3);
+		assertEquals(PagedWindow.Page.DROPPED, window.pages.get(2).state);
+		List<Object> saved = new ArrayList<>(window.adapter.items());
+
+		window.save(this.file, PagedWindowTest.KEY_CODEC, PagedWindowTest.ITEM_CODEC);
+
+		PagedWindow<Integer> restored = this.window(new InfiniteRecyclerViewAdapter());
+		assertTrue(restored.restore(this.file, PagedWindowTest.KEY_CODEC, PagedWindowTest.ITEM_CODEC));
+
+		assertEquals(saved, new ArrayList<>(restored.adapter.items()));
+		assertEquals(3, restored.pages.size());
+		assertEquals(Integer.valueOf(3), restored.nextKey);
+
+		for (int i = 0; i < 3; i++) {
+			assertEquals(i, (int) restored.pages.get(i).key);
+			assertEquals(window.pages.get(i).size, restored.pages.get(i).size);
+			assertEquals(window.pages.get(i).state, restored.pages.get(i).state);
+		}
+	}
+
+	@Test
+	public void loadWhileAppendingWaitsForThePage() {
+		PagedWindow<Integer> window = this.window(new InfiniteRecyclerViewAdapter());
+		List<Boolean> results = new ArrayList<>();
+		assertTrue(window.loadNext());
+
+		window.load(new LoadMoreController.Callback() {
+			@Override
+			public void onFailed(Throwable throwable) {
+				fail("failed");
+			}
+
+			@Override
+			public void onLoaded(boolean hasMore) {
+				results.add(hasMore);
+			}
+		});
+		//the controller keeps waiting for the in-flight page
+		assertTrue(results.isEmpty());
+		assertEquals(1, this.loads.size());
+
+		this.loads.poll().onPageLoaded(PagedWindowTest.page(0), 1);
+		shadowOf(Looper.getMainLooper()).idle();
+		assertEquals(Arrays.asList(true), results);
+		assertEquals(PagedWindowTest.page(0), new ArrayList<>(window.adapter.items()));
+	}
+
+	@Test
+	public void restoreDiscardsTheInFlightFailure() throws IOException {
+		PagedWindow<Integer> window = this.window(new InfiniteRecyclerViewAdapter());
+		this.append(window, 0, 1);
+		window.save(this.file, PagedWindowTest.KEY_CODEC, PagedWindowTest.ITEM_CODEC);
+		List<String> results = new ArrayList<>();
+
+		window.load(new LoadMoreController.Callback() {
+			@Override
+			public void onFailed(Throwable throwable) {
+				results.add("failed");
+			}
+
+			@Override
+			public void onLoaded(boolean hasMore) {
+				results.add("loaded " + hasMore);
+			}
+		});
+		PagedWindow.PageCallback<Integer> inFlight = this.loads.poll();
+		assertTrue(window.restore(this.file, PagedWindowTest.KEY_CODEC, PagedWindowTest.ITEM_CODEC));
+
+		inFlight.onPageFailed(new IOException());
+		//reported on the main thread, never on the loader thread
+		assertTrue(results.isEmpty());
+		shadowOf(Looper.getMainLooper()).idle();
+
+		//the failure belongs to the replaced state, it is not counted
+		assertEquals(Arrays.asList("loaded true"), results);
+		assertFalse(window.isAppending());
+	}
+
+	@Test
+	public void restoreOfAMissingFileChangesNothing() throws IOException {
+		PagedWindow<Integer> window = this.window(new InfiniteRecyclerViewAdapter());
+		this.append(window, 0, 1);
+
+		assertFalse(window.restore(this.file, PagedWindowTest.KEY_CODEC, PagedWindowTest.ITEM_CODEC));
+		assertEquals(Arrays.asList("0.0", "0.1"), new ArrayList<>(window.adapter.items()));
+	}
+
+	@Test
+	public void restoreDiscardsTheInFlightAppend() throws IOException {
+		PagedWindow<Integer> window = this.window(new InfiniteRecyclerViewAdapter());
+		this.append(window, 0, 1);
+		window.save(this.file, PagedWindowTest.KEY_CODEC, PagedWindowTest.ITEM_CODEC);
+
+		assertTrue(window.loadNext());
+		PagedWindow.PageCallback<Integer> inFlight = this.loads.poll();
+		assertTrue(window.restore(this.file, PagedWindowTest.KEY_CODEC, PagedWindowTest.ITEM_CODEC));
+
+		inFlight.onPageLoaded(PagedWindowTest.page(1), 2);
+		shadowOf(Looper.getMainLooper()).idle();
+
+		assertEquals(Arrays.asList("0.0", "0.1"), new ArrayList<>(window.adapter.items()));
+		assertEquals(1, window.pages.size());
+		assertEquals(Integer.valueOf(1), window.nextKey);
+		assertFalse(window.isAppending());
+	}
+
+	@Test
+	public void asyncSaveAndRestoreDoTheIoOnTheExecutor() {
+		PagedWindow<Integer> window = this.window(new InfiniteRecyclerViewAdapter());
+		List<Boolean> completions = new ArrayList<>();
+		PagedWindow.StateCallback callback = new PagedWindow.StateCallback() {
+			@Override
+			public void onStateCompleted(boolean found) {
+				completions.add(found);
+			}
+
+			@Override
+			public void onStateFailed(IOException exception) {
+				fail(exception.toString());
+			}
+		};
+		this.append(window, 0, 1);
+
+		window.save(this.file, PagedWindowTest.KEY_CODEC, PagedWindowTest.ITEM_CODEC, this.executor::add, callback);
+		//captured now, written later
+		this.append(window, 1, 2);
+		assertFalse(this.file.exists());
+
+		this.executor.poll().run();
+		shadowOf(Looper.getMainLooper()).idle();
+		assertTrue(this.file.exists());
+		assertEquals(Collections.singletonList(true), completions);
+
+		window.restore(this.file, PagedWindowTest.KEY_CODEC, PagedWindowTest.ITEM_CODEC, this.executor::add, callback);
+		assertEquals(4, window.adapter.items().size());
+
+		this.executor.poll().run();
+		shadowOf(Looper.getMainLooper()).idle();
+		assertEquals(Arrays.asList("0.0", "0.1"), new ArrayList<>(window.adapter.items()));
+		assertEquals(Arrays.asList(true, true), completions);
+	}
+
+	@Test
+	public void corruptedPageSizesFailTheRestore() throws IOException {
+		PagedWindow<Integer> window = this.window(new InfiniteRecyclerViewAdapter());
+		this.append(window, 0, 1);
+		List<IOException> failures = new ArrayList<>();
+		PagedWindow.StateCallback callback = new PagedWindow.StateCallback() {
+			@Override
+			public void onStateCompleted(boolean found) {
+				fail("restored");
+			}
+
+			@Override
+			public void onStateFailed(IOException exception) {
+				failures.add(exception);
+			}
+		};
+
+		for (int size : new int[]{-1, Integer.MAX_VALUE}) {
+			this.corrupt(size);
+
+			try {
+				window.restore(this.file, PagedWindowTest.KEY_CODEC, PagedWindowTest.ITEM_CODEC);
+				fail("restored a page of " + size + " items");
+			} catch (IOException ignored) {
+			}
+
+			window.restore(this.file, PagedWindowTest.KEY_CODEC, PagedWindowTest.ITEM_CODEC, this.executor::add, callback);
+			this.executor.poll().run();
+			shadowOf(Looper.getMainLooper()).idle();
+		}
+
+		assertEquals(2, failures.size());
+		assertEquals(Arrays.asList("0.0", "0.1"), new ArrayList<>(window.adapter.items()));
+	}
+
+	private void append(PagedWindow<Integer> window, int key, int nextKey) {
+		assertTrue(window.loadNext());
+		this.loads.poll().onPageLoaded(PagedWindowTest.page(key), nextKey);
+		shadowOf(Looper.getMainLooper()).idle();
+	}
+
+	private PagedWindow<Integer> window(InfiniteRecyclerViewAdapter adapter) {
+		return new PagedWindow<>(adapter, (key, callback) -> this.loads.add(callback), 0, 2);
+	}
+
+	private void corrupt(int size) throws IOException {
+		try (DataOutputStream output = new DataOutputStream(new FileOutputStream(this.file))) {
+			output.writeInt(PagedWindow.MAGIC);
+			output.writeInt(PagedWindow.VERSION);
+			output.writeInt(-1);
+			output.writeInt(0);
+			output.writeBoolean(false);
+			//a single dropped page
+			output.writeInt(1);
+			output.writeInt(0);
+			output.writeInt(size);
+			output.writeBoolean(false);
+		}
+	}
+
+	private static List<String> page(int key) {
+		return Arrays.asList(key + ".0", key + ".1");
+	}
+}
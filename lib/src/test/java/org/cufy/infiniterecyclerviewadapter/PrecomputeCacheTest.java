@@ -0,0 +1,133 @@
+/*
+ *	Copyright 2021 Cufy
+ *
+ *	Licensed under the Apache License, Version 2.0 (the "License");
+ *	you may not use this file except in compliance with the License.
+ *	You may obtain a copy of the License at
+ *
+ *	    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *	Unless required by applicable law or agreed to in writing, software
+ *	distributed under the License is distributed on an "AS IS" BASIS,
+ *	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *	See the License for the specific language governing permissions and
+ *	limitations under the License.
+ */
+package org.cufy.infiniterecyclerviewadapter;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayDeque;
+import java.util.Queue;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.*;
+
+/**
+ * Tests of the invalidation and the reuse of the pending computations of {@link
+ * PrecomputeCache}.
+ */
+public class PrecomputeCacheTest {
+	private final AtomicInteger computations = new AtomicInteger();
+	private final Queue<Runnable> tasks = new ArrayDeque<>();
+	private PrecomputeCache<int[], Integer> cache;
+
+	@Before
+	public void setUp() {
+		this.cache = new PrecomputeCache<>(item -> {
+			this.computations.incrementAndGet();
+			return item[0];
+		}, this.tasks::add, 2);
+	}
+
+	@Test
+	public void missRunsThePendingComputationInPlace() {
+		int[] item = {1};
+		this.cache.schedule(item);
+
+		assertEquals(Integer.valueOf(1), this.cache.get(item));
+		assertEquals(1, this.computations.get());
+
+		//the executor finds the computation already done
+		this.runTasks();
+		assertEquals(Integer.valueOf(1), this.cache.get(item));
+		assertEquals(1, this.computations.get());
+	}
+
+	@Test
+	public void scheduleDropsTheStaleResult() {
+		int[] item = {1};
+		this.cache.schedule(item);
+		this.runTasks();
+		assertEquals(Integer.valueOf(1), this.cache.get(item));
+
+		item[0] = 2;
+		this.cache.schedule(item);
+
+		//the stale result is never returned, even before the executor catches up
+		assertEquals(Integer.valueOf(2), this.cache.get(item));
+		this.runTasks();
+		assertEquals(Integer.valueOf(2), this.cache.get(item));
+		assertEquals(2, this.computations.get());
+	}
+
+	@Test
+	public void supersededComputationIsDiscarded() {
+		int[] item = {1};
+		this.cache.schedule(item);
+		Runnable stale = this.tasks.poll();
+		item[0] = 2;
+		this.cache.schedule(item);
+
+		stale.run();
+		this.runTasks();
+
+		assertEquals(Integer.valueOf(2), this.cache.get(item));
+		assertEquals(1, this.computations.get());
+	}
+
+	@Test
+	public void prefetchSkipsCachedAndPendingItems() {
+		int[] item = {1};
+		this.cache.prefetch(item);
+		this.cache.prefetch(item);
+		assertEquals(1, this.tasks.size());
+
+		this.runTasks();
+		this.cache.prefetch(item);
+		assertEquals(0, this.tasks.size());
+		assertEquals(1, this.computations.get());
+	}
+
+	@Test
+	public void leastRecentlyUsedResultIsEvicted() {
+		int[] a = {1};
+		int[] b = {2};
+		int[] c = {3};
+		this.cache.get(a);
+		this.cache.get(b);
+		this.cache.get(a);
+		this.cache.get(c);
+		assertEquals(3, this.computations.get());
+
+		this.cache.get(a);
+		assertEquals(3, this.computations.get());
+		this.cache.get(b);
+		assertEquals(4, this.computations.get());
+	}
+
+	@Test
+	public void clearCancelsThePendingComputations() {
+		int[] item = {1};
+		this.cache.schedule(item);
+		this.cache.clear();
+		this.runTasks();
+		assertEquals(0, this.computations.get());
+	}
+
+	private void runTasks() {
+		for (Runnable task; (task = this.tasks.poll()) != null; )
+			task.run();
+	}
+}
@@ -0,0 +1,144 @@
+/*
+ *	Copyright 2021 Cufy
+ *
+ *	Licensed under the Apache License, Version 2.0 (the "License");
+ *	you may not use this file except in compliance with the License.
+ *	You may obtain a copy of the License at
+ *
+ *	    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *	Unless required by applicable law or agreed to in writing, software
+ *	distributed under the License is distributed on an "AS IS" BASIS,
+ *	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *	See the License for the specific language governing permissions and
+ *	limitations under the License.
+ */
+package org.cufy.infiniterecyclerviewadapter;
+
+import org.junit.Test;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.io.File;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JMH benchmarks of the pure-Java structures behind the adapter hot paths. Run with
+ * {@code ./gradlew :lib:testDebugUnitTest -Pbenchmark --tests '*StructuresBenchmark'}.
+ * The results are written to {@code build/reports/benchmarks/structures.json}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@Fork(1)
+@Measurement(iterations = 5, time = 1)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Thread)
+@Warmup(iterations = 3, time = 1)
+public class StructuresBenchmark {
+	private final AdapterMetrics.Histogram histogram = new AdapterMetrics.Histogram();
+	private final ViewTypeRegistry<Object> denseRegistry = new ViewTypeRegistry<>();
+	private final ViewTypeRegistry<Object> sparseRegistry = new ViewTypeRegistry<>();
+	private final Object[] page = {0, 1, 2, 3, 4, 5, 6, 7, 8, 9};
+	private final CompactTable.Row row = new CompactTable.Row();
+	private final CompactTable table = new CompactTable(CompactTable.INT, CompactTable.STRING);
+	private PrecomputeCache<Object, Object> cache;
+	private int index;
+
+	@Setup
+	public void setUp() {
+		for (int i = 0; i < 16; i++) {
+			this.denseRegistry.put(i, i);
+			this.sparseRegistry.put(i * 100_003, i);
+		}
+
+		this.cache = new PrecomputeCache<>(item -> item, Runnable::run, 16);
+
+		for (int i = 0; i < 16; i++)
+			this.cache.get(i);
+
+		for (int i = 0; i < 16; i++)
+			this.table.writer().putInt(0, i).putString(1, "item " + i).commit();
+	}
+
+	@Test
+	public void run() throws RunnerException {
+		File directory = new File(System.getProperty("benchmark.dir", "build/reports/benchmarks"));
+		directory.mkdirs();
+		new Runner(new OptionsBuilder()
+				.include(StructuresBenchmark.class.getName())
+				.resultFormat(ResultFormatType.JSON)
+				.result(new File(directory, "structures.json").getPath())
+				.shouldFailOnError(true)
+				.build()).run();
+	}
+
+	@Benchmark
+	public Object denseRegistryGet() {
+		return this.denseRegistry.get(this.index++ & 15);
+	}
+
+	@Benchmark
+	public void histogramRecord() {
+		this.histogram.record(this.index++ & 0xFFFFF);
+	}
+
+	@Benchmark
+	public Object precomputeCacheHit() {
+		return this.cache.get(this.index++ & 15);
+	}
+
+	@Benchmark
+	public Object rowGetString() {
+		//a bind of a row of a compact table
+		return this.row.moveTo(this.table, this.index++ & 15).getString(1);
+	}
+
+	@Benchmark
+	public Object snapshotAppendPage(Items items) {
+		//the copy made by each `items().addAll(page)`
+		return items.snapshot.insert(items.snapshot.size(), this.page);
+	}
+
+	@Benchmark
+	public void snapshotGet(Items items, Blackhole blackhole) {
+		ItemStore.Snapshot snapshot = items.snapshot;
+
+		for (int i = 0, l = snapshot.size(); i < l; i++)
+			blackhole.consume(snapshot.get(i));
+	}
+
+	@Benchmark
+	public Object sparseRegistryGet() {
+		return this.sparseRegistry.get((this.index++ & 15) * 100_003);
+	}
+
+	@State(Scope.Thread)
+	public static class Items {
+		@Param({"10", "1000", "100000"})
+		public int size;
+		private ItemStore.Snapshot snapshot;
+
+		@Setup
+		public void setUp() {
+			Object[] items = new Object[this.size];
+
+			for (int i = 0; i < items.length; i++)
+				items[i] = i;
+
+			this.snapshot = ItemStore.Snapshot.EMPTY.insert(0, items);
+		}
+	}
+}
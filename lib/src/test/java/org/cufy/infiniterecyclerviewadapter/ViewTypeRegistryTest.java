@@ -0,0 +1,116 @@
+/*
+ *	Copyright 2021 Cufy
+ *
+ *	Licensed under the Apache License, Version 2.0 (the "License");
+ *	you may not use this file except in compliance with the License.
+ *	You may obtain a copy of the License at
+ *
+ *	    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *	Unless required by applicable law or agreed to in writing, software
+ *	distributed under the License is distributed on an "AS IS" BASIS,
+ *	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *	See the License for the specific language governing permissions and
+ *	limitations under the License.
+ */
+package org.cufy.infiniterecyclerviewadapter;
+
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+/**
+ * Tests of the lookups and the freezing of {@link ViewTypeRegistry}.
+ */
+public class ViewTypeRegistryTest {
+	@Test
+	public void denseLookup() {
+		ViewTypeRegistry<String> registry = new ViewTypeRegistry<>();
+		registry.put(3, "c");
+		registry.put(1, "a");
+		registry.put(2, "b");
+
+		assertNotNull(registry.table.dense);
+		assertEquals("a", registry.get(1));
+		assertEquals("b", registry.get(2));
+		assertEquals("c", registry.get(3));
+		assertNull(registry.get(0));
+		assertNull(registry.get(4));
+		assertEquals(3, registry.size());
+	}
+
+	@Test
+	public void sparseLookup() {
+		ViewTypeRegistry<String> registry = new ViewTypeRegistry<>();
+		registry.put(Integer.MIN_VALUE, "min");
+		registry.put(0, "zero");
+		registry.put(Integer.MAX_VALUE, "max");
+
+		assertNull(registry.table.dense);
+		assertEquals("min", registry.get(Integer.MIN_VALUE));
+		assertEquals("zero", registry.get(0));
+		assertEquals("max", registry.get(Integer.MAX_VALUE));
+		assertNull(registry.get(1));
+		assertNull(registry.get(Integer.MIN_VALUE + 1));
+	}
+
+	@Test
+	public void denseLookupOutsideTheSpan() {
+		ViewTypeRegistry<String> registry = new ViewTypeRegistry<>();
+		registry.put(-10, "a");
+		registry.put(-6, "b");
+
+		//differences that overflow an int
+		assertNull(registry.get(Integer.MAX_VALUE));
+		assertNull(registry.get(Integer.MIN_VALUE));
+		assertEquals("b", registry.get(-6));
+	}
+
+	@Test
+	public void putReplacesAndRemoveDeletes() {
+		ViewTypeRegistry<String> registry = new ViewTypeRegistry<>();
+		registry.put(5, "a");
+		registry.put(5, "b");
+		registry.put(1000, "c");
+
+		assertEquals("b", registry.get(5));
+		assertEquals(2, registry.size());
+
+		registry.remove(5);
+		registry.remove(6);
+
+		assertNull(registry.get(5));
+		assertEquals("c", registry.get(1000));
+		assertEquals(1, registry.size());
+	}
+
+	@Test
+	public void tablesAreCopiedOnWrite() {
+		ViewTypeRegistry<String> registry = new ViewTypeRegistry<>();
+		registry.put(1, "a");
+		ViewTypeRegistry.Table table = registry.table;
+
+		registry.put(1, "b");
+
+		assertEquals("a", table.values[0]);
+		assertEquals("b", registry.get(1));
+	}
+
+	@Test(expected = IllegalStateException.class)
+	public void frozenRejectsPut() {
+		ViewTypeRegistry<String> registry = new ViewTypeRegistry<>();
+		registry.put(1, "a");
+		registry.freeze();
+
+		assertTrue(registry.isFrozen());
+		assertEquals("a", registry.get(1));
+		registry.put(2, "b");
+	}
+
+	@Test(expected = IllegalStateException.class)
+	public void frozenRejectsRemove() {
+		ViewTypeRegistry<String> registry = new ViewTypeRegistry<>();
+		registry.freeze();
+		registry.remove(1);
+	}
+}
@@ -12,10 +12,13 @@ import org.cufy.http.middleware.OkHttpMiddleware;
 import org.cufy.http.sink.Sink;
 import org.cufy.http.sink.SkipSink;
 import org.cufy.infiniterecyclerviewadapter.InfiniteRecyclerViewAdapter;
+import org.cufy.infiniterecyclerviewadapter.LoadMoreController;
+import org.cufy.infiniterecyclerviewadapter.PagedWindow;
 import org.cufyx.http.connect.XClient;
 import org.json.JSONArray;
 import org.json.JSONObject;
 
+import java.io.IOException;
 import java.util.List;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
@@ -40,23 +43,17 @@ public class MainActivity extends AppCompatActivity {
 	 */
 	protected LinearLayoutManager manager;
 	/**
-	 * True, there are more items to be loaded. False, otherwise.
-	 *
-	 * @since 0.0.1 ~2021.04.09
-	 */
-	protected boolean moreToLoad = true;
-	/**
-	 * The last loaded page.
+	 * The recycler view.
 	 *
 	 * @since 0.0.1 ~2021.04.09
 	 */
-	protected int page = 1;
+	protected RecyclerView vRecyclerView;
 	/**
-	 * The recycler view.
+	 * The window of the loaded pages.
 	 *
-	 * @since 0.0.1 ~2021.04.09
+	 * @since 0.0.2 ~2026.10.17
 	 */
-	protected RecyclerView vRecyclerView;
+	protected PagedWindow<Integer> window;
 
 	@Override
 	protected void onCreate(Bundle savedInstanceState) {
@@ -68,6 +65,7 @@ public class MainActivity extends AppCompatActivity {
 		//control
 		this.manager = new LinearLayoutManager(this);
 		this.adapter = new InfiniteRecyclerViewAdapter();
+		this.window = new PagedWindow<>(this.adapter, this::_loadPage, 1, 10);
 		//setup
 		this.vRecyclerView.setAdapter(this.adapter);
 		this.vRecyclerView.setLayoutManager(this.manager);
@@ -77,29 +75,26 @@ public class MainActivity extends AppCompatActivity {
 			holder.<TextView>findViewById(R.id.name)
 					.setText(item.optString("title"));
 		});
-		this.adapter.addOnScrollListener((count, first, last) -> {
-			if (last + 1 == count)
-				this._loadMore();
-		});
+		this.adapter.addOnScrollListener(this.window);
+		this.adapter.setLoadMoreController(new LoadMoreController(this.window, 10));
 
-		this._loadMore();
+		this.window.loadNext();
 	}
 
 	/**
-	 * Load more items to the recycler view.
+	 * Load the page with the given {@code page} number.
 	 *
+	 * @param page     the number of the page.
+	 * @param callback the callback to be invoked when the page is loaded.
 	 * @since 0.0.1 ~2021.04.09
 	 */
-	protected void _loadMore() {
-		if (!this.moreToLoad)
-			return;
-
+	protected void _loadPage(Integer page, PagedWindow.PageCallback<Integer> callback) {
 		String uri = this.getString(R.string.api_v2_items);
 		XClient.defaultClient(this)
 			   .request(r -> r
 					   .uri(uri)
 					   .query(q -> q
-							   .put("page", Integer.toString(this.page))
+							   .put("page", Integer.toString(page))
 					   )
 			   )
 			   .middleware(OkHttpMiddleware.middleware())
@@ -114,14 +109,13 @@ public class MainActivity extends AppCompatActivity {
 													.collect(Collectors.toList());
 				   boolean moreToLoad = data.optBoolean("more_to_load");
 
-				   this.moreToLoad = moreToLoad;
-				   this.page++;
-				   this.adapter.items().addAll(list);
+				   callback.onPageLoaded(list, moreToLoad ? page + 1 : null);
+				   this.sink.flush();
+			   })
+			   .on("exception|disconnected", (client, throwable) -> {
+				   callback.onPageFailed(new IOException("Couldn't load page " + page));
 				   this.sink.flush();
 			   })
-			   .on("exception|disconnected", (client, throwable) ->
-					   this.sink.flush()
-			   )
 			   .connect(this.sink);
 	}
 }